@@ -0,0 +1,157 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.Random;
+
+/**
+ * Generators for deterministic configuration trees of a requested size.
+ *
+ * <p>Trees are made of repeated sections that mix every kind of node: maps,
+ * lists, and string, integer, floating point and boolean scalars. Every
+ * section contains {@link #NODES_PER_SECTION} nodes, so a tree of a given
+ * size contains approximately that many nodes in total.</p>
+ */
+final class ConfigTrees {
+
+    /**
+     * The number of nodes (including the section node itself) in one
+     * generated section.
+     */
+    static final int NODES_PER_SECTION = 13;
+
+    /**
+     * The number of list elements in each section's {@code tags} list.
+     */
+    static final int TAGS_PER_SECTION = 4;
+
+    private static final long SEED = 20_201_020L;
+
+    private ConfigTrees() {
+    }
+
+    /**
+     * Get the number of sections needed for a tree of {@code size} nodes.
+     *
+     * @param size the approximate node count
+     * @return the section count
+     */
+    static int sections(final int size) {
+        return Math.max(1, size / NODES_PER_SECTION);
+    }
+
+    /**
+     * Get the key for the section at index {@code idx}.
+     *
+     * @param idx section index
+     * @return the key
+     */
+    static String sectionKey(final int idx) {
+        return "section-" + idx;
+    }
+
+    /**
+     * Populate {@code node} with a tree of approximately {@code size} nodes.
+     *
+     * @param node the node to populate
+     * @param size the approximate node count
+     * @param <N> node type
+     * @return the populated node
+     * @throws SerializationException if any value could not be set
+     */
+    static <N extends ConfigurationNode> N populate(final N node, final int size) throws SerializationException {
+        final Random random = new Random(SEED);
+        final int sections = sections(size);
+        for (int i = 0; i < sections; ++i) {
+            populateSection(node.node(sectionKey(i)), i, random);
+        }
+        return node;
+    }
+
+    private static void populateSection(final ConfigurationNode section, final int idx, final Random random) throws SerializationException {
+        section.node("name").set("Section number " + idx);
+        section.node("id").set(idx);
+        section.node("ratio").set(random.nextDouble());
+        section.node("enabled").set(random.nextBoolean());
+        final ConfigurationNode tags = section.node("tags");
+        for (int i = 0; i < TAGS_PER_SECTION; ++i) {
+            tags.appendListNode().set("tag-" + random.nextInt(64));
+        }
+        final ConfigurationNode limits = section.node("limits");
+        final int min = random.nextInt(1000);
+        limits.node("min").set(min);
+        limits.node("max").set(min + random.nextInt(1000));
+    }
+
+    /**
+     * Generate {@code count} paths to existing scalar nodes in a tree created
+     * by {@link #populate(ConfigurationNode, int)}.
+     *
+     * @param size the approximate node count of the tree
+     * @param count the number of paths to generate
+     * @return paths, as arrays suitable for {@link ConfigurationNode#node(Object...)}
+     */
+    static Object[][] existingPaths(final int size, final int count) {
+        final Random random = new Random(SEED ^ count);
+        final int sections = sections(size);
+        final Object[][] paths = new Object[count][];
+        for (int i = 0; i < count; ++i) {
+            final String section = sectionKey(random.nextInt(sections));
+            switch (random.nextInt(3)) {
+                case 0:
+                    paths[i] = new Object[] {section, "id"};
+                    break;
+                case 1:
+                    paths[i] = new Object[] {section, "limits", "max"};
+                    break;
+                default:
+                    paths[i] = new Object[] {section, "tags", random.nextInt(TAGS_PER_SECTION)};
+                    break;
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Generate {@code count} paths that do not resolve to any node in a tree
+     * created by {@link #populate(ConfigurationNode, int)}.
+     *
+     * <p>Half of the paths diverge at the first element, and the other half
+     * diverge within an existing section.</p>
+     *
+     * @param size the approximate node count of the tree
+     * @param count the number of paths to generate
+     * @return paths, as arrays suitable for {@link ConfigurationNode#node(Object...)}
+     */
+    static Object[][] absentPaths(final int size, final int count) {
+        final Random random = new Random(SEED ^ ~count);
+        final int sections = sections(size);
+        final Object[][] paths = new Object[count][];
+        for (int i = 0; i < count; ++i) {
+            if (random.nextBoolean()) {
+                paths[i] = new Object[] {"missing-" + random.nextInt(sections), "feature", "enabled"};
+            } else {
+                paths[i] = new Object[] {sectionKey(random.nextInt(sections)), "flags", "feature-" + random.nextInt(64)};
+            }
+        }
+        return paths;
+    }
+
+}
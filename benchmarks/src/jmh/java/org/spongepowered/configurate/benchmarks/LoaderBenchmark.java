@@ -0,0 +1,106 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.gson.GsonConfigurationLoader;
+import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+import org.spongepowered.configurate.jackson.JacksonConfigurationLoader;
+import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
+import org.spongepowered.configurate.xml.XmlConfigurationLoader;
+import org.spongepowered.configurate.yaml.YamlConfigurationLoader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for loading and saving a generated tree with each of the
+ * bundled format loaders.
+ *
+ * <p>Documents are held in memory, so these measure parsing, emitting and
+ * node tree construction rather than any file IO.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LoaderBenchmark {
+
+    @Param({"gson", "jackson", "hocon", "yaml", "xml"})
+    public String format;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private String document;
+    private ConfigurationNode tree;
+    private ConfigurationLoader<?> loader;
+
+    @Setup(Level.Trial)
+    public void setup() throws ConfigurateException {
+        final AbstractConfigurationLoader.Builder<?, ?> builder = builder(this.format);
+        this.tree = ConfigTrees.populate(BasicConfigurationNode.root(builder.defaultOptions()), this.size);
+        this.document = builder.buildAndSaveString(this.tree);
+        this.loader = builder
+            .source(() -> new BufferedReader(new StringReader(this.document)))
+            .sink(() -> new BufferedWriter(new StringWriter(this.document.length())))
+            .build();
+    }
+
+    private static AbstractConfigurationLoader.Builder<?, ?> builder(final String format) {
+        switch (format) {
+            case "gson": return GsonConfigurationLoader.builder();
+            case "jackson": return JacksonConfigurationLoader.builder();
+            case "hocon": return HoconConfigurationLoader.builder();
+            case "yaml": return YamlConfigurationLoader.builder();
+            case "xml": return XmlConfigurationLoader.builder();
+            default: throw new IllegalArgumentException("Unknown format " + format);
+        }
+    }
+
+    @Benchmark
+    public ConfigurationNode load() throws ConfigurateException {
+        return this.loader.load();
+    }
+
+    @Benchmark
+    public ConfigurationNode save() throws ConfigurateException {
+        this.loader.save(this.tree);
+        return this.tree;
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.util.MapFactories;
+import org.spongepowered.configurate.util.MapFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for many threads reading the children of the same map node
+ * while another thread modifies it, comparing the map factories that
+ * order children by insertion.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapContentionBenchmark {
+
+    private static final int KEY_COUNT = 64;
+
+    @Param({"insertionOrdered", "concurrentInsertionOrdered"})
+    public String mapFactory;
+
+    private BasicConfigurationNode node;
+    private String[] keys;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int value;
+
+        int next() {
+            return this.value = (this.value + 1) & (KEY_COUNT - 1);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final MapFactory factory;
+        switch (this.mapFactory) {
+            case "insertionOrdered":
+                factory = MapFactories.insertionOrdered();
+                break;
+            case "concurrentInsertionOrdered":
+                factory = MapFactories.concurrentInsertionOrdered();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown map factory " + this.mapFactory);
+        }
+        this.node = BasicConfigurationNode.root(ConfigurationOptions.defaults().mapFactory(factory));
+        this.keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; ++i) {
+            this.keys[i] = "key-" + i;
+            this.node.node(this.keys[i]).rawInt(i);
+        }
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public @Nullable ConfigurationNode read(final Cursor cursor) {
+        return this.node.find(this.keys[cursor.next()]);
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public @Nullable ConfigurationNode write(final Cursor cursor) {
+        final String key = this.keys[cursor.next()];
+        this.node.removeChild(key);
+        return this.node.node(key).rawInt(0);
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(8)
+    public @Nullable ConfigurationNode readOnly(final Cursor cursor) {
+        return this.node.find(this.keys[cursor.next()]);
+    }
+
+}
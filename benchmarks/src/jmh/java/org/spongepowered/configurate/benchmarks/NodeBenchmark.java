@@ -0,0 +1,248 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationVisitor;
+import org.spongepowered.configurate.NodePath;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the basic node operations of
+ * {@code AbstractConfigurationNode}: path lookup, typed get and set, and
+ * whole-tree copies, merges and visits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NodeBenchmark {
+
+    private static final int PATH_COUNT = 1024;
+    private static final Type INTEGER_TYPE = Integer.class;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private BasicConfigurationNode tree;
+    private BasicConfigurationNode overlay;
+    private Object[][] existingPaths;
+    private Object[][] absentPaths;
+    private ConfigurationNode[] scalars;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() throws SerializationException {
+        this.tree = ConfigTrees.populate(BasicConfigurationNode.root(), this.size);
+        // a partial tree with some overlapping and some new sections
+        this.overlay = ConfigTrees.populate(BasicConfigurationNode.root(), Math.max(ConfigTrees.NODES_PER_SECTION, this.size / 10));
+        this.overlay.node("extra-section", "value").set("present only in the overlay");
+
+        this.existingPaths = ConfigTrees.existingPaths(this.size, PATH_COUNT);
+        this.absentPaths = ConfigTrees.absentPaths(this.size, PATH_COUNT);
+        this.scalars = new ConfigurationNode[PATH_COUNT];
+        for (int i = 0; i < PATH_COUNT; ++i) {
+            this.scalars[i] = this.tree.node(ConfigTrees.sectionKey(i % ConfigTrees.sections(this.size)), "id");
+        }
+    }
+
+    private int next() {
+        return this.cursor = (this.cursor + 1) & (PATH_COUNT - 1);
+    }
+
+    @Benchmark
+    public ConfigurationNode nodeExisting() {
+        return this.tree.node(this.existingPaths[this.next()]);
+    }
+
+    @Benchmark
+    public ConfigurationNode nodeAbsent() {
+        return this.tree.node(this.absentPaths[this.next()]);
+    }
+
+    @Benchmark
+    public boolean hasChildAbsent() {
+        return this.tree.hasChild(this.absentPaths[this.next()]);
+    }
+
+    @Benchmark
+    public @Nullable ConfigurationNode findExisting() {
+        return this.tree.find(this.existingPaths[this.next()]);
+    }
+
+    @Benchmark
+    public @Nullable ConfigurationNode findAbsent() {
+        return this.tree.find(this.absentPaths[this.next()]);
+    }
+
+    @Benchmark
+    public @Nullable Object getType() throws SerializationException {
+        return this.scalars[this.next()].get(INTEGER_TYPE);
+    }
+
+    @Benchmark
+    public NodePath path() {
+        return this.scalars[this.next()].path();
+    }
+
+    @Benchmark
+    public int getInt() {
+        return this.scalars[this.next()].getInt();
+    }
+
+    @Benchmark
+    public ConfigurationNode setScalar() throws SerializationException {
+        final int idx = this.next();
+        return this.scalars[idx].set(idx);
+    }
+
+    @Benchmark
+    public ConfigurationNode rawInt() {
+        final int idx = this.next();
+        return this.scalars[idx].rawInt(idx);
+    }
+
+    @Benchmark
+    public void setAndRemoveChild(final Blackhole hole) throws SerializationException {
+        final ConfigurationNode section = this.tree.node(ConfigTrees.sectionKey(this.next() % ConfigTrees.sections(this.size)));
+        hole.consume(section.node("transient").set("value"));
+        hole.consume(section.removeChild("transient"));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public ConfigurationNode copy() {
+        return this.tree.copy();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public ConfigurationNode mergeFrom(final MergeTarget target) {
+        return target.node.mergeFrom(this.overlay);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public int visit() {
+        return this.tree.visit(CountingVisitor.INSTANCE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public int visitParallel() {
+        return this.tree.visitParallel(CountingVisitor.INSTANCE);
+    }
+
+    /**
+     * Counts scalar nodes, splitting only at the root when visited
+     * in parallel.
+     */
+    static final class CountingVisitor implements ConfigurationVisitor.Parallel<int[], Integer, RuntimeException> {
+
+        static final CountingVisitor INSTANCE = new CountingVisitor();
+
+        @Override
+        public int[] newState() {
+            return new int[1];
+        }
+
+        @Override
+        public void beginVisit(final ConfigurationNode node, final int[] state) {
+        }
+
+        @Override
+        public void enterNode(final ConfigurationNode node, final int[] state) {
+        }
+
+        @Override
+        public void enterMappingNode(final ConfigurationNode node, final int[] state) {
+        }
+
+        @Override
+        public void enterListNode(final ConfigurationNode node, final int[] state) {
+        }
+
+        @Override
+        public void enterScalarNode(final ConfigurationNode node, final int[] state) {
+            state[0]++;
+        }
+
+        @Override
+        public void exitMappingNode(final ConfigurationNode node, final int[] state) {
+        }
+
+        @Override
+        public void exitListNode(final ConfigurationNode node, final int[] state) {
+        }
+
+        @Override
+        public Integer endVisit(final int[] state) {
+            return state[0];
+        }
+
+        @Override
+        public void merge(final ConfigurationNode node, final int[] state, final int[] childState) {
+            state[0] += childState[0];
+        }
+
+    }
+
+    /**
+     * A fresh copy of the benchmark tree for every merge, so merges do not
+     * accumulate and the copy is not part of the measured time.
+     */
+    @State(Scope.Thread)
+    public static class MergeTarget {
+
+        BasicConfigurationNode node;
+
+        @Setup(Level.Invocation)
+        public void setup(final NodeBenchmark benchmark) {
+            this.node = benchmark.tree.copy();
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import io.leangen.geantyref.TypeToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.ObjectMapper;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for loading and saving objects through the object mapper.
+ *
+ * <p>Every section of a generated tree maps onto one {@link Section}, so
+ * {@link #loadTree()} and {@link #saveTree()} exercise the object mapper once
+ * per section on top of the map serializer.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMapperBenchmark {
+
+    private static final TypeToken<Map<String, Section>> SECTIONS_TYPE = new TypeToken<Map<String, Section>>() {};
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ObjectMapper<Section> mapper;
+    private BasicConfigurationNode tree;
+    private ConfigurationNode sectionNode;
+    private Section section;
+    private Map<String, Section> sections;
+
+    @Setup(Level.Trial)
+    public void setup() throws SerializationException {
+        this.mapper = ObjectMapper.factory().get(Section.class);
+        this.tree = ConfigTrees.populate(BasicConfigurationNode.root(), this.size);
+        this.sectionNode = this.tree.node(ConfigTrees.sectionKey(0));
+        this.section = this.mapper.load(this.sectionNode);
+        this.sections = this.tree.get(SECTIONS_TYPE);
+    }
+
+    @Benchmark
+    public Section loadSingle() throws SerializationException {
+        return this.mapper.load(this.sectionNode);
+    }
+
+    @Benchmark
+    public ConfigurationNode saveSingle() throws SerializationException {
+        final BasicConfigurationNode target = BasicConfigurationNode.root();
+        this.mapper.save(this.section, target);
+        return target;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public @Nullable Map<String, Section> loadTree() throws SerializationException {
+        return this.tree.get(SECTIONS_TYPE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public ConfigurationNode saveTree() throws SerializationException {
+        return BasicConfigurationNode.root().set(SECTIONS_TYPE, this.sections);
+    }
+
+    /**
+     * The object form of one section generated by {@link ConfigTrees}.
+     */
+    @ConfigSerializable
+    public static class Section {
+
+        String name;
+        int id;
+        double ratio;
+        boolean enabled;
+        List<String> tags;
+        Limits limits;
+
+    }
+
+    /**
+     * Nested object within a {@link Section}.
+     */
+    @ConfigSerializable
+    public static class Limits {
+
+        int min;
+        int max;
+
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import io.leangen.geantyref.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.configurate.serialize.TypeSerializerCollection;
+
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for resolving serializers from a {@link TypeSerializerCollection}.
+ *
+ * <p>{@link #getCached(Blackhole)} measures the steady state, where every
+ * type has been resolved before. {@link #getUncached(Uncached, Blackhole)}
+ * resolves every type against a fresh collection, which is what every type
+ * costs on first use.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializerLookupBenchmark {
+
+    private static final Type[] TYPES = {
+        String.class,
+        Integer.class,
+        int.class,
+        int[].class,
+        Mode.class, // an enum
+        UUID.class,
+        Path.class,
+        new TypeToken<List<String>>() {}.getType(),
+        new TypeToken<Map<String, List<Integer>>>() {}.getType(),
+        new TypeToken<Set<UUID>>() {}.getType(),
+        new TypeToken<Optional<String>>() {}.getType(),
+        ObjectMapperBenchmark.Section.class,
+        Duration.class // no serializer
+    };
+
+    private TypeSerializerCollection cached;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.cached = TypeSerializerCollection.defaults().childBuilder().build();
+        for (final Type type : TYPES) {
+            this.cached.get(type);
+        }
+    }
+
+    @Benchmark
+    public void getCached(final Blackhole hole) {
+        for (final Type type : TYPES) {
+            hole.consume(this.cached.get(type));
+        }
+    }
+
+    @Benchmark
+    public void getUncached(final Uncached state, final Blackhole hole) {
+        for (final Type type : TYPES) {
+            hole.consume(state.collection.get(type));
+        }
+    }
+
+    /**
+     * A collection with all the default serializers but none of their
+     * cached resolutions, recreated for every invocation.
+     */
+    @State(Scope.Thread)
+    public static class Uncached {
+
+        TypeSerializerCollection collection;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            this.collection = TypeSerializerCollection.builder()
+                .registerAll(TypeSerializerCollection.defaults())
+                .build();
+        }
+
+    }
+
+}
@@ -23,20 +23,19 @@ import static java.util.Objects.requireNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.configurate.serialize.TypeSerializer;
-import org.spongepowered.configurate.util.UnmodifiableCollections;
+import org.spongepowered.configurate.util.CheckedConsumer;
+import org.spongepowered.configurate.util.ResolvedType;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
-import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -45,6 +44,10 @@ import java.util.function.Supplier;
 abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>>
         implements ScopedConfigurationNode<N> {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final AtomicReferenceFieldUpdater<AbstractConfigurationNode, Map> HINTS_HANDLE =
+        AtomicReferenceFieldUpdater.newUpdater(AbstractConfigurationNode.class, Map.class, "hints");
+
     /**
      * The options determining the behaviour of this node.
      */
@@ -68,6 +71,16 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
      */
     private @Nullable A parent;
 
+    /**
+     * Cached path of this node, sharing its prefix with the parent's path.
+     *
+     * <p>Cleared, together with the cached paths of all descendants, when
+     * the key or parent of this node changes. A node only caches its path
+     * after its parent has, so a node without a cached path has no
+     * descendants with one either.</p>
+     */
+    private volatile @Nullable NodePathImpl path;
+
     /**
      * The current value of this node.
      */
@@ -75,8 +88,11 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
 
     /**
      * Storage for representation hints.
+     *
+     * <p>This is always an immutable {@link RepresentationHintMap}, replaced
+     * as a whole on modification.</p>
      */
-    final Map<RepresentationHint<?>, Object> hints;
+    volatile Map<RepresentationHint<?>, Object> hints;
 
     protected AbstractConfigurationNode(final @Nullable Object key, final @Nullable A parent, final ConfigurationOptions options) {
         requireNonNull(options, "options");
@@ -88,7 +104,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         this.options = options;
         this.parent = parent;
         this.value = NullConfigValue.instance();
-        this.hints = new ConcurrentHashMap<>();
+        this.hints = RepresentationHintMap.empty();
 
         // if the parent is null, this node is a root node, and is therefore "attached"
         if (parent == null) {
@@ -102,7 +118,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         this.key = copyOf.key;
         this.parent = parent;
         this.value = copyOf.value.copy(this.implSelf());
-        this.hints = new ConcurrentHashMap<>(copyOf.hints);
+        this.hints = copyOf.hints; // immutable, can be shared
     }
 
     /**
@@ -144,6 +160,11 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         return this.get0(type, true);
     }
 
+    @Override
+    public final @Nullable Object get(final ResolvedType type) throws SerializationException {
+        return this.get0(requireNonNull(type, "type"), true);
+    }
+
     @Override
     public final Object get(final AnnotatedType type, final Object def) throws SerializationException {
         final @Nullable Object value = this.get0(type, false);
@@ -209,12 +230,16 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
     }
 
     final @Nullable Object get0(final AnnotatedType type, final boolean doImplicitInit) throws SerializationException {
-        requireNonNull(type, "type");
-        if (isMissingTypeParameters(type.getType())) {
+        return this.get0(ResolvedType.of(type), doImplicitInit);
+    }
+
+    final @Nullable Object get0(final ResolvedType resolved, final boolean doImplicitInit) throws SerializationException {
+        final AnnotatedType type = resolved.annotatedType();
+        if (!resolved.complete()) {
             throw new SerializationException(this, type, "Raw types are not supported");
         }
 
-        final @Nullable TypeSerializer<?> serial = this.options().serializers().get(type);
+        final @Nullable TypeSerializer<?> serial = this.options().serializers().get(resolved);
         if (this.value instanceof NullConfigValue) {
             if (serial != null && doImplicitInit && this.options().implicitInitialization()) {
                 final @Nullable Object emptyValue = serial.emptyValue(type, this.options);
@@ -235,7 +260,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
             }
         }
         try {
-            return serial.deserialize(type, this);
+            return serial.deserialize(resolved, this);
         } catch (final SerializationException ex) {
             ex.initPath(this::path);
             ex.initType(type);
@@ -274,8 +299,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
             return this.self();
         }
 
-        this.hints.clear();
-        this.hints.putAll(that.ownHints());
+        this.hints = RepresentationHintMap.copyOf(that.ownHints());
         if (that.isList()) {
             // handle list
             this.attachIfNecessary();
@@ -343,8 +367,8 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
                 if (!(value instanceof MapConfigValue)) {
                     value = new MapConfigValue<>(this.implSelf());
                 }
-            } else if (!(value instanceof ScalarConfigValue)) {
-                value = new ScalarConfigValue<>(this.implSelf());
+            } else if (!(value instanceof ScalarConfigValue) || !((ScalarConfigValue<N, A>) value).holds(newValue)) {
+                value = ScalarConfigValue.create(this.implSelf(), newValue);
             }
 
             // insert the data into the config value
@@ -360,7 +384,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
             return this.from(other);
         }
 
-        this.hints.putAll(other.ownHints());
+        this.mergeHints(other.ownHints());
         if (other.isMap()) {
             final ConfigValue<N, A> oldValue;
             ConfigValue<N, A> newValue;
@@ -430,6 +454,117 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         return this.self();
     }
 
+    @Override
+    public final N rawInt(final int value) {
+        final ConfigValue<N, A> current = this.value;
+        if (this.attached && current instanceof ScalarConfigValue.OfInt) {
+            ((ScalarConfigValue.OfInt<N, A>) current).value = value;
+        } else {
+            final ScalarConfigValue.OfInt<N, A> created = new ScalarConfigValue.OfInt<>(this.implSelf());
+            created.checkAccepted(Integer.class);
+            created.value = value;
+            this.insertScalar(created);
+        }
+        return this.self();
+    }
+
+    @Override
+    public final N rawLong(final long value) {
+        final ConfigValue<N, A> current = this.value;
+        if (this.attached && current instanceof ScalarConfigValue.OfLong) {
+            ((ScalarConfigValue.OfLong<N, A>) current).value = value;
+        } else {
+            final ScalarConfigValue.OfLong<N, A> created = new ScalarConfigValue.OfLong<>(this.implSelf());
+            created.checkAccepted(Long.class);
+            created.value = value;
+            this.insertScalar(created);
+        }
+        return this.self();
+    }
+
+    @Override
+    public final N rawDouble(final double value) {
+        final ConfigValue<N, A> current = this.value;
+        if (this.attached && current instanceof ScalarConfigValue.OfDouble) {
+            ((ScalarConfigValue.OfDouble<N, A>) current).value = value;
+        } else {
+            final ScalarConfigValue.OfDouble<N, A> created = new ScalarConfigValue.OfDouble<>(this.implSelf());
+            created.checkAccepted(Double.class);
+            created.value = value;
+            this.insertScalar(created);
+        }
+        return this.self();
+    }
+
+    @Override
+    public final N rawBoolean(final boolean value) {
+        final ConfigValue<N, A> current = this.value;
+        if (this.attached && current instanceof ScalarConfigValue.OfBoolean) {
+            ((ScalarConfigValue.OfBoolean<N, A>) current).value = value;
+        } else {
+            final ScalarConfigValue.OfBoolean<N, A> created = new ScalarConfigValue.OfBoolean<>(this.implSelf());
+            created.checkAccepted(Boolean.class);
+            created.value = value;
+            this.insertScalar(created);
+        }
+        return this.self();
+    }
+
+    /**
+     * Replace the value of this node with a new scalar value, attaching this
+     * node if necessary.
+     *
+     * @param value the new value
+     */
+    private void insertScalar(final ScalarConfigValue<N, A> value) {
+        this.attachIfNecessary();
+        synchronized (this) {
+            this.value = value;
+        }
+    }
+
+    @Override
+    public final double getDouble(final double def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof ScalarConfigValue.OfDouble) {
+            return ((ScalarConfigValue.OfDouble<N, A>) value).value;
+        } else if (value instanceof ScalarConfigValue.OfInt) {
+            return ((ScalarConfigValue.OfInt<N, A>) value).value;
+        } else if (value instanceof ScalarConfigValue.OfLong) {
+            return ((ScalarConfigValue.OfLong<N, A>) value).value;
+        }
+        return ScopedConfigurationNode.super.getDouble(def);
+    }
+
+    @Override
+    public final int getInt(final int def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof ScalarConfigValue.OfInt) {
+            return ((ScalarConfigValue.OfInt<N, A>) value).value;
+        }
+        return ScopedConfigurationNode.super.getInt(def);
+    }
+
+    @Override
+    public final long getLong(final long def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof ScalarConfigValue.OfLong) {
+            return ((ScalarConfigValue.OfLong<N, A>) value).value;
+        } else if (value instanceof ScalarConfigValue.OfInt) {
+            return ((ScalarConfigValue.OfInt<N, A>) value).value;
+        }
+        return ScopedConfigurationNode.super.getLong(def);
+    }
+
+    @Override
+    public final boolean getBoolean(final boolean def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof ScalarConfigValue.OfBoolean) {
+            return ((ScalarConfigValue.OfBoolean<N, A>) value).value;
+        }
+        return ScopedConfigurationNode.super.getBoolean(def);
+    }
+
     @Override
     public final @Nullable Object rawScalar() {
         final ConfigValue<N, A> value = this.value;
@@ -440,11 +575,30 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         }
     }
 
+    /**
+     * Ensure an element of a node path is not null.
+     *
+     * <p>The error message is only computed on failure, so successful checks
+     * do not allocate.</p>
+     *
+     * @param element the path element
+     * @param path the full path, for error reporting
+     * @return the non-null element
+     * @throws NullPointerException if {@code element} is null
+     */
+    static Object pathElement(final @Nullable Object element, final Object path) {
+        if (element == null) {
+            throw new NullPointerException("element in path "
+                + (path instanceof Object[] ? Arrays.toString((Object[]) path) : String.valueOf(path)));
+        }
+        return element;
+    }
+
     @Override
     public final N node(final Object... path) {
         A pointer = this.implSelf();
         for (final Object el : path) {
-            pointer = pointer.child(requireNonNull(el, () -> "element in path " + Arrays.toString(path)), false);
+            pointer = pointer.child(pathElement(el, path), false);
         }
         return pointer.self();
     }
@@ -453,35 +607,45 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
     public final N node(final Iterable<?> path) {
         A pointer = this.implSelf();
         for (final Object el : path) {
-            pointer = pointer.child(requireNonNull(el, () -> "element in path " + path), false);
+            pointer = pointer.child(pathElement(el, path), false);
         }
         return pointer.self();
     }
 
     @Override
     public final boolean hasChild(final Object... path) {
+        return this.find(path) != null;
+    }
+
+    @Override
+    public final boolean hasChild(final Iterable<?> path) {
+        return this.find(path) != null;
+    }
+
+    @Override
+    public final @Nullable N find(final Object... path) {
         A pointer = this.implSelf();
         for (final Object el : path) {
-            final @Nullable A child = pointer.value.child(requireNonNull(el, () -> "element in path " + Arrays.toString(path)));
+            final @Nullable A child = pointer.value.child(pathElement(el, path));
             if (child == null) {
-                return false;
+                return null;
             }
             pointer = child;
         }
-        return true;
+        return pointer.self();
     }
 
     @Override
-    public final boolean hasChild(final Iterable<?> path) {
+    public final @Nullable N find(final Iterable<?> path) {
         A pointer = this.implSelf();
         for (final Object el : path) {
-            final @Nullable A child = pointer.value.child(requireNonNull(el, () -> "element in path " + path));
+            final @Nullable A child = pointer.value.child(pathElement(el, path));
             if (child == null) {
-                return false;
+                return null;
             }
             pointer = child;
         }
-        return true;
+        return pointer.self();
     }
 
     @Override
@@ -504,6 +668,21 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         return this.value instanceof MapConfigValue;
     }
 
+    @Override
+    public final void forEachChild(final BiConsumer<Object, ? super ConfigurationNode> action) {
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof ListConfigValue) {
+            final List<N> children = ((ListConfigValue<N, A>) value).unwrapped();
+            for (int i = 0, size = children.size(); i < size; ++i) {
+                action.accept(i, children.get(i));
+            }
+        } else if (value instanceof MapConfigValue) {
+            for (final A child : value.iterateChildren()) {
+                action.accept(requireNonNull(child.key, "key"), child.self());
+            }
+        }
+    }
+
     @Override
     public final List<N> childrenList() {
         final ConfigValue<N, A> value = this.value;
@@ -566,6 +745,34 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         return node;
     }
 
+    @Override
+    public final <E extends Exception> N setList(final int size, final CheckedConsumer<? super ConfigurationNode, E> writer) throws E {
+        if (size < 0) {
+            throw new IllegalArgumentException("List size must not be negative, but was " + size);
+        }
+
+        this.attachIfNecessary();
+        final ListConfigValue<N, A> list = ListConfigValue.sized(this.implSelf(), size);
+        final ConfigValue<N, A> oldValue;
+        synchronized (this) {
+            oldValue = this.value;
+            this.value = list;
+        }
+        if (!(oldValue instanceof NullConfigValue)) {
+            oldValue.clear();
+        }
+
+        for (int i = 0; i < size; ++i) {
+            final A child = list.appendChild();
+            writer.accept(child.self());
+            // match appendListNode(), where children that are never set are never added
+            if (child.attached && child.value instanceof NullConfigValue) {
+                detachIfNonNull(list.putChild(requireNonNull(child.key, "key"), null));
+            }
+        }
+        return this.self();
+    }
+
     @Override
     public final N appendListNode() {
         // the appended node can have a key of -1
@@ -580,17 +787,19 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
 
     @Override
     public final NodePath path() {
-        N pointer = this.self();
-        if (pointer.parent() == null) {
+        final @Nullable NodePathImpl cached = this.path;
+        if (cached != null) {
+            return cached;
+        }
+
+        final @Nullable A parent = this.parent;
+        if (parent == null) {
             return NodePath.path();
         }
 
-        final Deque<@Nullable Object> pathElements = new ArrayDeque<>();
-        do {
-            pathElements.addFirst(pointer.key());
-            pointer = requireNonNull(pointer.parent());
-        } while (pointer.parent() != null);
-        return NodePath.of(pathElements);
+        final NodePathImpl path = (NodePathImpl) parent.path().withAppendedChild(requireNonNull(this.key, "key"));
+        this.path = path;
+        return path;
     }
 
     @Override
@@ -622,7 +831,34 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         if (parent != null && parent.virtual()) {
             parent = parent.parentEnsureAttached().attachChildIfAbsent(parent);
         }
-        return this.parent = parent;
+        if (parent != this.parent) {
+            this.parent = parent;
+            this.invalidatePath();
+        }
+        return parent;
+    }
+
+    /**
+     * Change the key of this node when it is moved within its parent.
+     *
+     * @param key the new key
+     */
+    final void rekey(final Object key) {
+        this.key = key;
+        this.invalidatePath();
+    }
+
+    /**
+     * Clear the cached path of this node and its descendants.
+     */
+    final void invalidatePath() {
+        if (this.path == null) {
+            return;
+        }
+        this.path = null;
+        for (final A child : this.value.iterateChildren()) {
+            child.invalidatePath();
+        }
     }
 
     protected final void attachIfNecessary() {
@@ -719,6 +955,104 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         }
     }
 
+    // Tree building, for ConfigurationTreeBuilder.
+    // These skip locking, so the nodes involved must only be visible to the builder's thread.
+
+    /**
+     * Replace the value of this node with one produced by a tree builder.
+     *
+     * @param value the new value
+     */
+    private void buildValue(final ConfigValue<N, A> value) {
+        if (!this.attached) {
+            this.attachIfNecessary();
+        }
+        final ConfigValue<N, A> oldValue = this.value;
+        this.value = value;
+        if (!(oldValue instanceof NullConfigValue)) {
+            oldValue.clear();
+        }
+    }
+
+    final void buildMap() {
+        this.buildValue(new MapConfigValue<>(this.implSelf()));
+    }
+
+    final void buildList(final int expectedSize) {
+        this.buildValue(ListConfigValue.sized(this.implSelf(), expectedSize));
+    }
+
+    final void buildScalar(final Object value) {
+        final ScalarConfigValue<N, A> scalar = ScalarConfigValue.create(this.implSelf(), value);
+        scalar.set(value);
+        this.buildValue(scalar);
+    }
+
+    final void buildInt(final int value) {
+        final ScalarConfigValue.OfInt<N, A> scalar = new ScalarConfigValue.OfInt<>(this.implSelf());
+        scalar.checkAccepted(Integer.class);
+        scalar.value = value;
+        this.buildValue(scalar);
+    }
+
+    final void buildLong(final long value) {
+        final ScalarConfigValue.OfLong<N, A> scalar = new ScalarConfigValue.OfLong<>(this.implSelf());
+        scalar.checkAccepted(Long.class);
+        scalar.value = value;
+        this.buildValue(scalar);
+    }
+
+    final void buildDouble(final double value) {
+        final ScalarConfigValue.OfDouble<N, A> scalar = new ScalarConfigValue.OfDouble<>(this.implSelf());
+        scalar.checkAccepted(Double.class);
+        scalar.value = value;
+        this.buildValue(scalar);
+    }
+
+    final void buildBoolean(final boolean value) {
+        final ScalarConfigValue.OfBoolean<N, A> scalar = new ScalarConfigValue.OfBoolean<>(this.implSelf());
+        scalar.checkAccepted(Boolean.class);
+        scalar.value = value;
+        this.buildValue(scalar);
+    }
+
+    /**
+     * Create an attached child of this map node, replacing any existing child
+     * at the same key.
+     *
+     * @param key the child's key
+     * @return the new child, with no value
+     */
+    final A buildMapChild(final Object key) {
+        final A child = this.createNode(key);
+        child.attached = true;
+        detachIfNonNull(((MapConfigValue<N, A>) this.value).values.put(key, child));
+        return child;
+    }
+
+    /**
+     * Get the child of this map node at a key, if one has been built.
+     *
+     * @param key the child's key
+     * @return the existing child, if any
+     */
+    final @Nullable A builtMapChild(final Object key) {
+        return ((MapConfigValue<N, A>) this.value).values.get(key);
+    }
+
+    /**
+     * Create an attached child at the end of this list node.
+     *
+     * @return the new child, with no value
+     */
+    final A buildListChild() {
+        final List<A> values = ((ListConfigValue<N, A>) this.value).values;
+        final A child = this.createNode(values.size());
+        child.attached = true;
+        values.add(child);
+        return child;
+    }
+
     @Override
     public final <S, T, E extends Exception> T visit(final ConfigurationVisitor<S, T, E> visitor, final S state) throws E {
         return this.visitInternal(visitor, state);
@@ -734,18 +1068,22 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         }
     }
 
-    @SuppressWarnings({"JdkObsolete", "unchecked"})
+    @SuppressWarnings("unchecked")
     private <S, T, E extends Exception> T visitInternal(final ConfigurationVisitor<S, T, E> visitor, final S state) throws E {
         visitor.beginVisit(this.self(), state);
         if (!(this.value instanceof NullConfigValue)) { // only visit if we have an actual value
-            final LinkedList<Object> toVisit = new LinkedList<>();
-            toVisit.add(this);
-
-            @Nullable Object active;
-            while ((active = toVisit.pollFirst()) != null) {
-                // try to pop a node from the stack, or handle the node exit if applicable
-                final @Nullable A current = VisitorNodeEnd.popFromVisitor(active, visitor, state);
-                if (current == null) {
+            final VisitStack<A> toVisit = new VisitStack<>();
+            toVisit.push(this.implSelf(), VisitStack.ENTER);
+
+            while (!toVisit.isEmpty()) {
+                final byte action = toVisit.peekAction();
+                final A current = toVisit.pop();
+                // handle the node exit if applicable
+                if (action == VisitStack.EXIT_MAP) {
+                    visitor.exitMappingNode(current.self(), state);
+                    continue;
+                } else if (action == VisitStack.EXIT_LIST) {
+                    visitor.exitListNode(current.self(), state);
                     continue;
                 }
 
@@ -754,12 +1092,18 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
                     final ConfigValue<N, A> value = current.value;
                     if (value instanceof MapConfigValue) {
                         visitor.enterMappingNode(current.self(), state);
-                        toVisit.addFirst(new VisitorNodeEnd(current, true));
-                        toVisit.addAll(0, ((MapConfigValue<N, A>) value).values.values());
+                        toVisit.push(current, VisitStack.EXIT_MAP);
+                        final Map<Object, A> children = ((MapConfigValue<N, A>) value).values;
+                        synchronized (children) {
+                            toVisit.pushChildren(children.values());
+                        }
                     } else if (value instanceof ListConfigValue) {
                         visitor.enterListNode(current.self(), state);
-                        toVisit.addFirst(new VisitorNodeEnd(current, false));
-                        toVisit.addAll(0, ((ListConfigValue<N, A>) value).values);
+                        toVisit.push(current, VisitStack.EXIT_LIST);
+                        final List<A> children = ((ListConfigValue<N, A>) value).values;
+                        synchronized (children) {
+                            toVisit.pushChildren(children);
+                        }
                     } else if (value instanceof ScalarConfigValue) {
                         visitor.enterScalarNode(current.self(), state);
                     } else if (!(value instanceof NullConfigValue)) { // temporary workaround, no null values should appear in attached nodes
@@ -779,15 +1123,25 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
 
     @Override
     public final <V> N hint(final RepresentationHint<V> hint, final @Nullable V value) {
-        if (value == null) {
-            this.hints.remove(hint);
-        } else {
-            this.hints.put(hint, value);
-        }
+        Map<RepresentationHint<?>, Object> existing;
+        Map<RepresentationHint<?>, Object> updated;
+        do {
+            existing = this.hints;
+            updated = RepresentationHintMap.with(existing, hint, value);
+        } while (existing != updated && !HINTS_HANDLE.compareAndSet(this, existing, updated));
 
         return this.self();
     }
 
+    private void mergeHints(final Map<RepresentationHint<?>, ?> additions) {
+        Map<RepresentationHint<?>, Object> existing;
+        Map<RepresentationHint<?>, Object> updated;
+        do {
+            existing = this.hints;
+            updated = RepresentationHintMap.with(existing, additions);
+        } while (existing != updated && !HINTS_HANDLE.compareAndSet(this, existing, updated));
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final <V> @Nullable V hint(final RepresentationHint<V> hint) {
@@ -811,7 +1165,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
 
     @Override
     public final Map<RepresentationHint<?>, ?> ownHints() {
-        return UnmodifiableCollections.copyOf(this.hints);
+        return this.hints;
     }
 
     @Override
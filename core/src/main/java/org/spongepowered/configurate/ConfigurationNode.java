@@ -24,16 +24,22 @@ import io.leangen.geantyref.TypeFactory;
 import io.leangen.geantyref.TypeToken;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
+import org.spongepowered.configurate.serialize.ScalarSerializer;
 import org.spongepowered.configurate.serialize.Scalars;
 import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.configurate.serialize.TypeSerializer;
+import org.spongepowered.configurate.util.CheckedConsumer;
+import org.spongepowered.configurate.util.ResolvedType;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 
@@ -183,6 +189,52 @@ public interface ConfigurationNode {
      */
     boolean hasChild(Iterable<?> path);
 
+    /**
+     * Gets the node at the given (relative) path, only if it is present.
+     *
+     * <p>Unlike {@link #node(Object...)}, no {@link #virtual() virtual}
+     * nodes are created for missing path elements, so looking up a path that
+     * does not exist performs no allocation.</p>
+     *
+     * @param path the path to fetch the node at
+     * @return the node at the given path, or null if any element of the path
+     *     is not present
+     * @since 4.2.0
+     */
+    default @Nullable ConfigurationNode find(final Object... path) {
+        ConfigurationNode pointer = this;
+        for (final Object el : path) {
+            if (!pointer.hasChild(el)) {
+                return null;
+            }
+            pointer = pointer.node(el);
+        }
+        return pointer;
+    }
+
+    /**
+     * Gets the node at the given (relative) path, only if it is present.
+     *
+     * <p>Unlike {@link #node(Iterable)}, no {@link #virtual() virtual}
+     * nodes are created for missing path elements, so looking up a path that
+     * does not exist performs no allocation.</p>
+     *
+     * @param path the path to fetch the node at
+     * @return the node at the given path, or null if any element of the path
+     *     is not present
+     * @since 4.2.0
+     */
+    default @Nullable ConfigurationNode find(final Iterable<?> path) {
+        ConfigurationNode pointer = this;
+        for (final Object el : path) {
+            if (!pointer.hasChild(el)) {
+                return null;
+            }
+            pointer = pointer.node(el);
+        }
+        return pointer;
+    }
+
     /**
      * Gets if this node is virtual.
      *
@@ -261,6 +313,10 @@ public interface ConfigurationNode {
      * <p>If this node does not {@link #isList() have list children}, an empty
      * list is returned.</p>
      *
+     * <p>The returned list is a read-only view of the children at the time
+     * this method was called, and will not reflect later changes to this
+     * node.</p>
+     *
      * @return the list children currently attached to this node
      * @since 4.0.0
      */
@@ -272,11 +328,41 @@ public interface ConfigurationNode {
      * <p>If this node does not {@link #isMap() have map children}, an empty map
      * returned.</p>
      *
+     * <p>The returned map is a read-only view of the children at the time
+     * this method was called, and will not reflect later changes to this
+     * node.</p>
+     *
      * @return the map children currently attached to this node
      * @since 4.0.0
      */
     Map<Object, ? extends ConfigurationNode> childrenMap();
 
+    /**
+     * Perform an action for every child of this node.
+     *
+     * <p>For list nodes, each child is passed with its index as the key. For
+     * map nodes, each child is passed with its key in the map. Scalar and
+     * null nodes have no children.</p>
+     *
+     * <p>Children are visited as they were when this method was called, so
+     * this node may be modified by {@code action}.</p>
+     *
+     * @param action the action to perform with each child's key and node
+     * @since 4.2.0
+     */
+    default void forEachChild(final BiConsumer<Object, ? super ConfigurationNode> action) {
+        if (this.isList()) {
+            final List<? extends ConfigurationNode> children = this.childrenList();
+            for (int i = 0, size = children.size(); i < size; ++i) {
+                action.accept(i, children.get(i));
+            }
+        } else if (this.isMap()) {
+            for (final Map.Entry<Object, ? extends ConfigurationNode> child : this.childrenMap().entrySet()) {
+                action.accept(child.getKey(), child.getValue());
+            }
+        }
+    }
+
     /**
      * Create a collector that appends values to this node as map children.
      *
@@ -617,6 +703,24 @@ public interface ConfigurationNode {
      */
     Object get(AnnotatedType type, Supplier<?> defSupplier) throws SerializationException;
 
+    /**
+     * Get the current value associated with this node.
+     *
+     * <p>This method behaves like {@link #get(AnnotatedType)}, but uses a type
+     * that has been canonicalized ahead of time. Where the same type is read
+     * from many nodes, resolving it once avoids repeating that work for
+     * every value.</p>
+     *
+     * @param type the type to deserialize to
+     * @return the value if present and of the proper type, else null
+     * @throws SerializationException if the value fails to be converted to the
+     *                                requested type
+     * @since 4.2.0
+     */
+    default @Nullable Object get(final ResolvedType type) throws SerializationException {
+        return this.get(type.annotatedType());
+    }
+
     /**
      * Get the current value associated with this node.
      *
@@ -860,9 +964,13 @@ public interface ConfigurationNode {
      * @since 4.0.0
      */
     default float getFloat(final float def) { // @cs-: NoGetSetPrefix (not a bean method)
-        final @Nullable Float val = Scalars.FLOAT.tryDeserialize(this.rawScalar());
-        if (val != null) {
-            return val;
+        final @Nullable Object raw = this.rawScalar();
+        if (raw != null) {
+            try {
+                return ((ScalarSerializer.OfFloat) Scalars.FLOAT).deserializeFloat(raw);
+            } catch (final SerializationException ignore) {
+                // fall back to the default
+            }
         }
         if (this.options().shouldCopyDefaults() && def != NUMBER_DEF) {
             Scalars.FLOAT.serialize(float.class, def, this);
@@ -891,9 +999,13 @@ public interface ConfigurationNode {
      * @since 4.0.0
      */
     default double getDouble(final double def) { // @cs-: NoGetSetPrefix (not a bean method)
-        final @Nullable Double val = Scalars.DOUBLE.tryDeserialize(this.rawScalar());
-        if (val != null) {
-            return val;
+        final @Nullable Object raw = this.rawScalar();
+        if (raw != null) {
+            try {
+                return ((ScalarSerializer.OfDouble) Scalars.DOUBLE).deserializeDouble(raw);
+            } catch (final SerializationException ignore) {
+                // fall back to the default
+            }
         }
         if (this.options().shouldCopyDefaults() && def != NUMBER_DEF) {
             Scalars.DOUBLE.serialize(double.class, def, this);
@@ -921,9 +1033,13 @@ public interface ConfigurationNode {
      * @since 4.0.0
      */
     default int getInt(final int def) { // @cs-: NoGetSetPrefix (not a bean method)
-        final @Nullable Integer val = Scalars.INTEGER.tryDeserialize(this.rawScalar());
-        if (val != null) {
-            return val;
+        final @Nullable Object raw = this.rawScalar();
+        if (raw != null) {
+            try {
+                return ((ScalarSerializer.OfInt) Scalars.INTEGER).deserializeInt(raw);
+            } catch (final SerializationException ignore) {
+                // fall back to the default
+            }
         }
         if (this.options().shouldCopyDefaults() && def != NUMBER_DEF) {
             Scalars.INTEGER.serialize(int.class, def, this);
@@ -951,9 +1067,13 @@ public interface ConfigurationNode {
      * @since 4.0.0
      */
     default long getLong(final long def) { // @cs-: NoGetSetPrefix (not a bean method)
-        final @Nullable Long val = Scalars.LONG.tryDeserialize(this.rawScalar());
-        if (val != null) {
-            return val;
+        final @Nullable Object raw = this.rawScalar();
+        if (raw != null) {
+            try {
+                return ((ScalarSerializer.OfLong) Scalars.LONG).deserializeLong(raw);
+            } catch (final SerializationException ignore) {
+                // fall back to the default
+            }
         }
         if (this.options().shouldCopyDefaults() && def != NUMBER_DEF) {
             Scalars.LONG.serialize(long.class, def, this);
@@ -991,6 +1111,109 @@ public interface ConfigurationNode {
         return def;
     }
 
+    /**
+     * Gets the value at a relative path, coerced to a {@link String}.
+     *
+     * <p>The path is resolved as by {@link #find(Iterable)}, so no nodes are
+     * created when the path is absent. Unlike {@link #getString(String)},
+     * defaults are never copied into the configuration.</p>
+     *
+     * @param path the path to the value
+     * @return the value coerced to a {@link String}, or null if the path is
+     *     absent or has no scalar value
+     * @since 4.2.0
+     */
+    default @Nullable String getString(final NodePath path) { // @cs-: NoGetSetPrefix (not a bean method)
+        final @Nullable ConfigurationNode node = this.find(path);
+        return node == null ? null : Scalars.STRING.tryDeserialize(node.rawScalar());
+    }
+
+    /**
+     * Gets the value at a relative path, coerced to a {@link String}.
+     *
+     * <p>The path is resolved as by {@link #find(Iterable)}, so no nodes are
+     * created when the path is absent. Unlike {@link #getString(String)},
+     * defaults are never copied into the configuration.</p>
+     *
+     * @param path the path to the value
+     * @param def the value to return if no appropriate value is set
+     * @return the value coerced to a {@link String}, or {@code def}
+     * @since 4.2.0
+     */
+    default String getString(final NodePath path, final String def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final @Nullable String value = this.getString(path);
+        return value == null ? def : value;
+    }
+
+    /**
+     * Gets the value at a relative path, coerced to a double.
+     *
+     * <p>The path is resolved as by {@link #find(Iterable)}, so no nodes are
+     * created when the path is absent. Unlike {@link #getDouble(double)},
+     * defaults are never copied into the configuration.</p>
+     *
+     * @param path the path to the value
+     * @param def the value to return if no appropriate value is set
+     * @return the value coerced to a double, or {@code def}
+     * @since 4.2.0
+     */
+    default double getDouble(final NodePath path, final double def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final @Nullable ConfigurationNode node = this.find(path);
+        return node == null ? def : ((ScalarSerializer.OfDouble) Scalars.DOUBLE).tryDeserializeDouble(node.rawScalar(), def);
+    }
+
+    /**
+     * Gets the value at a relative path, coerced to an integer.
+     *
+     * <p>The path is resolved as by {@link #find(Iterable)}, so no nodes are
+     * created when the path is absent. Unlike {@link #getInt(int)},
+     * defaults are never copied into the configuration.</p>
+     *
+     * @param path the path to the value
+     * @param def the value to return if no appropriate value is set
+     * @return the value coerced to an integer, or {@code def}
+     * @since 4.2.0
+     */
+    default int getInt(final NodePath path, final int def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final @Nullable ConfigurationNode node = this.find(path);
+        return node == null ? def : ((ScalarSerializer.OfInt) Scalars.INTEGER).tryDeserializeInt(node.rawScalar(), def);
+    }
+
+    /**
+     * Gets the value at a relative path, coerced to a long.
+     *
+     * <p>The path is resolved as by {@link #find(Iterable)}, so no nodes are
+     * created when the path is absent. Unlike {@link #getLong(long)},
+     * defaults are never copied into the configuration.</p>
+     *
+     * @param path the path to the value
+     * @param def the value to return if no appropriate value is set
+     * @return the value coerced to a long, or {@code def}
+     * @since 4.2.0
+     */
+    default long getLong(final NodePath path, final long def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final @Nullable ConfigurationNode node = this.find(path);
+        return node == null ? def : ((ScalarSerializer.OfLong) Scalars.LONG).tryDeserializeLong(node.rawScalar(), def);
+    }
+
+    /**
+     * Gets the value at a relative path, coerced to a boolean.
+     *
+     * <p>The path is resolved as by {@link #find(Iterable)}, so no nodes are
+     * created when the path is absent. Unlike {@link #getBoolean(boolean)},
+     * defaults are never copied into the configuration.</p>
+     *
+     * @param path the path to the value
+     * @param def the value to return if no appropriate value is set
+     * @return the value coerced to a boolean, or {@code def}
+     * @since 4.2.0
+     */
+    default boolean getBoolean(final NodePath path, final boolean def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final @Nullable ConfigurationNode node = this.find(path);
+        final @Nullable Boolean value = node == null ? null : Scalars.BOOLEAN.tryDeserialize(node.rawScalar());
+        return value == null ? def : value;
+    }
+
     /**
      * Set this node's value to the given value.
      *
@@ -1154,6 +1377,34 @@ public interface ConfigurationNode {
         return this.set(TypeFactory.parameterizedClass(List.class, elementType.getType()), items);
     }
 
+    /**
+     * Set the node's value to a list of {@code size} elements, each populated
+     * in order by {@code writer}.
+     *
+     * <p>The writer is called once for each element, with a new child node
+     * already placed at the next index of the list. Elements left without a
+     * value are removed from the list, like children of
+     * {@link #appendListNode()} that are never set.</p>
+     *
+     * <p>Knowing the size up front allows the list to be allocated once,
+     * rather than growing it one child at a time.</p>
+     *
+     * @param size the number of elements to write
+     * @param writer the action populating each element node
+     * @param <E> the exception type thrown by the writer
+     * @return this node
+     * @throws E when thrown by the writer
+     * @since 4.2.0
+     */
+    @SuppressWarnings("checkstyle:NoGetSetPrefix") // set prefix for type alias purposes
+    default <E extends Exception> ConfigurationNode setList(final int size, final CheckedConsumer<? super ConfigurationNode, E> writer) throws E {
+        this.raw(Collections.emptyList());
+        for (int i = 0; i < size; ++i) {
+            writer.accept(this.appendListNode());
+        }
+        return this;
+    }
+
     /**
      * Get the raw value of this node.
      *
@@ -1179,6 +1430,62 @@ public interface ConfigurationNode {
      */
     ConfigurationNode raw(@Nullable Object value);
 
+    /**
+     * Set the raw value of this node to {@code value}.
+     *
+     * <p>This is equivalent to {@link #raw(Object)} with an {@link Integer},
+     * but implementations may store the value without boxing it.</p>
+     *
+     * @param value the value to set on this node
+     * @return this node
+     * @since 4.2.0
+     */
+    default ConfigurationNode rawInt(final int value) {
+        return this.raw(value);
+    }
+
+    /**
+     * Set the raw value of this node to {@code value}.
+     *
+     * <p>This is equivalent to {@link #raw(Object)} with a {@link Long},
+     * but implementations may store the value without boxing it.</p>
+     *
+     * @param value the value to set on this node
+     * @return this node
+     * @since 4.2.0
+     */
+    default ConfigurationNode rawLong(final long value) {
+        return this.raw(value);
+    }
+
+    /**
+     * Set the raw value of this node to {@code value}.
+     *
+     * <p>This is equivalent to {@link #raw(Object)} with a {@link Double},
+     * but implementations may store the value without boxing it.</p>
+     *
+     * @param value the value to set on this node
+     * @return this node
+     * @since 4.2.0
+     */
+    default ConfigurationNode rawDouble(final double value) {
+        return this.raw(value);
+    }
+
+    /**
+     * Set the raw value of this node to {@code value}.
+     *
+     * <p>This is equivalent to {@link #raw(Object)} with a {@link Boolean},
+     * but implementations may store the value without boxing it.</p>
+     *
+     * @param value the value to set on this node
+     * @return this node
+     * @since 4.2.0
+     */
+    default ConfigurationNode rawBoolean(final boolean value) {
+        return this.raw(value);
+    }
+
     /**
      * Get the raw value of this node if the node is a scalar.
      *
@@ -1256,6 +1563,30 @@ public interface ConfigurationNode {
      */
     ConfigurationNode copy();
 
+    /**
+     * Create a read-only snapshot of this node and all of its children.
+     *
+     * <p>The snapshot is compiled into a compact form that can be read from
+     * any number of threads without locking. It holds the values and
+     * representation hints of the tree at the time of this call, but not any
+     * format-specific data such as comments or attributes. The snapshot has
+     * no parent, even if this node does.</p>
+     *
+     * <p>Every method that would modify the snapshot throws an
+     * {@link UnsupportedOperationException}. Defaults are never copied into
+     * a snapshot, so {@link ConfigurationOptions#shouldCopyDefaults()} is
+     * always false in its options. {@link #copy()} returns a mutable
+     * {@link BasicConfigurationNode} with the same contents and the options
+     * of this node. As comments are not kept, the copy of a frozen
+     * {@link CommentedConfigurationNode} has no comments.</p>
+     *
+     * @return a frozen snapshot of this node, or this node if already frozen
+     * @since 4.2.0
+     */
+    default ConfigurationNode freeze() {
+        return FrozenConfigurationNode.freeze(this);
+    }
+
     /**
      * Visit this node hierarchy as described in {@link ConfigurationVisitor}.
      *
@@ -1316,6 +1647,44 @@ public interface ConfigurationNode {
      */
     <S, T> T visit(ConfigurationVisitor.Safe<S, T> visitor, S state);
 
+    /**
+     * Visit this node hierarchy, visiting independent subtrees concurrently
+     * in the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param visitor the visitor
+     * @param <S> the state type
+     * @param <T> the terminal type
+     * @param <E> exception type that may be thrown
+     * @return returned terminal from the visitor
+     * @throws E when throw by visitor implementation
+     * @see ConfigurationVisitor.Parallel for details on how nodes are split
+     * @since 4.2.0
+     */
+    default <S, T, E extends Exception> T visitParallel(final ConfigurationVisitor.Parallel<S, T, E> visitor) throws E {
+        return this.visitParallel(visitor, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Visit this node hierarchy, visiting independent subtrees concurrently
+     * in the provided pool.
+     *
+     * @param visitor the visitor
+     * @param pool the pool to execute subtree visits in
+     * @param <S> the state type
+     * @param <T> the terminal type
+     * @param <E> exception type that may be thrown
+     * @return returned terminal from the visitor
+     * @throws E when throw by visitor implementation
+     * @see ConfigurationVisitor.Parallel for details on how nodes are split
+     * @since 4.2.0
+     */
+    default <S, T, E extends Exception> T visitParallel(
+        final ConfigurationVisitor.Parallel<S, T, E> visitor,
+        final ForkJoinPool pool
+    ) throws E {
+        return ParallelVisit.visit(this, visitor, visitor.newState(), pool);
+    }
+
     /**
      * Set a representation hint on this node.
      *
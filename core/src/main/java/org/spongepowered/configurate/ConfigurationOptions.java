@@ -16,9 +16,11 @@
  */
 package org.spongepowered.configurate;
 
+import static io.leangen.geantyref.GenericTypeReflector.erase;
 import static java.util.Objects.requireNonNull;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.errorprone.annotations.CheckReturnValue;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
@@ -28,7 +30,8 @@ import org.spongepowered.configurate.util.MapFactory;
 import org.spongepowered.configurate.util.Types;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
 
-import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -203,21 +206,7 @@ public abstract class ConfigurationOptions {
         requireNonNull(type, "type");
 
         final @Nullable Set<Class<?>> nativeTypes = this.nativeTypes();
-
-        if (nativeTypes == null) {
-            return true;
-        }
-
-        if (nativeTypes.contains(type)) {
-            return true;
-        }
-
-        if (type.isPrimitive() && nativeTypes.contains(Types.box(type))) {
-            return true;
-        }
-
-        final Type unboxed = Types.unbox(type);
-        if (unboxed != type && nativeTypes.contains(unboxed)) {
+        if (nativeTypes == null || this.exactNativeTypes().contains(type)) {
             return true;
         }
 
@@ -230,6 +219,32 @@ public abstract class ConfigurationOptions {
         return false;
     }
 
+    /**
+     * Get the native types of these options, together with the boxed or
+     * unboxed counterpart of each.
+     *
+     * <p>Values are written one at a time, so the same few types are checked
+     * over and over when saving a large tree. Most of those are native types
+     * themselves, and can be accepted with a single lookup in this set.</p>
+     *
+     * @return the exactly accepted types
+     */
+    @Memoized
+    Set<Class<?>> exactNativeTypes() {
+        final @Nullable Set<Class<?>> nativeTypes = this.nativeTypes();
+        if (nativeTypes == null) {
+            return Collections.emptySet();
+        }
+
+        final Set<Class<?>> exact = new HashSet<>();
+        for (final Class<?> clazz : nativeTypes) {
+            exact.add(clazz);
+            exact.add(erase(Types.box(clazz)));
+            exact.add(erase(Types.unbox(clazz)));
+        }
+        return Collections.unmodifiableSet(exact);
+    }
+
     /**
      * Gets whether or not default parameters provided to {@link ConfigurationNode} getter methods
      * should be set to the node when used.
@@ -0,0 +1,476 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Builds a configuration tree in document order.
+ *
+ * <p>This is intended for configuration loaders. Values are written to the
+ * current <em>slot</em>: at first the root node, then within a map the child
+ * named by the last call to {@link #key(Object)}, and within a list a new
+ * element. Each slot receives exactly one value: a scalar, {@code null}, or
+ * a map or list that is later closed with {@link #end()}.</p>
+ *
+ * <p>By default, a key that is repeated within one map replaces the child
+ * written for it earlier. Formats that instead combine repeated keys can
+ * enable {@link #mergeRepeatedKeys(boolean)}.</p>
+ *
+ * <p>For the node implementations provided by Configurate, children are
+ * created already attached and are placed directly into their parent's
+ * storage. This avoids the locking and value type inference performed when
+ * building a tree with {@link ConfigurationNode#node(Object...)} and
+ * {@link ConfigurationNode#raw(Object)}. Other node implementations are
+ * populated through those methods.</p>
+ *
+ * <p>A builder is not thread-safe. Until {@link #build()} is called, the
+ * tree under construction must not be accessed by any other thread.</p>
+ *
+ * @param <N> node type
+ * @since 4.2.0
+ */
+public final class ConfigurationTreeBuilder<N extends ScopedConfigurationNode<N>> {
+
+    private static final int INITIAL_DEPTH = 16;
+
+    private final N root;
+    private final boolean direct;
+
+    private @Nullable ConfigurationNode[] containers = new ConfigurationNode[INITIAL_DEPTH];
+    private boolean[] lists = new boolean[INITIAL_DEPTH];
+    private boolean[] merging = new boolean[INITIAL_DEPTH];
+    private int depth;
+    private @Nullable ConfigurationNode slot;
+    private boolean mergeRepeatedKeys;
+    private boolean slotExisted;
+
+    /**
+     * Create a builder that will populate an existing node.
+     *
+     * <p>Any value already present in the node is replaced once the first
+     * value is written.</p>
+     *
+     * @param node the node to populate
+     * @param <N> node type
+     * @return a new builder
+     * @since 4.2.0
+     */
+    public static <N extends ScopedConfigurationNode<N>> ConfigurationTreeBuilder<N> into(final N node) {
+        return new ConfigurationTreeBuilder<>(requireNonNull(node, "node"));
+    }
+
+    /**
+     * Create a builder that will populate a new node with default options.
+     *
+     * @param factory the factory to create the root node with
+     * @param <N> node type
+     * @return a new builder
+     * @since 4.2.0
+     */
+    public static <N extends ScopedConfigurationNode<N>> ConfigurationTreeBuilder<N> create(final ConfigurationNodeFactory<N> factory) {
+        return into(factory.createNode());
+    }
+
+    /**
+     * Create a builder that will populate a new node.
+     *
+     * @param factory the factory to create the root node with
+     * @param options options for the new node
+     * @param <N> node type
+     * @return a new builder
+     * @since 4.2.0
+     */
+    public static <N extends ScopedConfigurationNode<N>> ConfigurationTreeBuilder<N> create(
+        final ConfigurationNodeFactory<N> factory,
+        final ConfigurationOptions options
+    ) {
+        return into(factory.createNode(options));
+    }
+
+    private ConfigurationTreeBuilder(final N root) {
+        this.root = root;
+        this.direct = root instanceof AbstractConfigurationNode<?, ?>;
+        this.slot = root;
+    }
+
+    /**
+     * Set whether a repeated key within a map merges into the existing child.
+     *
+     * <p>When enabled, the value written for a repeated key is combined
+     * with the child already present, in the same way as writing it through
+     * {@link ConfigurationNode#node(Object...)}: a map merges its children
+     * into an existing map, and a list appends its elements to an existing
+     * list. Scalars, and empty maps and lists, replace the existing value.
+     * When disabled, which is the default, the repeated key replaces the
+     * existing child entirely.</p>
+     *
+     * @param merge whether to merge repeated keys
+     * @return this builder
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> mergeRepeatedKeys(final boolean merge) {
+        this.mergeRepeatedKeys = merge;
+        return this;
+    }
+
+    /**
+     * Start a child of the currently open map.
+     *
+     * <p>The child replaces any existing child at the same key, unless
+     * {@link #mergeRepeatedKeys(boolean) merging} is enabled. It must be
+     * given a value before the next key or the end of the map.</p>
+     *
+     * @param key the child's key
+     * @return this builder
+     * @throws IllegalStateException if a map is not currently open, or if
+     *     the previous child has not been given a value
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> key(final Object key) {
+        requireNonNull(key, "key");
+        if (this.depth == 0 || this.lists[this.depth - 1]) {
+            throw new IllegalStateException("Keys can only be provided within a map");
+        }
+        if (this.slot != null) {
+            throw new IllegalStateException("No value has been provided for the previous key");
+        }
+
+        final ConfigurationNode parent = this.top();
+        this.merging[this.depth - 1] = false;
+        if (this.direct) {
+            final AbstractConfigurationNode<?, ?> map = (AbstractConfigurationNode<?, ?>) parent;
+            final @Nullable ConfigurationNode existing = this.mergeRepeatedKeys ? map.builtMapChild(key) : null;
+            this.slotExisted = existing != null;
+            this.slot = existing != null ? existing : map.buildMapChild(key);
+        } else {
+            this.slotExisted = this.mergeRepeatedKeys && parent.hasChild(key);
+            this.slot = parent.node(key);
+        }
+        return this;
+    }
+
+    /**
+     * Start a new element at the end of the currently open list.
+     *
+     * <p>Writing a value within a list starts a new element implicitly,
+     * so this only needs to be called to access the element with
+     * {@link #current()} before its value is written.</p>
+     *
+     * @return this builder
+     * @throws IllegalStateException if a list is not currently open, or if
+     *     the previous element has not been given a value
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> element() {
+        if (this.depth == 0 || !this.lists[this.depth - 1]) {
+            throw new IllegalStateException("Elements can only be added within a list");
+        }
+        if (this.slot != null) {
+            throw new IllegalStateException("No value has been provided for the previous element");
+        }
+
+        final ConfigurationNode parent = this.top();
+        this.merging[this.depth - 1] = false;
+        this.slotExisted = false;
+        this.slot = this.direct ? ((AbstractConfigurationNode<?, ?>) parent).buildListChild() : parent.appendListNode();
+        return this;
+    }
+
+    /**
+     * Make the current slot a map, and open it to receive children.
+     *
+     * @return this builder
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> beginMap() {
+        final ConfigurationNode node = this.takeSlot();
+        final boolean merge = this.slotExisted && node.isMap();
+        if (!merge) {
+            this.resetMap(node);
+        }
+        this.push(node, false, merge);
+        return this;
+    }
+
+    /**
+     * Make the current slot a list, and open it to receive elements.
+     *
+     * @return this builder
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> beginList() {
+        return this.beginList(0);
+    }
+
+    /**
+     * Make the current slot a list, and open it to receive elements.
+     *
+     * @param expectedSize the number of elements expected, used to size
+     *     the list's storage, or {@code 0} if unknown
+     * @return this builder
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> beginList(final int expectedSize) {
+        final ConfigurationNode node = this.takeSlot();
+        final boolean merge = this.slotExisted && node.isList();
+        if (!merge) {
+            this.resetList(node, expectedSize);
+        }
+        this.push(node, true, merge);
+        return this;
+    }
+
+    /**
+     * Close the innermost open map or list.
+     *
+     * @return this builder
+     * @throws IllegalStateException if no map or list is open, or if its
+     *     last child has not been given a value
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> end() {
+        if (this.depth == 0) {
+            throw new IllegalStateException("There is no open map or list to end");
+        }
+        if (this.slot != null) {
+            throw new IllegalStateException("No value has been provided for the last child of " + this.slot.parent());
+        }
+
+        final ConfigurationNode container = this.top();
+        if (this.merging[this.depth - 1]) {
+            // an empty map or list replaces the existing value instead of merging
+            if (this.lists[this.depth - 1]) {
+                this.resetList(container, 0);
+            } else {
+                this.resetMap(container);
+            }
+        }
+        this.containers[--this.depth] = null; // don't retain finished nodes
+        return this;
+    }
+
+    /**
+     * Write a scalar value to the current slot.
+     *
+     * <p>This has the same effect as {@link ConfigurationNode#raw(Object)}.
+     * A {@code null} value removes the slot, as {@link #nullValue()}
+     * does.</p>
+     *
+     * @param value the value
+     * @return this builder
+     * @throws IllegalArgumentException if the value is not of a type
+     *     accepted by the node's options
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> scalar(final @Nullable Object value) {
+        if (value == null) {
+            return this.nullValue();
+        }
+
+        final ConfigurationNode node = this.takeSlot();
+        if (this.direct && !(value instanceof Collection<?> || value instanceof Map<?, ?> || value instanceof ConfigurationNode)) {
+            ((AbstractConfigurationNode<?, ?>) node).buildScalar(value);
+        } else {
+            node.raw(value);
+        }
+        return this;
+    }
+
+    /**
+     * Write an {@code int} value to the current slot without boxing.
+     *
+     * @param value the value
+     * @return this builder
+     * @see ConfigurationNode#rawInt(int)
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> scalarInt(final int value) {
+        final ConfigurationNode node = this.takeSlot();
+        if (this.direct) {
+            ((AbstractConfigurationNode<?, ?>) node).buildInt(value);
+        } else {
+            node.rawInt(value);
+        }
+        return this;
+    }
+
+    /**
+     * Write a {@code long} value to the current slot without boxing.
+     *
+     * @param value the value
+     * @return this builder
+     * @see ConfigurationNode#rawLong(long)
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> scalarLong(final long value) {
+        final ConfigurationNode node = this.takeSlot();
+        if (this.direct) {
+            ((AbstractConfigurationNode<?, ?>) node).buildLong(value);
+        } else {
+            node.rawLong(value);
+        }
+        return this;
+    }
+
+    /**
+     * Write a {@code double} value to the current slot without boxing.
+     *
+     * @param value the value
+     * @return this builder
+     * @see ConfigurationNode#rawDouble(double)
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> scalarDouble(final double value) {
+        final ConfigurationNode node = this.takeSlot();
+        if (this.direct) {
+            ((AbstractConfigurationNode<?, ?>) node).buildDouble(value);
+        } else {
+            node.rawDouble(value);
+        }
+        return this;
+    }
+
+    /**
+     * Write a {@code boolean} value to the current slot without boxing.
+     *
+     * @param value the value
+     * @return this builder
+     * @see ConfigurationNode#rawBoolean(boolean)
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> scalarBoolean(final boolean value) {
+        final ConfigurationNode node = this.takeSlot();
+        if (this.direct) {
+            ((AbstractConfigurationNode<?, ?>) node).buildBoolean(value);
+        } else {
+            node.rawBoolean(value);
+        }
+        return this;
+    }
+
+    /**
+     * Write a {@code null} value to the current slot.
+     *
+     * <p>As with {@link ConfigurationNode#raw(Object)}, this removes the
+     * child from its parent, or clears the root node.</p>
+     *
+     * @return this builder
+     * @since 4.2.0
+     */
+    public ConfigurationTreeBuilder<N> nullValue() {
+        this.takeSlot().raw(null);
+        return this;
+    }
+
+    /**
+     * Get the node most recently started.
+     *
+     * <p>This is the current slot if one has been started but not yet
+     * given a value, otherwise the innermost open map or list, or the root
+     * node if none is open. It can be used to set hints, comments, or
+     * other metadata, or to report the location of errors.</p>
+     *
+     * @return the current node
+     * @since 4.2.0
+     */
+    @SuppressWarnings("unchecked") // every descendant of a scoped node has the same type
+    public N current() {
+        if (this.slot != null) {
+            return (N) this.slot;
+        } else if (this.depth > 0) {
+            return (N) this.top();
+        } else {
+            return this.root;
+        }
+    }
+
+    /**
+     * Get the root node once every open map and list has been closed.
+     *
+     * <p>If no value was ever written, the root is returned unchanged.</p>
+     *
+     * @return the root node
+     * @throws IllegalStateException if a map or list is still open
+     * @since 4.2.0
+     */
+    public N build() {
+        if (this.depth > 0) {
+            throw new IllegalStateException(this.depth + " maps or lists have not been ended");
+        }
+        return this.root;
+    }
+
+    /**
+     * Take the current slot to write a value to, starting a new list
+     * element if necessary.
+     *
+     * @return the node to write to
+     */
+    private ConfigurationNode takeSlot() {
+        if (this.slot == null) {
+            if (this.depth == 0) {
+                throw new IllegalStateException("The root node has already been given a value");
+            } else if (!this.lists[this.depth - 1]) {
+                throw new IllegalStateException("A key must be provided before each value in a map");
+            }
+            this.element();
+        }
+        final ConfigurationNode slot = requireNonNull(this.slot, "slot");
+        this.slot = null;
+        return slot;
+    }
+
+    private ConfigurationNode top() {
+        return requireNonNull(this.containers[this.depth - 1], "container");
+    }
+
+    private void resetMap(final ConfigurationNode node) {
+        if (this.direct) {
+            ((AbstractConfigurationNode<?, ?>) node).buildMap();
+        } else {
+            node.raw(Collections.emptyMap());
+        }
+    }
+
+    private void resetList(final ConfigurationNode node, final int expectedSize) {
+        if (this.direct) {
+            ((AbstractConfigurationNode<?, ?>) node).buildList(expectedSize);
+        } else {
+            node.raw(Collections.emptyList());
+        }
+    }
+
+    private void push(final ConfigurationNode node, final boolean list, final boolean merge) {
+        if (this.depth == this.containers.length) {
+            this.containers = Arrays.copyOf(this.containers, this.depth * 2);
+            this.lists = Arrays.copyOf(this.lists, this.depth * 2);
+            this.merging = Arrays.copyOf(this.merging, this.depth * 2);
+        }
+        this.containers[this.depth] = node;
+        this.merging[this.depth] = merge;
+        this.lists[this.depth++] = list;
+    }
+
+}
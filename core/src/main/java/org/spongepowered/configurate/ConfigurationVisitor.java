@@ -54,8 +54,9 @@ package org.spongepowered.configurate;
  *
  * <p>There are a few specializations of the visitor interface available:
  * {@link Stateless} carries no state and can act as a functional interface
- * type, and {@link Safe} which throws no checked exceptions and therefore can
- * be visited without having to handle any exceptions.</p>
+ * type, {@link Safe} which throws no checked exceptions and therefore can
+ * be visited without having to handle any exceptions, and {@link Parallel}
+ * which can visit independent subtrees concurrently.</p>
  *
  * @param <S> a state object that will be used for one visit
  * @param <T> the terminal value, that can be returned at the end of the visit
@@ -333,4 +334,61 @@ public interface ConfigurationVisitor<S, T, E extends Exception> {
 
     }
 
+    /**
+     * A visitor that may visit independent subtrees concurrently.
+     *
+     * <p>When {@link #shouldSplit(ConfigurationNode, int)} returns true for a
+     * mapping or list node, each of its children is visited as a separate
+     * task in a {@link java.util.concurrent.ForkJoinPool}, starting with a
+     * fresh state from {@link #newState()}. Once every child has been
+     * visited, the child states are passed to
+     * {@link #merge(ConfigurationNode, Object, Object)} in the order the
+     * children would have been visited sequentially, before the exit event
+     * for the parent node is received.</p>
+     *
+     * <p>Events for any single subtree follow the order described above, but
+     * events for different subtrees may be received concurrently from
+     * different threads. Implementations must therefore be safe to call
+     * concurrently, except when operating on their own state objects.</p>
+     *
+     * @param <S> a state object that will be used for one subtree
+     * @param <T> the terminal value, that can be returned at the end of the visit
+     * @param <E> exception type that may be thrown
+     * @see ConfigurationNode#visitParallel(Parallel) to execute this
+     *      configuration visitation
+     * @since 4.2.0
+     */
+    interface Parallel<S, T, E extends Exception> extends ConfigurationVisitor<S, T, E> {
+
+        /**
+         * Get whether the children of a mapping or list node should be
+         * visited concurrently.
+         *
+         * <p>By default, only the children of the node where the visit
+         * started are split into separate tasks.</p>
+         *
+         * @param node the container node that has just been entered
+         * @param depth the depth of {@code node} relative to the node where
+         *     the visit started
+         * @return whether to visit children in separate tasks
+         * @since 4.2.0
+         */
+        default boolean shouldSplit(final ConfigurationNode node, final int depth) {
+            return depth == 0;
+        }
+
+        /**
+         * Merge the state of a child subtree that was visited separately
+         * into the state of its parent.
+         *
+         * @param node the parent node
+         * @param state the state of the parent node
+         * @param childState the state of one child subtree
+         * @throws E when thrown by implementation
+         * @since 4.2.0
+         */
+        void merge(ConfigurationNode node, S state, S childState) throws E;
+
+    }
+
 }
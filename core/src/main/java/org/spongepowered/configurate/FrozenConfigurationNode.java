@@ -0,0 +1,742 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static io.leangen.geantyref.GenericTypeReflector.erase;
+import static io.leangen.geantyref.GenericTypeReflector.isMissingTypeParameters;
+import static java.util.Objects.requireNonNull;
+import static org.spongepowered.configurate.AbstractConfigurationNode.storeDefault;
+
+import io.leangen.geantyref.TypeToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.serialize.Scalars;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializer;
+import org.spongepowered.configurate.util.ResolvedType;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A read-only snapshot of a configuration tree.
+ *
+ * <p>The tree is compiled once, into flat arrays of keys and children per
+ * node. As nothing can change after construction, no field needs to be
+ * volatile and no read takes a lock.</p>
+ *
+ * @see ConfigurationNode#freeze()
+ */
+final class FrozenConfigurationNode implements ConfigurationNode {
+
+    /**
+     * Maps with more children than this are indexed by hash.
+     */
+    private static final int MAX_LINEAR_LOOKUP = 8;
+
+    private static final byte NULL = 0;
+    private static final byte SCALAR = 1;
+    private static final byte LIST = 2;
+    private static final byte MAP = 3;
+
+    private static final Object[] NO_KEYS = new Object[0];
+    private static final FrozenConfigurationNode[] NO_CHILDREN = new FrozenConfigurationNode[0];
+
+    private final @Nullable Object key;
+    private final @Nullable FrozenConfigurationNode parent;
+    private final ConfigurationOptions options;
+    private final ConfigurationOptions sourceOptions;
+    private final boolean virtual;
+    private final Map<RepresentationHint<?>, Object> hints;
+
+    private final byte kind;
+    private final @Nullable Object scalar;
+    private final Object[] keys;
+    private final FrozenConfigurationNode[] children;
+    private final int @Nullable [] index;
+
+    // lazily computed, immutable once set -- a race will only cause duplicate computation
+    private @Nullable NodePath path;
+    private @Nullable List<FrozenConfigurationNode> childrenList;
+    private @Nullable Map<Object, FrozenConfigurationNode> childrenMap;
+
+    /**
+     * Compile a frozen copy of the tree rooted at {@code source}.
+     *
+     * <p>Frozen nodes never copy defaults into the tree, so the options of the
+     * source node are adjusted to disable
+     * {@link ConfigurationOptions#shouldCopyDefaults()}. The unchanged
+     * options are kept for {@link #copy()}.</p>
+     *
+     * @param source the source node
+     * @return a frozen node
+     */
+    static FrozenConfigurationNode freeze(final ConfigurationNode source) {
+        if (source instanceof FrozenConfigurationNode) {
+            return (FrozenConfigurationNode) source;
+        }
+
+        final ConfigurationOptions options = source.options();
+        return new FrozenConfigurationNode(null, null, options.shouldCopyDefaults(false), options, false, source);
+    }
+
+    /**
+     * Create a new frozen node, recursively compiling every child of
+     * {@code source}.
+     *
+     * <p>Children are compiled within the constructor, so that every array is
+     * fully populated before being assigned to a final field.</p>
+     *
+     * @param key the node key
+     * @param parent the parent node
+     * @param options the shared options
+     * @param sourceOptions the options of the frozen node, used for copies
+     * @param virtual whether the node is a virtual placeholder
+     * @param source the node to copy structure and values from, or null for
+     *     an empty node
+     */
+    private FrozenConfigurationNode(
+        final @Nullable Object key,
+        final @Nullable FrozenConfigurationNode parent,
+        final ConfigurationOptions options,
+        final ConfigurationOptions sourceOptions,
+        final boolean virtual,
+        final @Nullable ConfigurationNode source
+    ) {
+        this.key = key;
+        this.parent = parent;
+        this.options = options;
+        this.sourceOptions = sourceOptions;
+        this.virtual = virtual;
+
+        if (source == null) {
+            this.hints = RepresentationHintMap.empty();
+            this.kind = NULL;
+            this.scalar = null;
+            this.keys = NO_KEYS;
+            this.children = NO_CHILDREN;
+            this.index = null;
+            return;
+        }
+
+        this.hints = RepresentationHintMap.copyOf(source.ownHints());
+        if (source.isMap()) {
+            final Map<Object, ? extends ConfigurationNode> sourceChildren = source.childrenMap();
+            final Object[] keys = new Object[sourceChildren.size()];
+            final FrozenConfigurationNode[] children = new FrozenConfigurationNode[keys.length];
+            int idx = 0;
+            for (final Map.Entry<Object, ? extends ConfigurationNode> entry : sourceChildren.entrySet()) {
+                keys[idx] = entry.getKey();
+                children[idx] = new FrozenConfigurationNode(entry.getKey(), this, options, sourceOptions, false, entry.getValue());
+                idx++;
+            }
+            this.kind = MAP;
+            this.scalar = null;
+            this.keys = keys;
+            this.children = children;
+            this.index = keys.length > MAX_LINEAR_LOOKUP ? buildIndex(keys) : null;
+        } else if (source.isList()) {
+            final List<? extends ConfigurationNode> sourceChildren = source.childrenList();
+            final FrozenConfigurationNode[] children = new FrozenConfigurationNode[sourceChildren.size()];
+            for (int i = 0; i < children.length; ++i) {
+                children[i] = new FrozenConfigurationNode(i, this, options, sourceOptions, false, sourceChildren.get(i));
+            }
+            this.kind = LIST;
+            this.scalar = null;
+            this.keys = NO_KEYS;
+            this.children = children;
+            this.index = null;
+        } else {
+            final @Nullable Object scalar = source.rawScalar();
+            this.kind = scalar == null ? NULL : SCALAR;
+            this.scalar = scalar;
+            this.keys = NO_KEYS;
+            this.children = NO_CHILDREN;
+            this.index = null;
+        }
+    }
+
+    /**
+     * Build an open-addressed hash index of {@code keys}.
+     *
+     * <p>Each slot holds a key index plus one, or zero if empty.</p>
+     *
+     * @param keys the keys to index
+     * @return the index table, with a power-of-two length
+     */
+    private static int[] buildIndex(final Object[] keys) {
+        final int[] table = new int[Integer.highestOneBit(keys.length * 2 - 1) << 1];
+        final int mask = table.length - 1;
+        for (int i = 0; i < keys.length; ++i) {
+            int slot = spread(keys[i].hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Get an existing child of this node, without creating a virtual node.
+     *
+     * @param key the child key
+     * @return the child, or null if none is present
+     */
+    @Nullable FrozenConfigurationNode existingChild(final Object key) {
+        switch (this.kind) {
+            case MAP:
+                final Object[] keys = this.keys;
+                final int @Nullable [] index = this.index;
+                if (index == null) {
+                    for (int i = 0; i < keys.length; ++i) {
+                        if (key.equals(keys[i])) {
+                            return this.children[i];
+                        }
+                    }
+                } else {
+                    final int mask = index.length - 1;
+                    int slot = spread(key.hashCode()) & mask;
+                    int entry;
+                    while ((entry = index[slot]) != 0) {
+                        if (key.equals(keys[entry - 1])) {
+                            return this.children[entry - 1];
+                        }
+                        slot = (slot + 1) & mask;
+                    }
+                }
+                return null;
+            case LIST:
+                final int idx;
+                if (key instanceof Integer) {
+                    idx = (Integer) key;
+                } else {
+                    final @Nullable Integer parsed = Scalars.INTEGER.tryDeserialize(key);
+                    if (parsed == null) {
+                        return null;
+                    }
+                    idx = parsed;
+                }
+                return idx >= 0 && idx < this.children.length ? this.children[idx] : null;
+            default:
+                return null;
+        }
+    }
+
+    private FrozenConfigurationNode child(final Object key) {
+        final @Nullable FrozenConfigurationNode existing = this.existingChild(key);
+        if (existing != null) {
+            return existing;
+        }
+        return new FrozenConfigurationNode(key, this, this.options, this.sourceOptions, true, null);
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("Frozen configuration nodes cannot be modified. "
+            + "Use copy() to get a mutable copy of this node.");
+    }
+
+    @Override
+    public @Nullable Object key() {
+        return this.key;
+    }
+
+    @Override
+    public NodePath path() {
+        @Nullable NodePath path = this.path;
+        if (path == null) {
+            final @Nullable FrozenConfigurationNode parent = this.parent;
+            path = parent == null ? NodePath.path() : parent.path().withAppendedChild(requireNonNull(this.key));
+            this.path = path;
+        }
+        return path;
+    }
+
+    @Override
+    public @Nullable FrozenConfigurationNode parent() {
+        return this.parent;
+    }
+
+    @Override
+    public FrozenConfigurationNode node(final Object... path) {
+        FrozenConfigurationNode pointer = this;
+        for (final Object el : path) {
+            pointer = pointer.child(AbstractConfigurationNode.pathElement(el, path));
+        }
+        return pointer;
+    }
+
+    @Override
+    public FrozenConfigurationNode node(final Iterable<?> path) {
+        FrozenConfigurationNode pointer = this;
+        for (final Object el : path) {
+            pointer = pointer.child(AbstractConfigurationNode.pathElement(el, path));
+        }
+        return pointer;
+    }
+
+    @Override
+    public boolean hasChild(final Object... path) {
+        return this.find(path) != null;
+    }
+
+    @Override
+    public boolean hasChild(final Iterable<?> path) {
+        return this.find(path) != null;
+    }
+
+    @Override
+    public @Nullable FrozenConfigurationNode find(final Object... path) {
+        @Nullable FrozenConfigurationNode pointer = this;
+        for (final Object el : path) {
+            pointer = pointer.existingChild(AbstractConfigurationNode.pathElement(el, path));
+            if (pointer == null) {
+                return null;
+            }
+        }
+        return pointer;
+    }
+
+    @Override
+    public @Nullable FrozenConfigurationNode find(final Iterable<?> path) {
+        @Nullable FrozenConfigurationNode pointer = this;
+        for (final Object el : path) {
+            pointer = pointer.existingChild(AbstractConfigurationNode.pathElement(el, path));
+            if (pointer == null) {
+                return null;
+            }
+        }
+        return pointer;
+    }
+
+    @Override
+    public boolean virtual() {
+        return this.virtual;
+    }
+
+    @Override
+    public ConfigurationOptions options() {
+        return this.options;
+    }
+
+    @Override
+    public boolean isNull() {
+        return this.kind == NULL;
+    }
+
+    @Override
+    public boolean isList() {
+        return this.kind == LIST;
+    }
+
+    @Override
+    public boolean isMap() {
+        return this.kind == MAP;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:UnnecessaryParentheses")
+    public boolean empty() {
+        switch (this.kind) {
+            case SCALAR:
+                final @Nullable Object scalar = this.scalar;
+                return (scalar instanceof String && ((String) scalar).isEmpty())
+                    || (scalar instanceof Collection<?> && ((Collection<?>) scalar).isEmpty());
+            case LIST:
+            case MAP:
+                return this.children.length == 0;
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    public void forEachChild(final BiConsumer<Object, ? super ConfigurationNode> action) {
+        final FrozenConfigurationNode[] children = this.children;
+        if (this.kind == LIST) {
+            for (int i = 0; i < children.length; ++i) {
+                action.accept(i, children[i]);
+            }
+        } else if (this.kind == MAP) {
+            final Object[] keys = this.keys;
+            for (int i = 0; i < children.length; ++i) {
+                action.accept(keys[i], children[i]);
+            }
+        }
+    }
+
+    @Override
+    public List<FrozenConfigurationNode> childrenList() {
+        if (this.kind != LIST) {
+            return Collections.emptyList();
+        }
+        @Nullable List<FrozenConfigurationNode> list = this.childrenList;
+        if (list == null) {
+            this.childrenList = list = Collections.unmodifiableList(Arrays.asList(this.children));
+        }
+        return list;
+    }
+
+    @Override
+    public Map<Object, FrozenConfigurationNode> childrenMap() {
+        if (this.kind != MAP) {
+            return Collections.emptyMap();
+        }
+        @Nullable Map<Object, FrozenConfigurationNode> map = this.childrenMap;
+        if (map == null) {
+            final Map<Object, FrozenConfigurationNode> built = new LinkedHashMap<>();
+            for (int i = 0; i < this.keys.length; ++i) {
+                built.put(this.keys[i], this.children[i]);
+            }
+            this.childrenMap = map = Collections.unmodifiableMap(built);
+        }
+        return map;
+    }
+
+    @Override
+    public @Nullable Object get(final AnnotatedType type) throws SerializationException {
+        return this.get0(type, true);
+    }
+
+    @Override
+    public @Nullable Object get(final ResolvedType type) throws SerializationException {
+        return this.get0(requireNonNull(type, "type"), true);
+    }
+
+    @Override
+    public Object get(final AnnotatedType type, final Object def) throws SerializationException {
+        final @Nullable Object value = this.get0(type, false);
+        return value == null ? storeDefault(this, type, def) : value;
+    }
+
+    @Override
+    public Object get(final AnnotatedType type, final Supplier<?> defSupplier) throws SerializationException {
+        final @Nullable Object value = this.get0(type, false);
+        return value == null ? storeDefault(this, type, defSupplier.get()) : value;
+    }
+
+    @Override
+    public @Nullable Object get(final Type type) throws SerializationException {
+        return this.get0(type, true);
+    }
+
+    @Override
+    public Object get(final Type type, final Object def) throws SerializationException {
+        final @Nullable Object value = this.get0(type, false);
+        return value == null ? storeDefault(this, type, def) : value;
+    }
+
+    @Override
+    public Object get(final Type type, final Supplier<?> defSupplier) throws SerializationException {
+        final @Nullable Object value = this.get0(type, false);
+        return value == null ? storeDefault(this, type, defSupplier.get()) : value;
+    }
+
+    private @Nullable Object get0(final Type type, final boolean doImplicitInit) throws SerializationException {
+        requireNonNull(type, "type");
+        if (isMissingTypeParameters(type)) {
+            throw new SerializationException(this, type, "Raw types are not supported");
+        }
+
+        final @Nullable TypeSerializer<?> serial = this.options.serializers().get(type);
+        if (this.kind == NULL) {
+            if (serial != null && doImplicitInit && this.options.implicitInitialization()) {
+                return serial.emptyValue(type, this.options);
+            }
+            return null;
+        }
+
+        if (serial == null) {
+            final @Nullable Object value = this.raw();
+            return erase(type).isInstance(value) ? value : null;
+        }
+        try {
+            return serial.deserialize(type, this);
+        } catch (final SerializationException ex) {
+            ex.initPath(this::path);
+            ex.initType(type);
+            throw ex;
+        }
+    }
+
+    private @Nullable Object get0(final AnnotatedType type, final boolean doImplicitInit) throws SerializationException {
+        return this.get0(ResolvedType.of(type), doImplicitInit);
+    }
+
+    private @Nullable Object get0(final ResolvedType resolved, final boolean doImplicitInit) throws SerializationException {
+        final AnnotatedType type = resolved.annotatedType();
+        if (!resolved.complete()) {
+            throw new SerializationException(this, type, "Raw types are not supported");
+        }
+
+        final @Nullable TypeSerializer<?> serial = this.options.serializers().get(resolved);
+        if (this.kind == NULL) {
+            if (serial != null && doImplicitInit && this.options.implicitInitialization()) {
+                return serial.emptyValue(type, this.options);
+            }
+            return null;
+        }
+
+        if (serial == null) {
+            final @Nullable Object value = this.raw();
+            return erase(type.getType()).isInstance(value) ? value : null;
+        }
+        try {
+            return serial.deserialize(resolved, this);
+        } catch (final SerializationException ex) {
+            ex.initPath(this::path);
+            ex.initType(type);
+            throw ex;
+        }
+    }
+
+    @Override
+    public ConfigurationNode set(final @Nullable Object value) {
+        throw immutable();
+    }
+
+    @Override
+    public <V> ConfigurationNode set(final TypeToken<V> type, final @Nullable V value) {
+        throw immutable();
+    }
+
+    @Override
+    public <V> ConfigurationNode set(final Class<V> type, final @Nullable V value) {
+        throw immutable();
+    }
+
+    @Override
+    public ConfigurationNode set(final Type type, final @Nullable Object value) {
+        throw immutable();
+    }
+
+    @Override
+    public ConfigurationNode set(final AnnotatedType type, final @Nullable Object value) {
+        throw immutable();
+    }
+
+    @Override
+    public @Nullable Object raw() {
+        switch (this.kind) {
+            case SCALAR:
+                return this.scalar;
+            case LIST:
+                final List<@Nullable Object> list = new ArrayList<>(this.children.length);
+                for (final FrozenConfigurationNode child : this.children) {
+                    list.add(child.raw());
+                }
+                return list;
+            case MAP:
+                final Map<Object, @Nullable Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < this.keys.length; ++i) {
+                    map.put(this.keys[i], this.children[i].raw());
+                }
+                return map;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public ConfigurationNode raw(final @Nullable Object value) {
+        throw immutable();
+    }
+
+    @Override
+    public @Nullable Object rawScalar() {
+        return this.scalar;
+    }
+
+    @Override
+    public ConfigurationNode from(final ConfigurationNode other) {
+        throw immutable();
+    }
+
+    @Override
+    public ConfigurationNode mergeFrom(final ConfigurationNode other) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean removeChild(final Object key) {
+        throw immutable();
+    }
+
+    @Override
+    public ConfigurationNode appendListNode() {
+        throw immutable();
+    }
+
+    /**
+     * Create a mutable copy of this node.
+     *
+     * <p>The copy is a {@link BasicConfigurationNode}, using the options of
+     * the node that was frozen, including whether defaults are copied.
+     * Comments and other format-specific data were not kept when freezing,
+     * so a copy never has them, even if the frozen node was a
+     * {@link CommentedConfigurationNode}.</p>
+     *
+     * @return a mutable copy
+     */
+    @Override
+    public ConfigurationNode copy() {
+        return BasicConfigurationNode.root(this.sourceOptions).from(this);
+    }
+
+    @Override
+    public ConfigurationNode freeze() {
+        return this;
+    }
+
+    @Override
+    public <S, T, E extends Exception> T visit(final ConfigurationVisitor<S, T, E> visitor, final S state) throws E {
+        return this.visitInternal(visitor, state);
+    }
+
+    @Override
+    public <S, T> T visit(final ConfigurationVisitor.Safe<S, T> visitor, final S state) {
+        try {
+            return this.visitInternal(visitor, state);
+        } catch (final VisitorSafeNoopException ex) {
+            // this exception should never be thrown, has a private constructor
+            throw new AssertionError("Exception was thrown on a Safe visitor", ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S, T, E extends Exception> T visitInternal(final ConfigurationVisitor<S, T, E> visitor, final S state) throws E {
+        visitor.beginVisit(this, state);
+        if (this.kind != NULL) {
+            final VisitStack<FrozenConfigurationNode> toVisit = new VisitStack<>();
+            toVisit.push(this, VisitStack.ENTER);
+
+            while (!toVisit.isEmpty()) {
+                final byte action = toVisit.peekAction();
+                final FrozenConfigurationNode current = toVisit.pop();
+                if (action == VisitStack.EXIT_MAP) {
+                    visitor.exitMappingNode(current, state);
+                    continue;
+                } else if (action == VisitStack.EXIT_LIST) {
+                    visitor.exitListNode(current, state);
+                    continue;
+                }
+
+                try {
+                    visitor.enterNode(current, state);
+                    switch (current.kind) {
+                        case MAP:
+                            visitor.enterMappingNode(current, state);
+                            break;
+                        case LIST:
+                            visitor.enterListNode(current, state);
+                            break;
+                        case SCALAR:
+                            visitor.enterScalarNode(current, state);
+                            continue;
+                        default:
+                            continue;
+                    }
+                } catch (final Exception ex) {
+                    // Assign an appropriate path to ConfigurateExceptions
+                    if (ex instanceof ConfigurateException) {
+                        ((ConfigurateException) ex).initPath(current::path);
+                    }
+                    throw (E) ex;
+                }
+
+                toVisit.push(current, current.kind == MAP ? VisitStack.EXIT_MAP : VisitStack.EXIT_LIST);
+                final FrozenConfigurationNode[] children = current.children;
+                for (int i = children.length - 1; i >= 0; --i) {
+                    toVisit.push(children[i], VisitStack.ENTER);
+                }
+            }
+        }
+        return visitor.endVisit(state);
+    }
+
+    @Override
+    public <V> ConfigurationNode hint(final RepresentationHint<V> hint, final @Nullable V value) {
+        throw immutable();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> @Nullable V hint(final RepresentationHint<V> hint) {
+        final @Nullable Object value = this.hints.get(hint);
+        if (value != null) {
+            return (V) value;
+        }
+        final @Nullable FrozenConfigurationNode parent = this.parent;
+        if (parent != null && hint.inheritable()) {
+            return parent.hint(hint);
+        } else {
+            return hint.defaultValue();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> @Nullable V ownHint(final RepresentationHint<V> hint) {
+        return (V) this.hints.get(hint);
+    }
+
+    @Override
+    public Map<RepresentationHint<?>, ?> ownHints() {
+        return this.hints;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof FrozenConfigurationNode)) {
+            return false;
+        }
+
+        final FrozenConfigurationNode that = (FrozenConfigurationNode) other;
+        return this.kind == that.kind
+            && Objects.equals(this.key, that.key)
+            && Objects.equals(this.scalar, that.scalar)
+            && Arrays.equals(this.keys, that.keys)
+            && Arrays.equals(this.children, that.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.key) ^ Objects.hashCode(this.scalar) ^ Arrays.hashCode(this.children);
+    }
+
+    @Override
+    public String toString() {
+        return "FrozenConfigurationNode{key=" + this.key + ", value=" + this.raw() + '}';
+    }
+
+}
@@ -18,13 +18,14 @@ package org.spongepowered.configurate;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.serialize.Scalars;
-import org.spongepowered.configurate.util.UnmodifiableCollections;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
@@ -81,10 +82,40 @@ final class ListConfigValue<N extends ScopedConfigurationNode<N>, A extends Abst
     private final A holder;
     volatile List<A> values = new ArrayList<>();
 
+    /**
+     * The values list most recently exposed through a view.
+     *
+     * <p>Views share the values list rather than copying it, so a list that
+     * has been viewed is replaced with a copy before being modified. This is
+     * only written while holding the lock on the list it refers to, and
+     * writers check it under that same lock before modifying a list.</p>
+     */
+    private volatile @Nullable List<A> viewed;
+
     ListConfigValue(final A holder) {
         this.holder = holder;
     }
 
+    /**
+     * Create a new empty list, with room for an expected number of children.
+     *
+     * @param holder the node holding the list
+     * @param expectedSize the expected number of children
+     * @param <N> the node type
+     * @param <A> the implementation type
+     * @return a new list value
+     */
+    static <N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> ListConfigValue<N, A> sized(
+        final A holder,
+        final int expectedSize
+    ) {
+        final ListConfigValue<N, A> list = new ListConfigValue<>(holder);
+        if (expectedSize > 0) {
+            list.values = new ArrayList<>(expectedSize);
+        }
+        return list;
+    }
+
     ListConfigValue(final A holder, final @Nullable Object startValue) {
         this.holder = holder;
         if (startValue != null) {
@@ -108,16 +139,63 @@ final class ListConfigValue<N extends ScopedConfigurationNode<N>, A extends Abst
     }
 
     public List<N> unwrapped() {
-        final List<A> orig = this.values;
-        synchronized (orig) {
-            final List<N> ret = new ArrayList<>(orig.size());
-            for (A element : orig) {
-                ret.add(element.self());
+        return new ChildrenView<>(this.viewedValues());
+    }
+
+    /**
+     * Get the current values, marking them as exposed through a view.
+     *
+     * @return the current values, which will not be modified in place
+     */
+    private List<A> viewedValues() {
+        while (true) {
+            final List<A> values = this.values;
+            synchronized (values) {
+                // a list that has been replaced may still be modified by writers that started before
+                if (values == this.values) {
+                    this.viewed = values;
+                    return values;
+                }
             }
-            return Collections.unmodifiableList(ret);
         }
     }
 
+    /**
+     * Get the current values for modification, first replacing them with a
+     * copy if they are exposed through a view.
+     *
+     * <p>The returned list may only be modified while holding its lock, and
+     * only once {@link #writable(List)} has confirmed it under that lock.</p>
+     *
+     * @return the current values
+     */
+    private List<A> mutableValues() {
+        List<A> values;
+        while ((values = this.values) == this.viewed) {
+            final List<A> copy;
+            synchronized (values) {
+                copy = new ArrayList<>(values);
+            }
+            if (VALUES_HANDLE.compareAndSet(this, values, copy)) {
+                return copy;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Check whether a values list can be modified in place.
+     *
+     * <p>This must be called while holding the lock on {@code values}, which
+     * views are published under.</p>
+     *
+     * @param values the list to check
+     * @return whether the list is still current and has not been viewed
+     */
+    private boolean writable(final List<A> values) {
+        return values == this.values && values != this.viewed;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void set(@Nullable Object value) {
@@ -156,12 +234,19 @@ final class ListConfigValue<N extends ScopedConfigurationNode<N>, A extends Abst
         if (index == UNALLOCATED_IDX) {
             if (value != null) { // can't remove an unallocated node
                 List<A> values;
+                boolean added;
                 do {
                     // Allocate an index for the newly added node
-                    values = this.values;
-                    values.add(value);
-                    value.key = values.lastIndexOf(value);
-                } while (!VALUES_HANDLE.compareAndSet(this, values, values));
+                    added = false;
+                    values = this.mutableValues();
+                    synchronized (values) {
+                        if (this.writable(values)) {
+                            value.rekey(values.size());
+                            values.add(value);
+                            added = true;
+                        }
+                    }
+                } while (!added || !VALUES_HANDLE.compareAndSet(this, values, values));
             }
             return null;
         } else {
@@ -172,9 +257,15 @@ final class ListConfigValue<N extends ScopedConfigurationNode<N>, A extends Abst
     private @Nullable A putChildInternal(final int index, final @Nullable A value, final boolean onlyIfAbsent) {
         @Nullable A ret = null;
         List<A> values;
+        boolean modified;
         do {
-            values = this.values;
+            modified = false;
+            values = this.mutableValues();
             synchronized (values) {
+                if (!this.writable(values)) {
+                    continue;
+                }
+                modified = true;
                 if (value == null) {
                     // only remove actually existing values
                     if (index >= 0 && index < values.size()) {
@@ -182,7 +273,7 @@ final class ListConfigValue<N extends ScopedConfigurationNode<N>, A extends Abst
                         ret = values.remove(index);
                         // update indexes for subsequent elements
                         for (int i = index; i < values.size(); ++i) {
-                            values.get(i).key = index;
+                            values.get(i).rekey(i);
                         }
                     }
                 } else {
@@ -198,13 +289,36 @@ final class ListConfigValue<N extends ScopedConfigurationNode<N>, A extends Abst
                     }
                 }
             }
-        } while (!VALUES_HANDLE.compareAndSet(this, values, values));
+        } while (!modified || !VALUES_HANDLE.compareAndSet(this, values, values));
         return ret;
     }
 
+    /**
+     * Create a new attached child at the end of this list.
+     *
+     * @return the new child, with no value
+     */
+    A appendChild() {
+        @Nullable A child;
+        List<A> values;
+        do {
+            child = null;
+            values = this.mutableValues();
+            synchronized (values) {
+                if (this.writable(values)) {
+                    child = this.holder.createNode(values.size());
+                    child.attached = true;
+                    values.add(child);
+                }
+            }
+        } while (child == null || !VALUES_HANDLE.compareAndSet(this, values, values));
+        return child;
+    }
+
     @Override
     public @Nullable A child(final @Nullable Object key) {
-        final @Nullable Integer value = Scalars.INTEGER.tryDeserialize(key);
+        // integer keys are by far the most common, so avoid the serializer
+        final @Nullable Integer value = key instanceof Integer ? (Integer) key : Scalars.INTEGER.tryDeserialize(key);
         if (value == null || value < 0) {
             return null;
         }
@@ -220,10 +334,7 @@ final class ListConfigValue<N extends ScopedConfigurationNode<N>, A extends Abst
 
     @Override
     public Iterable<A> iterateChildren() {
-        final List<A> values = this.values;
-        synchronized (values) {
-            return UnmodifiableCollections.copyOf(values);
-        }
+        return Collections.unmodifiableList(this.viewedValues());
     }
 
     @Override
@@ -288,4 +399,37 @@ final class ListConfigValue<N extends ScopedConfigurationNode<N>, A extends Abst
         return "ListConfigValue{values=" + this.values.toString() + '}';
     }
 
+    /**
+     * A read-only view of the children of a list node.
+     *
+     * <p>The viewed list is never modified in place once exposed, so this
+     * acts as a snapshot of the children at the time the view was taken.</p>
+     */
+    static final class ChildrenView<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>>
+        extends AbstractList<N> implements RandomAccess {
+
+        private final List<A> values;
+
+        ChildrenView(final List<A> values) {
+            this.values = values;
+        }
+
+        @Override
+        public N get(final int index) {
+            final List<A> values = this.values;
+            synchronized (values) {
+                return values.get(index).self();
+            }
+        }
+
+        @Override
+        public int size() {
+            final List<A> values = this.values;
+            synchronized (values) {
+                return values.size();
+            }
+        }
+
+    }
+
 }
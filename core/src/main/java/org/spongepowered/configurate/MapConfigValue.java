@@ -16,12 +16,19 @@
  */
 package org.spongepowered.configurate;
 
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 
 /**
@@ -32,6 +39,16 @@ final class MapConfigValue<N extends ScopedConfigurationNode<N>, A extends Abstr
     private final A holder;
     volatile Map<Object, A> values;
 
+    /**
+     * The values map most recently exposed through a view.
+     *
+     * <p>Views share the values map rather than copying it, so a map that
+     * has been viewed is replaced with a copy before being modified. This is
+     * only read or written while holding the lock on this value, which
+     * writers also hold while modifying the values map.</p>
+     */
+    private @Nullable Map<Object, A> viewed;
+
     MapConfigValue(final A holder) {
         this.holder = holder;
         this.values = newMap();
@@ -56,9 +73,41 @@ final class MapConfigValue<N extends ScopedConfigurationNode<N>, A extends Abstr
     }
 
     public Map<Object, N> unwrapped() {
-        final Map<Object, N> unwrapped = new LinkedHashMap<>();
-        this.values.forEach((k, v) -> unwrapped.put(k, v.self()));
-        return Collections.unmodifiableMap(unwrapped);
+        return new ChildrenView<>(this.viewedValues());
+    }
+
+    /**
+     * Get the current values, marking them as exposed through a view.
+     *
+     * @return the current values, which will not be modified in place
+     */
+    private Map<Object, A> viewedValues() {
+        synchronized (this) {
+            final Map<Object, A> values = this.values;
+            this.viewed = values;
+            return values;
+        }
+    }
+
+    /**
+     * Get the current values for modification, first replacing them with a
+     * copy if they are exposed through a view.
+     *
+     * <p>This must be called while holding the lock on this value, and the
+     * returned map may only be modified until that lock is released.</p>
+     *
+     * @return the current values, safe to modify in place
+     */
+    private Map<Object, A> mutableValues() {
+        Map<Object, A> values = this.values;
+        if (values == this.viewed) {
+            final Map<Object, A> copy = newMap();
+            synchronized (values) {
+                copy.putAll(values);
+            }
+            this.values = values = copy;
+        }
+        return values;
     }
 
     @Override
@@ -86,19 +135,23 @@ final class MapConfigValue<N extends ScopedConfigurationNode<N>, A extends Abstr
 
     @Override
     public @Nullable A putChild(final Object key, final @Nullable A value) {
-        if (value == null) {
-            return this.values.remove(key);
-        } else {
-            return this.values.put(key, value);
+        synchronized (this) {
+            if (value == null) {
+                return this.mutableValues().remove(key);
+            } else {
+                return this.mutableValues().put(key, value);
+            }
         }
     }
 
     @Override
     public @Nullable A putChildIfAbsent(final Object key, final @Nullable A value) {
-        if (value == null) {
-            return this.values.remove(key);
-        } else {
-            return this.values.putIfAbsent(key, value);
+        synchronized (this) {
+            if (value == null) {
+                return this.mutableValues().remove(key);
+            } else {
+                return this.mutableValues().putIfAbsent(key, value);
+            }
         }
     }
 
@@ -109,7 +162,7 @@ final class MapConfigValue<N extends ScopedConfigurationNode<N>, A extends Abstr
 
     @Override
     public Iterable<A> iterateChildren() {
-        return this.values.values();
+        return Collections.unmodifiableCollection(this.viewedValues().values());
     }
 
     @Override
@@ -166,4 +219,108 @@ final class MapConfigValue<N extends ScopedConfigurationNode<N>, A extends Abstr
         return "MapConfigValue{values=" + this.values + '}';
     }
 
+    /**
+     * A read-only view of the children of a map node.
+     *
+     * <p>The viewed map is never modified in place once exposed, so this
+     * acts as a snapshot of the children at the time the view was taken.</p>
+     */
+    static final class ChildrenView<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>>
+        extends AbstractMap<Object, N> {
+
+        private final Map<Object, A> values;
+        private @MonotonicNonNull Set<Entry<Object, N>> entrySet;
+        private @MonotonicNonNull Collection<N> valueCollection;
+
+        ChildrenView(final Map<Object, A> values) {
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return this.values.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.values.isEmpty();
+        }
+
+        @Override
+        public boolean containsKey(final @Nullable Object key) {
+            return this.values.containsKey(key);
+        }
+
+        @Override
+        public @Nullable N get(final @Nullable Object key) {
+            final @Nullable A child = this.values.get(key);
+            return child == null ? null : child.self();
+        }
+
+        @Override
+        public Set<Object> keySet() {
+            return Collections.unmodifiableSet(this.values.keySet());
+        }
+
+        @Override
+        public Collection<N> values() {
+            if (this.valueCollection == null) {
+                this.valueCollection = new AbstractCollection<N>() {
+                    @Override
+                    public Iterator<N> iterator() {
+                        final Iterator<A> it = ChildrenView.this.values.values().iterator();
+                        return new Iterator<N>() {
+                            @Override
+                            public boolean hasNext() {
+                                return it.hasNext();
+                            }
+
+                            @Override
+                            public N next() {
+                                return it.next().self();
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return ChildrenView.this.values.size();
+                    }
+                };
+            }
+            return this.valueCollection;
+        }
+
+        @Override
+        public Set<Entry<Object, N>> entrySet() {
+            if (this.entrySet == null) {
+                this.entrySet = new AbstractSet<Entry<Object, N>>() {
+                    @Override
+                    public Iterator<Entry<Object, N>> iterator() {
+                        final Iterator<Entry<Object, A>> it = ChildrenView.this.values.entrySet().iterator();
+                        return new Iterator<Entry<Object, N>>() {
+                            @Override
+                            public boolean hasNext() {
+                                return it.hasNext();
+                            }
+
+                            @Override
+                            public Entry<Object, N> next() {
+                                final Entry<Object, A> next = it.next();
+                                return new SimpleImmutableEntry<>(next.getKey(), next.getValue().self());
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return ChildrenView.this.values.size();
+                    }
+                };
+            }
+            return this.entrySet;
+        }
+
+    }
+
 }
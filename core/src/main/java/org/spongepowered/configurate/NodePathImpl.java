@@ -27,45 +27,98 @@ final class NodePathImpl implements NodePath {
 
     static final NodePath EMPTY = new NodePathImpl(new Object[0], false);
 
-    private final Object[] arr;
+    /**
+     * The path this path extends, shared structurally.
+     *
+     * <p>This is null for paths that hold all of their
+     * elements in {@link #tail}.</p>
+     */
+    final @Nullable NodePathImpl prefix;
+
+    /**
+     * The elements following {@link #prefix}, never modified.
+     */
+    private final Object[] tail;
+    private final int size;
+
+    /**
+     * All elements of this path, materialized when first needed.
+     */
+    private volatile Object @Nullable [] elements;
 
     NodePathImpl(final Object[] arr, final boolean copy) {
         requireNonNull(arr);
-        this.arr = copy ? Arrays.copyOf(arr, arr.length) : arr;
+        this.prefix = null;
+        this.tail = copy ? Arrays.copyOf(arr, arr.length) : arr;
+        this.size = this.tail.length;
+        this.elements = this.tail;
+    }
+
+    private NodePathImpl(final NodePathImpl prefix, final Object[] tail) {
+        this.prefix = prefix;
+        this.tail = tail;
+        this.size = prefix.size + tail.length;
+        if (prefix.size == 0) {
+            this.elements = tail;
+        }
+    }
+
+    /**
+     * Get every element of this path, walking the prefix chain if
+     * necessary.
+     *
+     * <p>The returned array must not be modified.</p>
+     *
+     * @return the path elements
+     */
+    private Object[] elements() {
+        Object @Nullable [] elements = this.elements;
+        if (elements == null) {
+            elements = new Object[this.size];
+            int end = this.size;
+            @Nullable NodePathImpl pointer = this;
+            while (pointer != null) {
+                final Object @Nullable [] known = pointer == this ? null : pointer.elements;
+                if (known != null) {
+                    System.arraycopy(known, 0, elements, 0, end);
+                    break;
+                }
+                end -= pointer.tail.length;
+                System.arraycopy(pointer.tail, 0, elements, end, pointer.tail.length);
+                pointer = pointer.prefix;
+            }
+            this.elements = elements;
+        }
+        return elements;
     }
 
     @Override
     public Object get(final int i) {
-        return this.arr[i];
+        final int tailStart = this.size - this.tail.length;
+        if (i >= tailStart) {
+            return this.tail[i - tailStart];
+        }
+        return this.elements()[i];
     }
 
     @Override
     public int size() {
-        return this.arr.length;
+        return this.size;
     }
 
     @Override
     public NodePath withAppendedChild(final Object childKey) {
         requireNonNull(childKey, "childKey");
-        final Object[] arr = this.arr;
-        if (arr.length == 0) {
-            return new NodePathImpl(new Object[] {childKey}, false);
-        }
-
-        final Object[] childPath = Arrays.copyOf(arr, arr.length + 1);
-        childPath[childPath.length - 1] = childKey;
-
-        return new NodePathImpl(childPath, false);
+        return new NodePathImpl(this, new Object[] {childKey});
     }
 
     @Override
     public NodePath with(final int index, final Object value) throws IndexOutOfBoundsException {
         requireNonNull(value, "value");
-        final Object[] arr = this.arr;
-        if (index < 0 || index >= arr.length) {
-            throw new IndexOutOfBoundsException("Index " + index + " is not within limit of [0," + arr.length + ")");
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is not within limit of [0," + this.size + ")");
         }
-        final Object[] newPath = Arrays.copyOf(arr, arr.length);
+        final Object[] newPath = this.array();
         newPath[index] = value;
         return new NodePathImpl(newPath, false);
     }
@@ -75,32 +128,30 @@ final class NodePathImpl implements NodePath {
         requireNonNull(other, "other");
 
         // Avoid copies for empty paths
-        if (this.arr.length == 0) {
+        if (this.size == 0) {
             return other;
         } else if (other.size() == 0) {
             return this;
         }
 
-        final Object[] otherArr = (other instanceof NodePathImpl) ? ((NodePathImpl) other).arr : other.array();
-        final Object[] result = new Object[this.arr.length + otherArr.length];
-        System.arraycopy(this.arr, 0, result, 0, this.arr.length);
-        System.arraycopy(otherArr, 0, result, this.arr.length, otherArr.length);
-        return new NodePathImpl(result, false);
+        final Object[] otherArr = (other instanceof NodePathImpl) ? ((NodePathImpl) other).elements() : other.array();
+        return new NodePathImpl(this, otherArr);
     }
 
     @Override
     public Object[] array() {
-        return Arrays.copyOf(this.arr, this.arr.length);
+        final Object[] elements = this.elements();
+        return Arrays.copyOf(elements, elements.length);
     }
 
     @Override
     public Iterator<Object> iterator() {
-        return Arrays.asList(this.arr).iterator();
+        return Arrays.asList(this.elements()).iterator();
     }
 
     @Override
     public NodePath copy() {
-        return new NodePathImpl(this.arr, true);
+        return new NodePathImpl(this.elements(), true);
     }
 
     @Override
@@ -114,17 +165,17 @@ final class NodePathImpl implements NodePath {
         }
 
         final NodePathImpl that = (NodePathImpl) other;
-        return Arrays.equals(this.arr, that.arr);
+        return this.size == that.size && Arrays.equals(this.elements(), that.elements());
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(this.arr);
+        return Arrays.hashCode(this.elements());
     }
 
     @Override
     public String toString() {
-        return Arrays.toString(this.arr);
+        return Arrays.toString(this.elements());
     }
 
 }
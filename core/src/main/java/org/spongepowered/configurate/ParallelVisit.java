@@ -0,0 +1,180 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementation of {@link ConfigurationVisitor.Parallel} visits.
+ *
+ * <p>Each split subtree is visited by its own task. Exceptions thrown by the
+ * visitor are captured by the task that encountered them, and rethrown by the
+ * task that forked it, so the first failure in visit order is the one
+ * reported to the caller.</p>
+ *
+ * @param <S> state type
+ * @param <E> visitor exception type
+ */
+final class ParallelVisit<S, E extends Exception> extends RecursiveAction {
+
+    private static final long serialVersionUID = -2318764015264356183L;
+
+    private final transient ConfigurationVisitor.Parallel<S, ?, E> visitor;
+    private final transient ConfigurationNode node;
+    private final transient S state;
+    private final int depth;
+    private transient @Nullable Exception failure;
+
+    static <S, T, E extends Exception> T visit(
+        final ConfigurationNode start,
+        final ConfigurationVisitor.Parallel<S, T, E> visitor,
+        final S state,
+        final ForkJoinPool pool
+    ) throws E {
+        visitor.beginVisit(start, state);
+        if (!start.isNull()) { // only visit if we have an actual value
+            final ParallelVisit<S, E> root = new ParallelVisit<>(visitor, start, state, 0);
+            pool.invoke(root);
+            root.rethrow();
+        }
+        return visitor.endVisit(state);
+    }
+
+    private ParallelVisit(final ConfigurationVisitor.Parallel<S, ?, E> visitor, final ConfigurationNode node, final S state, final int depth) {
+        this.visitor = visitor;
+        this.node = node;
+        this.state = state;
+        this.depth = depth;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rethrow() throws E {
+        final @Nullable Exception failure = this.failure;
+        if (failure != null) {
+            throw (E) failure;
+        }
+    }
+
+    @Override
+    protected void compute() {
+        try {
+            this.visitSubtree();
+        } catch (final Exception ex) {
+            this.failure = ex;
+        }
+    }
+
+    /**
+     * Visit the subtree starting at this task's node.
+     *
+     * <p>As in a sequential visit, the subtree is walked with an explicit
+     * stack rather than by recursion, so deep trees cannot overflow the
+     * thread's stack. Only the children of nodes the visitor splits at are
+     * visited by new tasks.</p>
+     *
+     * @throws E when thrown by the visitor
+     */
+    @SuppressWarnings("unchecked")
+    private void visitSubtree() throws E {
+        final ConfigurationVisitor.Parallel<S, ?, E> visitor = this.visitor;
+        final S state = this.state;
+        final VisitStack<ConfigurationNode> toVisit = new VisitStack<>();
+        toVisit.push(this.node, VisitStack.ENTER);
+        int depth = this.depth; // the depth of the next node to enter
+
+        while (!toVisit.isEmpty()) {
+            final byte action = toVisit.peekAction();
+            final ConfigurationNode current = toVisit.pop();
+            try {
+                // handle the node exit if applicable
+                if (action == VisitStack.EXIT_MAP) {
+                    depth--;
+                    visitor.exitMappingNode(current, state);
+                    continue;
+                } else if (action == VisitStack.EXIT_LIST) {
+                    depth--;
+                    visitor.exitListNode(current, state);
+                    continue;
+                }
+
+                visitor.enterNode(current, state);
+                final byte exit;
+                if (current.isMap()) {
+                    visitor.enterMappingNode(current, state);
+                    exit = VisitStack.EXIT_MAP;
+                } else if (current.isList()) {
+                    visitor.enterListNode(current, state);
+                    exit = VisitStack.EXIT_LIST;
+                } else {
+                    if (!current.isNull()) {
+                        visitor.enterScalarNode(current, state);
+                    }
+                    continue;
+                }
+
+                final Collection<? extends ConfigurationNode> children =
+                    exit == VisitStack.EXIT_MAP ? current.childrenMap().values() : current.childrenList();
+                toVisit.push(current, exit);
+                if (children.size() > 1 && visitor.shouldSplit(current, depth)) {
+                    this.visitSplit(current, children, depth + 1);
+                } else {
+                    toVisit.pushChildren(children);
+                }
+                depth++;
+            } catch (final Exception ex) {
+                // Assign an appropriate path to ConfigurateExceptions
+                if (ex instanceof ConfigurateException) {
+                    ((ConfigurateException) ex).initPath(current::path);
+                }
+                throw (E) ex;
+            }
+        }
+    }
+
+    /**
+     * Visit each child of a split node in its own task, then merge their
+     * states into this task's state in visit order.
+     *
+     * @param current the node being split
+     * @param children the children of the node
+     * @param depth the depth of the children
+     * @throws E when thrown by the visitor, or by any child task
+     */
+    @SuppressWarnings("unchecked")
+    private void visitSplit(final ConfigurationNode current, final Collection<? extends ConfigurationNode> children, final int depth) throws E {
+        final ConfigurationVisitor.Parallel<S, ?, E> visitor = this.visitor;
+        final ParallelVisit<?, ?>[] tasks = new ParallelVisit<?, ?>[children.size()];
+        int i = 0;
+        for (final ConfigurationNode child : children) {
+            tasks[i++] = new ParallelVisit<>(visitor, child, visitor.newState(), depth);
+        }
+        ForkJoinTask.invokeAll(Arrays.asList(tasks));
+
+        for (final ParallelVisit<?, ?> task : tasks) {
+            final ParallelVisit<S, E> child = (ParallelVisit<S, E>) task;
+            child.rethrow();
+            visitor.merge(current, this.state, child.state);
+        }
+    }
+
+}
@@ -0,0 +1,305 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.util.UnmodifiableCollections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable storage for the representation hints held by a single node.
+ *
+ * <p>Almost no node carries any hints, so every node starts out sharing the
+ * {@link #empty()} sentinel. Once hints are added, they are stored in a small
+ * array of alternating keys and values, which is replaced as a whole on every
+ * modification. Only once more than {@link #MAX_ARRAY_SIZE} hints are present
+ * is a hashed map allocated.</p>
+ *
+ * <p>As instances are never modified after creation, they can be freely
+ * shared between nodes and returned from {@link ConfigurationNode#ownHints()}
+ * without copying.</p>
+ */
+final class RepresentationHintMap extends AbstractMap<RepresentationHint<?>, Object> {
+
+    /**
+     * The maximum number of hints stored in the flat array form.
+     */
+    static final int MAX_ARRAY_SIZE = 8;
+
+    private static final Map<RepresentationHint<?>, Object> EMPTY = Collections.emptyMap();
+
+    /**
+     * Alternating keys and values.
+     */
+    private final Object[] entries;
+
+    private RepresentationHintMap(final Object[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Get the shared empty hint map.
+     *
+     * @return the empty map
+     */
+    static Map<RepresentationHint<?>, Object> empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create an immutable hint map containing the contents of {@code other}.
+     *
+     * <p>If {@code other} is already an immutable hint map, it is
+     * returned directly.</p>
+     *
+     * @param other the source map
+     * @return an immutable hint map
+     */
+    @SuppressWarnings("unchecked")
+    static Map<RepresentationHint<?>, Object> copyOf(final Map<RepresentationHint<?>, ?> other) {
+        if (isImmutable(other)) {
+            return (Map<RepresentationHint<?>, Object>) other;
+        }
+        return with(EMPTY, other);
+    }
+
+    /**
+     * Return a map with the hint {@code key} set to {@code value}, or removed
+     * if {@code value} is null.
+     *
+     * @param existing the existing hint map
+     * @param key the hint to modify
+     * @param value the new value
+     * @return a hint map with the change applied, or {@code existing} if
+     *     nothing changed
+     */
+    static Map<RepresentationHint<?>, Object> with(
+        final Map<RepresentationHint<?>, Object> existing,
+        final RepresentationHint<?> key,
+        final @Nullable Object value
+    ) {
+        if (existing instanceof RepresentationHintMap) {
+            return ((RepresentationHintMap) existing).with(key, value);
+        } else if (existing.isEmpty()) {
+            return value == null ? existing : new RepresentationHintMap(new Object[] {key, value});
+        }
+
+        // hashed
+        if (value == null ? !existing.containsKey(key) : value.equals(existing.get(key))) {
+            return existing;
+        }
+        final Map<RepresentationHint<?>, Object> copy = new HashMap<>(existing);
+        if (value == null) {
+            copy.remove(key);
+        } else {
+            copy.put(key, value);
+        }
+        return compact(copy);
+    }
+
+    /**
+     * Return a map with every entry in {@code additions} added to
+     * {@code existing}, replacing any existing values.
+     *
+     * @param existing the existing hint map
+     * @param additions hints to add
+     * @return a hint map with all additions applied
+     */
+    static Map<RepresentationHint<?>, Object> with(
+        final Map<RepresentationHint<?>, Object> existing,
+        final Map<RepresentationHint<?>, ?> additions
+    ) {
+        if (additions.isEmpty()) {
+            return existing;
+        } else if (existing.isEmpty() && isImmutable(additions)) {
+            return copyOf(additions);
+        }
+
+        Map<RepresentationHint<?>, Object> result = existing;
+        for (final Map.Entry<RepresentationHint<?>, ?> entry : additions.entrySet()) {
+            result = with(result, entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    private static boolean isImmutable(final Map<?, ?> map) {
+        return map == EMPTY || map instanceof RepresentationHintMap || map instanceof UnmodifiableHashed;
+    }
+
+    private static Map<RepresentationHint<?>, Object> compact(final Map<RepresentationHint<?>, Object> hashed) {
+        if (hashed.isEmpty()) {
+            return EMPTY;
+        } else if (hashed.size() <= MAX_ARRAY_SIZE) {
+            final Object[] entries = new Object[hashed.size() * 2];
+            int idx = 0;
+            for (final Map.Entry<RepresentationHint<?>, Object> entry : hashed.entrySet()) {
+                entries[idx++] = entry.getKey();
+                entries[idx++] = entry.getValue();
+            }
+            return new RepresentationHintMap(entries);
+        } else {
+            return new UnmodifiableHashed(hashed);
+        }
+    }
+
+    private int indexOf(final @Nullable Object key) {
+        final Object[] entries = this.entries;
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i] == key) {
+                return i;
+            }
+        }
+        if (key != null) {
+            for (int i = 0; i < entries.length; i += 2) {
+                if (key.equals(entries[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private Map<RepresentationHint<?>, Object> with(final RepresentationHint<?> key, final @Nullable Object value) {
+        final Object[] entries = this.entries;
+        final int idx = this.indexOf(key);
+        if (value == null) {
+            if (idx == -1) {
+                return this;
+            } else if (entries.length == 2) {
+                return EMPTY;
+            }
+            final Object[] removed = new Object[entries.length - 2];
+            System.arraycopy(entries, 0, removed, 0, idx);
+            System.arraycopy(entries, idx + 2, removed, idx, entries.length - idx - 2);
+            return new RepresentationHintMap(removed);
+        } else if (idx != -1) {
+            if (value.equals(entries[idx + 1])) {
+                return this;
+            }
+            final Object[] replaced = entries.clone();
+            replaced[idx + 1] = value;
+            return new RepresentationHintMap(replaced);
+        } else if (entries.length / 2 < MAX_ARRAY_SIZE) {
+            final Object[] added = new Object[entries.length + 2];
+            System.arraycopy(entries, 0, added, 0, entries.length);
+            added[entries.length] = key;
+            added[entries.length + 1] = value;
+            return new RepresentationHintMap(added);
+        } else {
+            final Map<RepresentationHint<?>, Object> hashed = new HashMap<>(this);
+            hashed.put(key, value);
+            return new UnmodifiableHashed(hashed);
+        }
+    }
+
+    @Override
+    public @Nullable Object get(final @Nullable Object key) {
+        final int idx = this.indexOf(key);
+        return idx == -1 ? null : this.entries[idx + 1];
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return this.indexOf(key) != -1;
+    }
+
+    @Override
+    public int size() {
+        return this.entries.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.entries.length == 0;
+    }
+
+    @Override
+    public Set<Entry<RepresentationHint<?>, Object>> entrySet() {
+        return new AbstractSet<Entry<RepresentationHint<?>, Object>>() {
+            @Override
+            public Iterator<Entry<RepresentationHint<?>, Object>> iterator() {
+                return new Iterator<Entry<RepresentationHint<?>, Object>>() {
+                    private int idx;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.idx < RepresentationHintMap.this.entries.length;
+                    }
+
+                    @Override
+                    public Entry<RepresentationHint<?>, Object> next() {
+                        if (!this.hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final Object[] entries = RepresentationHintMap.this.entries;
+                        final int idx = this.idx;
+                        this.idx += 2;
+                        return UnmodifiableCollections.immutableMapEntry((RepresentationHint<?>) entries[idx], entries[idx + 1]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return RepresentationHintMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * A read-only view of a hashed map, used once a node has more hints
+     * than fit in the array form.
+     */
+    static final class UnmodifiableHashed extends AbstractMap<RepresentationHint<?>, Object> {
+
+        private final Map<RepresentationHint<?>, Object> wrapped;
+
+        UnmodifiableHashed(final Map<RepresentationHint<?>, Object> wrapped) {
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        public @Nullable Object get(final @Nullable Object key) {
+            return this.wrapped.get(key);
+        }
+
+        @Override
+        public boolean containsKey(final @Nullable Object key) {
+            return this.wrapped.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return this.wrapped.size();
+        }
+
+        @Override
+        public Set<Entry<RepresentationHint<?>, Object>> entrySet() {
+            return Collections.unmodifiableMap(this.wrapped).entrySet();
+        }
+
+    }
+
+}
@@ -24,27 +24,71 @@ import java.util.Objects;
 
 /**
  * A {@link ConfigValue} which holds a single ("scalar") value.
+ *
+ * <p>Values of the common primitive wrapper types are stored unboxed in a
+ * specialized subclass, so they can be read and written without allocating.
+ * Generic reads of such a value reuse the last box handed out for as long
+ * as the value is unchanged.
+ * Use {@link #create(AbstractConfigurationNode, Object)} to get the
+ * appropriate representation for a value.</p>
  */
-final class ScalarConfigValue<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> implements ConfigValue<N, A> {
+abstract class ScalarConfigValue<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> implements ConfigValue<N, A> {
+
+    final A holder;
 
-    private final A holder;
-    private volatile @Nullable Object value;
+    /**
+     * Create an empty scalar value able to hold {@code value}, specialized
+     * for its type where possible.
+     *
+     * <p>The value must still be stored with {@link #set(Object)}.</p>
+     *
+     * @param holder the node holding this value
+     * @param value the value that will be stored
+     * @param <N> node type
+     * @param <A> node implementation type
+     * @return a new scalar value
+     */
+    static <N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> ScalarConfigValue<N, A> create(
+        final A holder,
+        final Object value
+    ) {
+        if (value instanceof Integer) {
+            return new OfInt<>(holder);
+        } else if (value instanceof Long) {
+            return new OfLong<>(holder);
+        } else if (value instanceof Double) {
+            return new OfDouble<>(holder);
+        } else if (value instanceof Boolean) {
+            return new OfBoolean<>(holder);
+        } else {
+            return new OfObject<>(holder);
+        }
+    }
 
     ScalarConfigValue(final A holder) {
         this.holder = holder;
     }
 
-    @Override
-    public @Nullable Object get() {
-        return this.value;
-    }
+    /**
+     * Get whether {@code value} can be stored in this value without changing
+     * its representation.
+     *
+     * @param value the candidate value
+     * @return whether {@link #set(Object)} can accept the value
+     */
+    abstract boolean holds(Object value);
 
-    @Override
-    public void set(final @Nullable Object value) {
-        if (value != null && !this.holder.options().acceptsType(value.getClass())) {
-            throw new IllegalArgumentException("Configuration does not accept objects of type " + value.getClass());
+    /**
+     * Ensure a value of {@code type} may be stored in the holder's
+     * configuration.
+     *
+     * @param type the value type
+     * @throws IllegalArgumentException if the type is not accepted
+     */
+    final void checkAccepted(final Class<?> type) {
+        if (!this.holder.options().acceptsType(type)) {
+            throw new IllegalArgumentException("Configuration does not accept objects of type " + type);
         }
-        this.value = value;
     }
 
     @Override
@@ -68,23 +112,12 @@ final class ScalarConfigValue<N extends ScopedConfigurationNode<N>, A extends Ab
     }
 
     @Override
-    public ScalarConfigValue<N, A> copy(final A holder) {
-        final ScalarConfigValue<N, A> copy = new ScalarConfigValue<>(holder);
-        copy.value = this.value;
-        return copy;
-    }
-
-    @Override
-    @SuppressWarnings("checkstyle:UnnecessaryParentheses")
     public boolean isEmpty() {
-        final @Nullable Object value = this.value;
-        return (value instanceof String && ((String) value).isEmpty())
-                || (value instanceof Collection<?> && ((Collection<?>) value).isEmpty());
+        return false;
     }
 
     @Override
     public void clear() {
-        this.value = null;
     }
 
     @Override
@@ -96,17 +129,245 @@ final class ScalarConfigValue<N extends ScopedConfigurationNode<N>, A extends Ab
             return false;
         }
         final ScalarConfigValue<?, ?> that = (ScalarConfigValue<?, ?>) other;
-        return Objects.equals(this.value, that.value);
+        return Objects.equals(this.get(), that.get());
     }
 
     @Override
     public int hashCode() {
-        return 7 + Objects.hashCode(this.value);
+        return 7 + Objects.hashCode(this.get());
     }
 
     @Override
     public String toString() {
-        return "ScalarConfigValue{value=" + this.value + '}';
+        return "ScalarConfigValue{value=" + this.get() + '}';
+    }
+
+    /**
+     * A scalar holding any object that has no specialized representation.
+     */
+    static final class OfObject<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> extends ScalarConfigValue<N, A> {
+
+        private volatile @Nullable Object value;
+
+        OfObject(final A holder) {
+            super(holder);
+        }
+
+        @Override
+        boolean holds(final Object value) {
+            return !(value instanceof Integer
+                || value instanceof Long
+                || value instanceof Double
+                || value instanceof Boolean);
+        }
+
+        @Override
+        public @Nullable Object get() {
+            return this.value;
+        }
+
+        @Override
+        public void set(final @Nullable Object value) {
+            if (value != null) {
+                this.checkAccepted(value.getClass());
+            }
+            this.value = value;
+        }
+
+        @Override
+        public OfObject<N, A> copy(final A holder) {
+            final OfObject<N, A> copy = new OfObject<>(holder);
+            copy.value = this.value;
+            return copy;
+        }
+
+        @Override
+        @SuppressWarnings("checkstyle:UnnecessaryParentheses")
+        public boolean isEmpty() {
+            final @Nullable Object value = this.value;
+            return (value instanceof String && ((String) value).isEmpty())
+                    || (value instanceof Collection<?> && ((Collection<?>) value).isEmpty());
+        }
+
+        @Override
+        public void clear() {
+            this.value = null;
+        }
+
+    }
+
+    /**
+     * A scalar holding an unboxed {@code int}.
+     */
+    static final class OfInt<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> extends ScalarConfigValue<N, A> {
+
+        volatile int value;
+        // last box handed out, reused while it still matches the value
+        private @Nullable Integer boxed;
+
+        OfInt(final A holder) {
+            super(holder);
+        }
+
+        @Override
+        boolean holds(final Object value) {
+            return value instanceof Integer;
+        }
+
+        @Override
+        public Object get() {
+            final int value = this.value;
+            @Nullable Integer boxed = this.boxed;
+            if (boxed == null || boxed.intValue() != value) {
+                boxed = value;
+                this.boxed = boxed;
+            }
+            return boxed;
+        }
+
+        @Override
+        public void set(final @Nullable Object value) {
+            this.checkAccepted(Integer.class);
+            final Integer boxed = (Integer) Objects.requireNonNull(value, "value");
+            this.boxed = boxed;
+            this.value = boxed;
+        }
+
+        @Override
+        public OfInt<N, A> copy(final A holder) {
+            final OfInt<N, A> copy = new OfInt<>(holder);
+            copy.value = this.value;
+            return copy;
+        }
+
+    }
+
+    /**
+     * A scalar holding an unboxed {@code long}.
+     */
+    static final class OfLong<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> extends ScalarConfigValue<N, A> {
+
+        volatile long value;
+        // last box handed out, reused while it still matches the value
+        private @Nullable Long boxed;
+
+        OfLong(final A holder) {
+            super(holder);
+        }
+
+        @Override
+        boolean holds(final Object value) {
+            return value instanceof Long;
+        }
+
+        @Override
+        public Object get() {
+            final long value = this.value;
+            @Nullable Long boxed = this.boxed;
+            if (boxed == null || boxed.longValue() != value) {
+                boxed = value;
+                this.boxed = boxed;
+            }
+            return boxed;
+        }
+
+        @Override
+        public void set(final @Nullable Object value) {
+            this.checkAccepted(Long.class);
+            final Long boxed = (Long) Objects.requireNonNull(value, "value");
+            this.boxed = boxed;
+            this.value = boxed;
+        }
+
+        @Override
+        public OfLong<N, A> copy(final A holder) {
+            final OfLong<N, A> copy = new OfLong<>(holder);
+            copy.value = this.value;
+            return copy;
+        }
+
+    }
+
+    /**
+     * A scalar holding an unboxed {@code double}.
+     */
+    static final class OfDouble<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> extends ScalarConfigValue<N, A> {
+
+        volatile double value;
+        // last box handed out, reused while it still matches the value
+        private @Nullable Double boxed;
+
+        OfDouble(final A holder) {
+            super(holder);
+        }
+
+        @Override
+        boolean holds(final Object value) {
+            return value instanceof Double;
+        }
+
+        @Override
+        public Object get() {
+            final double value = this.value;
+            @Nullable Double boxed = this.boxed;
+            if (boxed == null || Double.doubleToRawLongBits(boxed) != Double.doubleToRawLongBits(value)) {
+                boxed = value;
+                this.boxed = boxed;
+            }
+            return boxed;
+        }
+
+        @Override
+        public void set(final @Nullable Object value) {
+            this.checkAccepted(Double.class);
+            final Double boxed = (Double) Objects.requireNonNull(value, "value");
+            this.boxed = boxed;
+            this.value = boxed;
+        }
+
+        @Override
+        public OfDouble<N, A> copy(final A holder) {
+            final OfDouble<N, A> copy = new OfDouble<>(holder);
+            copy.value = this.value;
+            return copy;
+        }
+
+    }
+
+    /**
+     * A scalar holding an unboxed {@code boolean}.
+     */
+    static final class OfBoolean<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> extends ScalarConfigValue<N, A> {
+
+        volatile boolean value;
+
+        OfBoolean(final A holder) {
+            super(holder);
+        }
+
+        @Override
+        boolean holds(final Object value) {
+            return value instanceof Boolean;
+        }
+
+        @Override
+        public Object get() {
+            return this.value;
+        }
+
+        @Override
+        public void set(final @Nullable Object value) {
+            this.checkAccepted(Boolean.class);
+            this.value = (Boolean) Objects.requireNonNull(value, "value");
+        }
+
+        @Override
+        public OfBoolean<N, A> copy(final A holder) {
+            final OfBoolean<N, A> copy = new OfBoolean<>(holder);
+            copy.value = this.value;
+            return copy;
+        }
+
     }
 
 }
@@ -74,6 +74,18 @@ public interface ScopedConfigurationNode<N extends ScopedConfigurationNode<N>> e
     @Override
     N node(Iterable<?> path);
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable N find(Object... path);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable N find(Iterable<?> path);
+
     /**
      * {@inheritDoc}
      */
@@ -185,12 +197,50 @@ public interface ScopedConfigurationNode<N extends ScopedConfigurationNode<N>> e
         return this.self();
     }
 
+    @Override
+    default <E extends Exception> N setList(final int size, final CheckedConsumer<? super ConfigurationNode, E> writer) throws E {
+        ConfigurationNode.super.setList(size, writer);
+        return this.self();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     N raw(@Nullable Object value);
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default N rawInt(final int value) {
+        return this.raw(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default N rawLong(final long value) {
+        return this.raw(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default N rawDouble(final double value) {
+        return this.raw(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default N rawBoolean(final boolean value) {
+        return this.raw(value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,98 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A stack of pending events for an iterative visit of a node tree.
+ *
+ * <p>Each entry is a node and the action to take on it: either entering the
+ * node, or exiting a container node whose children have all been visited.
+ * Entries are stored in parallel arrays, so pushing a node does not
+ * allocate a wrapper object.</p>
+ *
+ * @param <T> the node type
+ */
+final class VisitStack<T> {
+
+    static final byte ENTER = 0;
+    static final byte EXIT_MAP = 1;
+    static final byte EXIT_LIST = 2;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private @Nullable Object[] nodes = new Object[INITIAL_CAPACITY];
+    private byte[] actions = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    void push(final T node, final byte action) {
+        if (this.size == this.nodes.length) {
+            final int newCapacity = this.size << 1;
+            this.nodes = Arrays.copyOf(this.nodes, newCapacity);
+            this.actions = Arrays.copyOf(this.actions, newCapacity);
+        }
+        this.nodes[this.size] = node;
+        this.actions[this.size++] = action;
+    }
+
+    /**
+     * Push every node in {@code children} to be entered, so that they will
+     * be popped in iteration order.
+     *
+     * @param children the nodes to push
+     */
+    void pushChildren(final Iterable<? extends T> children) {
+        final int start = this.size;
+        for (final T child : children) {
+            this.push(child, ENTER);
+        }
+
+        // reverse the added elements in place
+        final @Nullable Object[] nodes = this.nodes;
+        for (int low = start, high = this.size - 1; low < high; ++low, --high) {
+            final @Nullable Object temp = nodes[low];
+            nodes[low] = nodes[high];
+            nodes[high] = temp;
+        }
+    }
+
+    /**
+     * Get the action for the node at the top of the stack.
+     *
+     * <p>This must be called before {@link #pop()}.</p>
+     *
+     * @return the action
+     */
+    byte peekAction() {
+        return this.actions[this.size - 1];
+    }
+
+    @SuppressWarnings("unchecked")
+    T pop() {
+        final @Nullable Object node = this.nodes[--this.size];
+        this.nodes[this.size] = null; // don't retain visited nodes
+        return (T) node;
+    }
+
+}
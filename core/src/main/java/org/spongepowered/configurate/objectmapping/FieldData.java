@@ -16,10 +16,8 @@
  */
 package org.spongepowered.configurate.objectmapping;
 
-import static io.leangen.geantyref.GenericTypeReflector.box;
-import static io.leangen.geantyref.GenericTypeReflector.erase;
-
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.objectmapping.meta.Constraint;
@@ -27,10 +25,14 @@ import org.spongepowered.configurate.objectmapping.meta.NodeResolver;
 import org.spongepowered.configurate.objectmapping.meta.Processor;
 import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.configurate.serialize.TypeSerializer;
+import org.spongepowered.configurate.serialize.TypeSerializerCollection;
 import org.spongepowered.configurate.util.CheckedFunction;
+import org.spongepowered.configurate.util.ResolvedType;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.AnnotatedType;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -88,6 +90,17 @@ public abstract class FieldData<I, O> {
      */
     public abstract AnnotatedType resolvedType();
 
+    /**
+     * The calculated type of this field, canonicalized once for use when
+     * loading and saving every instance.
+     *
+     * @return the canonicalized resolved type
+     */
+    @Memoized
+    ResolvedType canonicalType() {
+        return ResolvedType.of(this.resolvedType());
+    }
+
     abstract List<Constraint<?>> constraints();
 
     abstract List<Processor<?>> processors();
@@ -123,7 +136,7 @@ public abstract class FieldData<I, O> {
      */
     @SuppressWarnings("unchecked")
     public void validate(final @Nullable Object instance) throws SerializationException {
-        if (instance != null && !erase(box(resolvedType().getType())).isInstance(instance)) {
+        if (instance != null && !this.canonicalType().erased().isInstance(instance)) {
             throw new SerializationException("Object " + instance + " is not of expected type " + resolvedType().getType());
         }
 
@@ -132,11 +145,30 @@ public abstract class FieldData<I, O> {
         }
     }
 
+    /**
+     * Serializers resolved for this field's type, by the collection they were
+     * resolved from.
+     *
+     * @return the serializer cache
+     */
+    @Memoized
+    SerializerCache serializerCache() {
+        return new SerializerCache();
+    }
+
     TypeSerializer<?> serializerFrom(final ConfigurationNode node) throws SerializationException {
-        final @Nullable TypeSerializer<?> serial = node.options().serializers().get(resolvedType());
+        final TypeSerializerCollection serializers = node.options().serializers();
+        final SerializerCache cache = this.serializerCache();
+        final @Nullable TypeSerializer<?> cached = cache.get(serializers);
+        if (cached != null) {
+            return cached;
+        }
+
+        final @Nullable TypeSerializer<?> serial = serializers.get(this.canonicalType());
         if (serial == null) {
             throw new SerializationException("No TypeSerializer found for field " + name() + " of type " + resolvedType().getType());
         }
+        cache.put(serializers, serial);
         return serial;
     }
 
@@ -151,6 +183,66 @@ public abstract class FieldData<I, O> {
         return this.nodeResolver().resolve(source);
     }
 
+    /**
+     * A cache of the serializers resolved for a single field, keyed by the
+     * identity of the collection they were resolved from.
+     *
+     * <p>Nearly every field is only ever loaded and saved with one collection,
+     * so the most recent result is checked first. Results for other
+     * collections are kept in a small fallback table. Collections are only
+     * weakly referenced.</p>
+     */
+    static final class SerializerCache {
+
+        private static final int MAX_FALLBACK = 8;
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        private volatile @Nullable Entry last;
+        private volatile Entry[] fallback = NO_ENTRIES;
+
+        @Nullable TypeSerializer<?> get(final TypeSerializerCollection collection) {
+            final @Nullable Entry last = this.last;
+            if (last != null && last.collection.get() == collection) {
+                return last.serializer;
+            }
+
+            for (final Entry entry : this.fallback) {
+                if (entry.collection.get() == collection) {
+                    this.last = entry;
+                    return entry.serializer;
+                }
+            }
+            return null;
+        }
+
+        synchronized void put(final TypeSerializerCollection collection, final TypeSerializer<?> serializer) {
+            final Entry created = new Entry(collection, serializer);
+            final List<Entry> entries = new ArrayList<>(this.fallback.length + 1);
+            for (final Entry entry : this.fallback) {
+                final @Nullable TypeSerializerCollection existing = entry.collection.get();
+                if (existing != null && existing != collection) {
+                    entries.add(entry);
+                }
+            }
+            if (entries.size() < MAX_FALLBACK) {
+                entries.add(created);
+            }
+            this.fallback = entries.toArray(NO_ENTRIES);
+            this.last = created;
+        }
+
+        static final class Entry {
+            final WeakReference<TypeSerializerCollection> collection;
+            final TypeSerializer<?> serializer;
+
+            Entry(final TypeSerializerCollection collection, final TypeSerializer<?> serializer) {
+                this.collection = new WeakReference<>(collection);
+                this.serializer = serializer;
+            }
+        }
+
+    }
+
     /**
      * A deserialization handler to appropriately place object data into fields.
      *
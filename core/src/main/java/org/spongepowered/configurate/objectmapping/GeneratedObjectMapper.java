@@ -0,0 +1,422 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping;
+
+import static io.leangen.geantyref.GenericTypeReflector.box;
+import static io.leangen.geantyref.GenericTypeReflector.isSuperType;
+
+import io.leangen.geantyref.AnnotationFormatException;
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.geantyref.TypeFactory;
+import io.leangen.geantyref.TypeToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Constraint;
+import org.spongepowered.configurate.objectmapping.meta.Matches;
+import org.spongepowered.configurate.objectmapping.meta.NodeResolver;
+import org.spongepowered.configurate.objectmapping.meta.PostProcessor;
+import org.spongepowered.configurate.objectmapping.meta.Processor;
+import org.spongepowered.configurate.objectmapping.meta.Required;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.util.CheckedConsumer;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An object mapper created ahead of time by the Configurate
+ * annotation processor.
+ *
+ * <p>Generated mappers access fields directly, and have their node keys,
+ * comments and constraints computed at compile time, so creating one does
+ * not require inspecting the mapped type. Loading and saving behave exactly
+ * as they would for a mapper discovered at runtime.</p>
+ *
+ * <p>Generated mappers are only used by the default
+ * {@link ObjectMapper#factory() factory}. Factories with a custom
+ * configuration may resolve fields differently, so they always discover
+ * fields themselves.</p>
+ *
+ * <p>This class is only intended to be extended by generated code.</p>
+ *
+ * @param <V> the mapped type
+ * @since 4.2.0
+ */
+public abstract class GeneratedObjectMapper<V> implements ObjectMapper.Mutable<V> {
+
+    /**
+     * The suffix appended to the name of a mapped class to find its
+     * generated mapper.
+     *
+     * <p>The mapper for a class {@code Outer.Inner} in the package
+     * {@code com.example} would be
+     * {@code com.example.Outer_Inner_ObjectMapper}.</p>
+     *
+     * @since 4.2.0
+     */
+    public static final String SUFFIX = "_ObjectMapper";
+
+    private final ObjectMapperImpl.Mutable<@Nullable Object[], V> delegate;
+
+    /**
+     * Create a new generated mapper.
+     *
+     * @param type the mapped type
+     * @param constructor a function creating new instances of the mapped type
+     * @param fields the mapped fields, in the order they are mapped
+     * @since 4.2.0
+     */
+    protected GeneratedObjectMapper(final Class<V> type, final Supplier<V> constructor, final List<? extends Field<V, ?>> fields) {
+        this(type, constructor, fields, Collections.emptyList());
+    }
+
+    /**
+     * Create a new generated mapper with post-processing methods.
+     *
+     * @param type the mapped type
+     * @param constructor a function creating new instances of the mapped type
+     * @param fields the mapped fields, in the order they are mapped
+     * @param postProcessors methods to call on each newly loaded object
+     * @since 4.2.0
+     */
+    @SuppressWarnings("unchecked")
+    protected GeneratedObjectMapper(final Class<V> type, final Supplier<V> constructor, final List<? extends Field<V, ?>> fields,
+            final List<? extends PostProcessMethod<V>> postProcessors) {
+        final List<FieldData<@Nullable Object[], V>> data = new ArrayList<>(fields.size());
+        final List<Field<V, Object>> accessors = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); ++i) {
+            final int index = i;
+            final Field<V, Object> field = (Field<V, Object>) fields.get(i);
+            accessors.add(field);
+            data.add(FieldData.of(field.name, field.type, field.constraints, field.processors,
+                (intermediate, val, implicitProvider) -> {
+                    if (val != null) {
+                        intermediate[index] = val;
+                    } else {
+                        intermediate[index] = new ObjectFieldDiscoverer.ImplicitProvider(implicitProvider);
+                    }
+                }, field.getter::apply, field.resolver));
+        }
+
+        this.delegate = new ObjectMapperImpl.Mutable<>(type, data, new FieldDiscoverer.MutableInstanceFactory<@Nullable Object[]>() {
+
+            @Override
+            public @Nullable Object[] begin() {
+                return new Object[accessors.size()];
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void complete(final Object instance, final @Nullable Object[] intermediate) {
+                for (int i = 0; i < intermediate.length; ++i) {
+                    final @Nullable Object value = intermediate[i];
+                    if (value == null) { // not loaded
+                        continue;
+                    }
+
+                    final Field<V, Object> accessor = accessors.get(i);
+                    if (value instanceof ObjectFieldDiscoverer.ImplicitProvider) {
+                        final @Nullable Object implicit = ((ObjectFieldDiscoverer.ImplicitProvider) value).provider.get();
+                        if (implicit != null && accessor.getter.apply((V) instance) == null) {
+                            accessor.setter.accept((V) instance, implicit);
+                        }
+                    } else {
+                        accessor.setter.accept((V) instance, value);
+                    }
+                }
+            }
+
+            @Override
+            public Object complete(final @Nullable Object[] intermediate) {
+                final V instance = constructor.get();
+                this.complete(instance, intermediate);
+                return instance;
+            }
+
+            @Override
+            public boolean canCreateInstances() {
+                return true;
+            }
+
+        }, postProcessors(type, new ArrayList<>(postProcessors)));
+    }
+
+    /**
+     * Call each post-processing method, collecting failures in the same way
+     * as {@link PostProcessor#methodsAnnotated(Class)}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> List<PostProcessor> postProcessors(final Type type, final List<PostProcessMethod<V>> methods) {
+        if (methods.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return Collections.singletonList(instance -> {
+            @Nullable SerializationException aggregateException = null;
+            for (final PostProcessMethod<V> method : methods) {
+                SerializationException exc;
+                try {
+                    method.method.accept((V) instance);
+                    continue;
+                } catch (final SerializationException ex) {
+                    exc = ex;
+                    exc.initType(type);
+                } catch (final RuntimeException ex) {
+                    exc = new SerializationException(type, "Failure occurred in post-processor method " + method.name + "()", ex);
+                }
+
+                if (aggregateException == null) {
+                    aggregateException = exc;
+                } else {
+                    aggregateException.addSuppressed(exc);
+                }
+            }
+
+            if (aggregateException != null) {
+                throw aggregateException;
+            }
+        });
+    }
+
+    /**
+     * Create a field of a generated mapper.
+     *
+     * @param name the name of the field
+     * @param key the key of the node holding the field's value, or
+     *     {@code null} to read the field from its containing node
+     * @param type the type of the field
+     * @param getter a function reading the field
+     * @param setter a function writing the field
+     * @param <V> the mapped type
+     * @param <T> the field type
+     * @return a new field
+     * @since 4.2.0
+     */
+    protected static <V, T> Field<V, T> field(final String name, final @Nullable String key, final Class<T> type,
+            final Function<V, @Nullable T> getter, final BiConsumer<V, T> setter) {
+        return new Field<>(name, key, GenericTypeReflector.annotate(type), getter, setter);
+    }
+
+    /**
+     * Create a field of a generated mapper with a parameterized type.
+     *
+     * @param name the name of the field
+     * @param key the key of the node holding the field's value, or
+     *     {@code null} to read the field from its containing node
+     * @param type the type of the field
+     * @param getter a function reading the field
+     * @param setter a function writing the field
+     * @param <V> the mapped type
+     * @param <T> the field type
+     * @return a new field
+     * @since 4.2.0
+     */
+    protected static <V, T> Field<V, T> field(final String name, final @Nullable String key, final TypeToken<T> type,
+            final Function<V, @Nullable T> getter, final BiConsumer<V, T> setter) {
+        return new Field<>(name, key, type.getAnnotatedType(), getter, setter);
+    }
+
+    /**
+     * Create a post-processing method of a generated mapper.
+     *
+     * @param name the name of the method, used in error messages
+     * @param method a function calling the method
+     * @param <V> the mapped type
+     * @return a new post-processing method
+     * @see org.spongepowered.configurate.objectmapping.meta.PostProcess
+     * @since 4.2.0
+     */
+    protected static <V> PostProcessMethod<V> postProcessor(final String name, final CheckedConsumer<V, SerializationException> method) {
+        return new PostProcessMethod<>(name, method);
+    }
+
+    @Override
+    public V load(final ConfigurationNode source) throws SerializationException {
+        return this.delegate.load(source);
+    }
+
+    @Override
+    public void load(final V value, final ConfigurationNode node) throws SerializationException {
+        this.delegate.load(value, node);
+    }
+
+    @Override
+    public void save(final V value, final ConfigurationNode target) throws SerializationException {
+        this.delegate.save(value, target);
+    }
+
+    @Override
+    public List<? extends FieldData<?, V>> fields() {
+        return this.delegate.fields();
+    }
+
+    @Override
+    public Type mappedType() {
+        return this.delegate.mappedType();
+    }
+
+    @Override
+    public boolean canCreateInstances() {
+        return true;
+    }
+
+    /**
+     * Find the generated mapper for a class, if one exists.
+     *
+     * @param type the mapped class
+     * @return a new generated mapper, or null if none is available
+     */
+    static @Nullable ObjectMapper<?> find(final Class<?> type) {
+        if (type.isPrimitive() || type.isArray()) {
+            return null;
+        }
+
+        final String name = type.getName();
+        final int packageEnd = name.lastIndexOf('.');
+        final String generatedName = name.substring(0, packageEnd + 1) + name.substring(packageEnd + 1).replace('$', '_') + SUFFIX;
+        try {
+            final Class<?> generated = Class.forName(generatedName, false, type.getClassLoader());
+            if (!GeneratedObjectMapper.class.isAssignableFrom(generated)) {
+                return null;
+            }
+            final ObjectMapper<?> mapper = (ObjectMapper<?>) generated.getConstructor().newInstance();
+            return mapper.mappedType().equals(type) ? mapper : null;
+        } catch (final ReflectiveOperationException | LinkageError ignore) {
+            return null;
+        }
+    }
+
+    /**
+     * A single field of a generated mapper.
+     *
+     * @param <V> the mapped type
+     * @param <T> the field type
+     * @since 4.2.0
+     */
+    public static final class Field<V, T> {
+
+        final String name;
+        final AnnotatedType type;
+        final Function<V, @Nullable T> getter;
+        final BiConsumer<V, T> setter;
+        final NodeResolver resolver;
+        final List<Constraint<?>> constraints = new ArrayList<>();
+        final List<Processor<?>> processors = new ArrayList<>();
+
+        Field(final String name, final @Nullable String key, final AnnotatedType type,
+                final Function<V, @Nullable T> getter, final BiConsumer<V, T> setter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+            this.resolver = key == null ? node -> node : node -> node.node(key);
+        }
+
+        /**
+         * Apply a comment to the field's node on save.
+         *
+         * @param comment the comment
+         * @param override whether to replace any existing comment
+         * @return this field
+         * @see org.spongepowered.configurate.objectmapping.meta.Comment
+         * @since 4.2.0
+         */
+        public Field<V, T> comment(final String comment, final boolean override) {
+            final Map<String, Object> values = new HashMap<>();
+            values.put("value", comment);
+            values.put("override", override);
+            this.processors.add(Processor.comments().make(annotation(Comment.class, values), this.type.getType()));
+            return this;
+        }
+
+        /**
+         * Require the field to have a value.
+         *
+         * @return this field
+         * @see org.spongepowered.configurate.objectmapping.meta.Required
+         * @since 4.2.0
+         */
+        public Field<V, T> required() {
+            this.constraints.add(Constraint.required().make(annotation(Required.class, Collections.emptyMap()), this.type.getType()));
+            return this;
+        }
+
+        /**
+         * Require the field's value to match a pattern.
+         *
+         * <p>As with mappers discovered at runtime, this only applies to
+         * fields holding a {@link String}.</p>
+         *
+         * @param pattern the pattern to match
+         * @param flags the pattern's flags
+         * @param failureMessage the message for values that don't match
+         * @return this field
+         * @see org.spongepowered.configurate.objectmapping.meta.Matches
+         * @since 4.2.0
+         */
+        public Field<V, T> matches(final String pattern, final int flags, final String failureMessage) {
+            if (!isSuperType(String.class, box(this.type.getType()))) {
+                return this;
+            }
+
+            final Map<String, Object> values = new HashMap<>();
+            values.put("value", pattern);
+            values.put("flags", flags);
+            values.put("failureMessage", failureMessage);
+            this.constraints.add(Constraint.pattern().make(annotation(Matches.class, values), this.type.getType()));
+            return this;
+        }
+
+        private static <A extends Annotation> A annotation(final Class<A> type, final Map<String, Object> values) {
+            try {
+                return TypeFactory.annotation(type, values);
+            } catch (final AnnotationFormatException ex) {
+                throw new IllegalArgumentException(ex);
+            }
+        }
+
+    }
+
+    /**
+     * A single post-processing method of a generated mapper.
+     *
+     * @param <V> the mapped type
+     * @since 4.2.0
+     */
+    public static final class PostProcessMethod<V> {
+
+        final String name;
+        final CheckedConsumer<V, SerializationException> method;
+
+        PostProcessMethod(final String name, final CheckedConsumer<V, SerializationException> method) {
+            this.name = name;
+            this.method = method;
+        }
+
+    }
+
+}
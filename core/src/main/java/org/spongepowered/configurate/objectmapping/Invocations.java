@@ -0,0 +1,49 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping;
+
+/**
+ * Helpers for calling method handles from code that can only throw
+ * exceptions.
+ */
+final class Invocations {
+
+    private Invocations() {
+    }
+
+    /**
+     * Get the exception to throw for something thrown by a method handle
+     * invocation.
+     *
+     * <p>Errors are rethrown directly and exceptions are returned as-is.
+     * Any other throwable is wrapped in an
+     * {@link IllegalStateException}.</p>
+     *
+     * @param thrown the caught throwable
+     * @return the exception to throw
+     */
+    static Exception propagate(final Throwable thrown) {
+        if (thrown instanceof Error) {
+            throw (Error) thrown;
+        } else if (thrown instanceof Exception) {
+            return (Exception) thrown;
+        } else {
+            return new IllegalStateException(thrown);
+        }
+    }
+
+}
@@ -19,22 +19,30 @@ package org.spongepowered.configurate.objectmapping;
 import static io.leangen.geantyref.GenericTypeReflector.erase;
 import static io.leangen.geantyref.GenericTypeReflector.getExactSuperType;
 import static io.leangen.geantyref.GenericTypeReflector.getFieldType;
+import static org.spongepowered.configurate.objectmapping.Invocations.propagate;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.configurate.util.CheckedFunction;
 import org.spongepowered.configurate.util.Types;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
-class ObjectFieldDiscoverer implements FieldDiscoverer<Map<Field, Object>> {
+class ObjectFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]> {
+
+    private static final MethodHandles.Lookup OWN_LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
 
     static final ObjectFieldDiscoverer EMPTY_CONSTRUCTOR_INSTANCE = new ObjectFieldDiscoverer(type -> {
         try {
@@ -72,8 +80,8 @@ class ObjectFieldDiscoverer implements FieldDiscoverer<Map<Field, Object>> {
     }
 
     @Override
-    public <V> @Nullable InstanceFactory<Map<Field, Object>> discover(final AnnotatedType target,
-            final FieldCollector<Map<Field, Object>, V> collector) throws SerializationException {
+    public <V> @Nullable InstanceFactory<@Nullable Object[]> discover(final AnnotatedType target,
+            final FieldCollector<@Nullable Object[], V> collector) throws SerializationException {
         final Class<?> clazz = erase(target.getType());
         if (clazz.isInterface()) {
             throw new SerializationException(target.getType(), "ObjectMapper can only work with concrete types");
@@ -84,47 +92,61 @@ class ObjectFieldDiscoverer implements FieldDiscoverer<Map<Field, Object>> {
             return null;
         }
 
+        final List<FieldAccessor> fields = new ArrayList<>();
         AnnotatedType collectType = target;
         Class<?> collectClass = clazz;
         while (true) {
-            collectFields(collectType, collector);
+            try {
+                collectFields(collectType, collector, fields);
+            } catch (final IllegalAccessException ex) {
+                throw new SerializationException(collectType.getType(), "Unable to access field in type", ex);
+            }
+
             collectClass = collectClass.getSuperclass();
             if (collectClass.equals(Object.class)) {
                 break;
             }
             collectType = getExactSuperType(collectType, collectClass);
         }
+        final FieldAccessor[] accessors = fields.toArray(new FieldAccessor[0]);
 
-        return new MutableInstanceFactory<Map<Field, Object>>() {
+        return new MutableInstanceFactory<@Nullable Object[]>() {
 
             @Override
-            public Map<Field, Object> begin() {
-                return new HashMap<>();
+            public @Nullable Object[] begin() {
+                return new Object[accessors.length];
             }
 
             @Override
-            public void complete(final Object instance, final Map<Field, Object> intermediate) throws SerializationException {
-                for (final Map.Entry<Field, Object> entry : intermediate.entrySet()) {
+            public void complete(final Object instance, final @Nullable Object[] intermediate) throws SerializationException {
+                for (int i = 0; i < accessors.length; ++i) {
+                    final @Nullable Object value = intermediate[i];
+                    if (value == null) { // not loaded
+                        continue;
+                    }
+
                     try {
                         // Handle implicit field initialization by detecting any existing information in the object
-                        if (entry.getValue() instanceof ImplicitProvider) {
-                            final @Nullable Object implicit = ((ImplicitProvider) entry.getValue()).provider.get();
+                        if (value instanceof ImplicitProvider) {
+                            final @Nullable Object implicit = ((ImplicitProvider) value).provider.get();
                             if (implicit != null) {
-                                if (entry.getKey().get(instance) == null) {
-                                    entry.getKey().set(instance, implicit);
+                                if (accessors[i].get(instance) == null) {
+                                    accessors[i].set(instance, implicit);
                                 }
                             }
                         } else {
-                            entry.getKey().set(instance, entry.getValue());
+                            accessors[i].set(instance, value);
                         }
-                    } catch (final IllegalAccessException e) {
-                        throw new SerializationException(target.getType(), e);
+                    } catch (final RuntimeException ex) {
+                        throw ex;
+                    } catch (final Exception ex) {
+                        throw new SerializationException(target.getType(), ex);
                     }
                 }
             }
 
             @Override
-            public Object complete(final Map<Field, Object> intermediate) throws SerializationException {
+            public Object complete(final @Nullable Object[] intermediate) throws SerializationException {
                 final Object instance = maker == null ? null : maker.get();
                 if (instance == null) {
                     throw new SerializationException(target.getType(), ObjectFieldDiscoverer.this.instanceUnavailableErrorMessage);
@@ -141,23 +163,65 @@ class ObjectFieldDiscoverer implements FieldDiscoverer<Map<Field, Object>> {
         };
     }
 
-    private void collectFields(final AnnotatedType clazz, final FieldCollector<Map<Field, Object>, ?> fieldMaker) {
+    private void collectFields(
+        final AnnotatedType clazz,
+        final FieldCollector<@Nullable Object[], ?> fieldMaker,
+        final List<FieldAccessor> fields
+    ) throws IllegalAccessException {
         for (final Field field : erase(clazz.getType()).getDeclaredFields()) {
             if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) != 0) {
                 continue;
             }
 
             field.setAccessible(true);
+            final int index = fields.size();
+            final FieldAccessor accessor = new FieldAccessor(field);
+            fields.add(accessor);
             final AnnotatedType fieldType = getFieldType(field, clazz);
             fieldMaker.accept(field.getName(), fieldType, Types.combinedAnnotations(fieldType, field),
                               (intermediate, val, implicitProvider) -> {
                     if (val != null) {
-                        intermediate.put(field, val);
+                        intermediate[index] = val;
                     } else {
-                        intermediate.put(field, new ImplicitProvider(implicitProvider));
+                        intermediate[index] = new ImplicitProvider(implicitProvider);
                     }
-                }, field::get);
+                }, accessor::get);
+        }
+    }
+
+    /**
+     * Method handles to read and write a single field.
+     *
+     * <p>Handles are adapted to plain {@link Object} signatures up front,
+     * so each access is an exact invocation the JIT can inline.</p>
+     */
+    static final class FieldAccessor {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        FieldAccessor(final Field field) throws IllegalAccessException {
+            // unreflecting an accessible field allows writing final fields, as Field.set does
+            this.getter = OWN_LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+            this.setter = OWN_LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
         }
+
+        @Nullable Object get(final Object instance) throws Exception {
+            try {
+                return (Object) this.getter.invokeExact(instance);
+            } catch (final Throwable ex) {
+                throw propagate(ex);
+            }
+        }
+
+        void set(final Object instance, final Object value) throws Exception {
+            try {
+                this.setter.invokeExact(instance, value);
+            } catch (final Throwable ex) {
+                throw propagate(ex);
+            }
+        }
+
     }
 
     static class ImplicitProvider {
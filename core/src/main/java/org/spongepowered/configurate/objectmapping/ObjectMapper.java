@@ -67,6 +67,8 @@ public interface ObjectMapper<V> {
      *     constraints</li>
      *     <li>processes {@link org.spongepowered.configurate.objectmapping.meta.Comment}
      *     annotations</li>
+     *     <li>prefers a {@link GeneratedObjectMapper} for a class, when the
+     *     annotation processor has created one</li>
      * </ul>
      *
      * @return default factory
@@ -241,6 +243,19 @@ public interface ObjectMapper<V> {
          */
         TypeSerializer<Object> asTypeSerializer();
 
+        /**
+         * Get statistics about the cache of object mappers created by
+         * this factory.
+         *
+         * <p>Factories that don't cache mappers report no activity.</p>
+         *
+         * @return a snapshot of the cache statistics
+         * @since 4.2.0
+         */
+        default CacheStatistics cacheStatistics() {
+            return new CacheStatistics(0, 0, 0, 0);
+        }
+
         /**
          * A builder for a configured factory producing object mappers.
          *
@@ -399,6 +414,27 @@ public interface ObjectMapper<V> {
              */
             Builder addPostProcessor(PostProcessor.Factory factory);
 
+            /**
+             * Set the maximum number of object mappers for parameterized types
+             * the factory will cache.
+             *
+             * <p>Mappers for plain classes loaded alongside or below
+             * Configurate are attached to their class, and are kept for as
+             * long as the class is loaded regardless of this capacity.
+             * Other classes count against the capacity, so their mappers
+             * don't keep Configurate loaded.</p>
+             *
+             * <p>Builders for factories that don't cache mappers ignore
+             * the capacity.</p>
+             *
+             * @param capacity the cache capacity, must be positive
+             * @return this builder
+             * @since 4.2.0
+             */
+            default Builder cacheCapacity(final int capacity) {
+                return this;
+            }
+
             /**
              * Create a new factory using the current configuration.
              *
@@ -409,6 +445,82 @@ public interface ObjectMapper<V> {
 
         }
 
+        /**
+         * A snapshot of the state of a factory's mapper cache.
+         *
+         * @since 4.2.0
+         */
+        final class CacheStatistics {
+
+            private final long hits;
+            private final long misses;
+            private final long rebuilds;
+            private final long evictions;
+
+            CacheStatistics(final long hits, final long misses, final long rebuilds, final long evictions) {
+                this.hits = hits;
+                this.misses = misses;
+                this.rebuilds = rebuilds;
+                this.evictions = evictions;
+            }
+
+            /**
+             * Get the number of lookups answered from the cache.
+             *
+             * @return the hit count
+             * @since 4.2.0
+             */
+            public long hits() {
+                return this.hits;
+            }
+
+            /**
+             * Get the number of lookups that had to create a new mapper.
+             *
+             * @return the miss count
+             * @since 4.2.0
+             */
+            public long misses() {
+                return this.misses;
+            }
+
+            /**
+             * Get the number of misses for types whose mapper had previously
+             * been evicted from the cache.
+             *
+             * <p>These are included in the {@link #misses()} count. A high
+             * number of rebuilds suggests the cache capacity is too low.</p>
+             *
+             * @return the rebuild count
+             * @since 4.2.0
+             */
+            public long rebuilds() {
+                return this.rebuilds;
+            }
+
+            /**
+             * Get the number of mappers evicted to stay within the
+             * cache capacity.
+             *
+             * @return the eviction count
+             * @since 4.2.0
+             */
+            public long evictions() {
+                return this.evictions;
+            }
+
+            @Override
+            public String toString() {
+                return "CacheStatistics{"
+                    + "hits=" + this.hits
+                    + ", misses=" + this.misses
+                    + ", rebuilds=" + this.rebuilds
+                    + ", evictions=" + this.evictions
+                    + '}';
+            }
+
+        }
+
     }
 
 }
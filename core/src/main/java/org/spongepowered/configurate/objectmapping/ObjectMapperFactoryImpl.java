@@ -50,32 +50,45 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Factory for a basic {@link ObjectMapper}.
  */
 final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSerializer<Object> {
 
-    private static final int MAXIMUM_MAPPERS_SIZE = 64;
-
-    private final Map<Type, ObjectMapper<?>> mappers = new LinkedHashMap<Type, ObjectMapper<?>>() {
-        private static final long serialVersionUID = 1838651306004330732L;
+    static final int DEFAULT_CACHE_CAPACITY = 256;
+    private static final @Nullable ClassLoader OWN_LOADER = ObjectMapperFactoryImpl.class.getClassLoader();
 
+    private final ClassValue<ClassMapper> classMappers = new ClassValue<ClassMapper>() {
         @Override
-        protected boolean removeEldestEntry(final Map.Entry<Type, ObjectMapper<?>> eldest) {
-            return size() > MAXIMUM_MAPPERS_SIZE;
+        protected ClassMapper computeValue(final Class<?> type) {
+            return new ClassMapper();
         }
     };
+    private final Map<Type, ObjectMapper<?>> typeMappers = new ConcurrentHashMap<>();
+    private final Set<Type> evicted = ConcurrentHashMap.newKeySet();
+    private final int cacheCapacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
     private final List<NodeResolver.Factory> resolverFactories;
     private final List<FieldDiscoverer<?>> fieldDiscoverers;
     private final Map<Class<? extends Annotation>, List<Definition<?, ?, ? extends Constraint.Factory<?, ?>>>> constraints;
     private final Map<Class<? extends Annotation>, List<Definition<?, ?, ? extends Processor.AdvancedFactory<?, ?>>>> processors;
     private final List<PostProcessor.Factory> postProcessors;
+    private final boolean useGenerated;
 
-    ObjectMapperFactoryImpl(final Builder builder) {
+    ObjectMapperFactoryImpl(final Builder builder, final boolean useGenerated) {
+        this.cacheCapacity = builder.cacheCapacity;
+        this.useGenerated = useGenerated;
         this.resolverFactories = new ArrayList<>(builder.resolvers);
         Collections.reverse(this.resolverFactories);
 
@@ -113,8 +126,82 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
             throw new SerializationException(type, "Raw types are not supported!");
         }
 
-        synchronized (this.mappers) {
-            return computeFromMap(this.mappers, type, this::computeMapper);
+        if (type instanceof Class<?> && keepsConfigurateLoaded((Class<?>) type)) {
+            return this.classMapper((Class<?>) type);
+        }
+
+        final @Nullable ObjectMapper<?> existing = this.typeMappers.get(type);
+        if (existing != null) {
+            this.hits.increment();
+            return existing;
+        }
+
+        // computed outside of the map, since creating a mapper may look up others
+        this.misses.increment();
+        if (this.evicted.remove(type)) {
+            this.rebuilds.increment();
+        }
+        final ObjectMapper<?> created = this.computeMapper(type);
+        final @Nullable ObjectMapper<?> raced = this.typeMappers.putIfAbsent(type, created);
+        if (raced != null) {
+            return raced;
+        }
+        this.evictIfNecessary(type);
+        return created;
+    }
+
+    private ObjectMapper<?> classMapper(final Class<?> type) throws SerializationException {
+        final ClassMapper holder = this.classMappers.get(type);
+        final @Nullable ObjectMapper<?> existing = holder.mapper;
+        if (existing != null) {
+            this.hits.increment();
+            return existing;
+        }
+
+        // computed outside of any lock, since creating a mapper may look up others
+        this.misses.increment();
+        final ObjectMapper<?> created = this.computeMapper(type);
+        if (ClassMapper.MAPPER_HANDLE.compareAndSet(holder, null, created)) {
+            return created;
+        }
+        return requireNonNull(holder.mapper, "mapper");
+    }
+
+    /**
+     * Get whether a class keeps the loader of Configurate itself reachable.
+     *
+     * <p>A mapper refers to Configurate's classes, so attaching it to a class
+     * from a parent loader would keep Configurate loaded for as long as that
+     * class is. Such classes are cached like parameterized types instead.</p>
+     *
+     * @param type the class to check
+     * @return whether Configurate's loader is the class's loader or one of
+     *     its parents
+     */
+    private static boolean keepsConfigurateLoaded(final Class<?> type) {
+        for (@Nullable ClassLoader next = type.getClassLoader(); next != null; next = next.getParent()) {
+            if (next == OWN_LOADER) {
+                return true;
+            }
+        }
+        return OWN_LOADER == null;
+    }
+
+    private void evictIfNecessary(final Type added) {
+        final Iterator<Type> it = this.typeMappers.keySet().iterator();
+        while (this.typeMappers.size() > this.cacheCapacity && it.hasNext()) {
+            final Type next = it.next();
+            if (!next.equals(added) && this.typeMappers.remove(next) != null) {
+                this.evictions.increment();
+                this.evicted.add(next);
+            }
+        }
+
+        // only remember as many evicted types as could be cached
+        final Iterator<Type> evictedIt = this.evicted.iterator();
+        while (this.evicted.size() > this.cacheCapacity && evictedIt.hasNext()) {
+            evictedIt.next();
+            evictedIt.remove();
         }
     }
 
@@ -123,7 +210,19 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
         return this;
     }
 
+    @Override
+    public CacheStatistics cacheStatistics() {
+        return new CacheStatistics(this.hits.sum(), this.misses.sum(), this.rebuilds.sum(), this.evictions.sum());
+    }
+
     private ObjectMapper<?> computeMapper(final Type type) throws SerializationException {
+        if (this.useGenerated && type instanceof Class<?>) {
+            final @Nullable ObjectMapper<?> generated = GeneratedObjectMapper.find((Class<?>) type);
+            if (generated != null) {
+                return generated;
+            }
+        }
+
         for (final FieldDiscoverer<?> discoverer : this.fieldDiscoverers) {
             final @Nullable ObjectMapper<?> result = newMapper(type, discoverer);
             if (result != null) {
@@ -287,44 +386,21 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
         }
     }
 
-    // Helpers to get value from map
-
     /**
-     * Lightweight wrapper exception that doesn't need to track its
-     * own stacktrace.
+     * The lazily created mapper for a class.
+     *
+     * <p>Held in a {@link ClassValue}, so the mapper is kept only as long as
+     * its class is. This is only used for classes that keep Configurate
+     * loaded anyways.</p>
      */
-    private static class StacklessWrapper extends RuntimeException {
+    static final class ClassMapper {
 
-        private static final long serialVersionUID = 1759625646560465255L;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static final AtomicReferenceFieldUpdater<ClassMapper, ObjectMapper> MAPPER_HANDLE =
+            AtomicReferenceFieldUpdater.newUpdater(ClassMapper.class, ObjectMapper.class, "mapper");
 
-        StacklessWrapper(final Throwable cause) {
-            super(cause);
-        }
+        volatile @Nullable ObjectMapper<?> mapper;
 
-        @Override
-        public Throwable fillInStackTrace() {
-            // no-op
-            return this;
-        }
-    }
-
-    @SuppressWarnings("unchecked") // for E cast
-    private static <K, V, E extends Exception> V computeFromMap(final Map<K, V> map, final K key, final CheckedFunction<K, V, E> creator) throws E {
-        try {
-            return map.computeIfAbsent(key, k -> {
-                try {
-                    return creator.apply(k);
-                } catch (final Exception e) {
-                    if (e instanceof RuntimeException) {
-                        throw (RuntimeException) e;
-                    } else {
-                        throw new StacklessWrapper(e);
-                    }
-                }
-            });
-        } catch (final StacklessWrapper ex) {
-            throw (E) ex.getCause();
-        }
     }
 
     static ObjectMapper.Factory.Builder defaultBuilder() {
@@ -347,8 +423,11 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
 
     /**
      * A factory with default options.
+     *
+     * <p>Generated mappers assume the default options, so this is the only
+     * factory that uses them.</p>
      */
-    static final ObjectMapper.Factory INSTANCE = defaultBuilder().build();
+    static final ObjectMapper.Factory INSTANCE = new ObjectMapperFactoryImpl((Builder) defaultBuilder(), true);
 
     static class Builder implements ObjectMapper.Factory.Builder {
 
@@ -358,6 +437,7 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
         private final List<Definition<?, ?, ? extends Constraint.Factory<?, ?>>> constraints = new ArrayList<>();
         private final List<Definition<?, ?, ? extends Processor.AdvancedFactory<?, ?>>> processors = new ArrayList<>();
         private final List<PostProcessor.Factory> postProcessors = new ArrayList<>();
+        private int cacheCapacity = DEFAULT_CACHE_CAPACITY;
 
         @Override
         public ObjectMapper.Factory.Builder defaultNamingScheme(final NamingScheme scheme) {
@@ -404,9 +484,18 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
             return this;
         }
 
+        @Override
+        public Builder cacheCapacity(final int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Cache capacity must be positive, but was " + capacity);
+            }
+            this.cacheCapacity = capacity;
+            return this;
+        }
+
         @Override
         public ObjectMapper.Factory build() {
-            return new ObjectMapperFactoryImpl(this);
+            return new ObjectMapperFactoryImpl(this, false);
         }
 
     }
@@ -73,7 +73,7 @@ class ObjectMapperImpl<I, V> implements ObjectMapper<V> {
                 if (node.isNull()) {
                     newVal = null;
                 } else {
-                    newVal = serial.deserialize(field.resolvedType(), node);
+                    newVal = serial.deserialize(field.canonicalType(), node);
                 }
                 field.validate(newVal);
 
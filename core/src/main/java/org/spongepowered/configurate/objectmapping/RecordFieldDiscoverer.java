@@ -18,6 +18,7 @@ package org.spongepowered.configurate.objectmapping;
 
 import static io.leangen.geantyref.GenericTypeReflector.erase;
 import static io.leangen.geantyref.GenericTypeReflector.resolveExactType;
+import static org.spongepowered.configurate.objectmapping.Invocations.propagate;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.serialize.SerializationException;
@@ -157,10 +158,11 @@ final class RecordFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]>
                         }
                     };
                 }
-            } catch (final SerializationException ex) {
-                throw ex;
             } catch (final Throwable ex) {
-                // suppress, we just won't handle as a record
+                if (propagate(ex) instanceof SerializationException) {
+                    throw (SerializationException) ex;
+                }
+                // suppress other exceptions, we just won't handle as a record
             }
         }
         return null;
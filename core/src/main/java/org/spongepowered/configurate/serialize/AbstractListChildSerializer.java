@@ -22,10 +22,14 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
 import org.spongepowered.configurate.util.CheckedConsumer;
+import org.spongepowered.configurate.util.ResolvedType;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -55,10 +59,17 @@ public abstract class AbstractListChildSerializer<T> implements TypeSerializer.A
 
         if (node.isList()) {
             final List<? extends ConfigurationNode> values = node.childrenList();
+            final @Nullable T direct = this.deserializeAll(entryType, entrySerial, values);
+            if (direct != null) {
+                return direct;
+            }
+
+            // resolve once, rather than for every element
+            final ResolvedType resolvedEntryType = ResolvedType.of(entryType);
             final T ret = this.createNew(values.size(), entryType);
             for (int i = 0; i < values.size(); ++i) {
                 try {
-                    this.deserializeSingle(i, ret, entrySerial.deserialize(entryType, values.get(i)));
+                    this.deserializeSingle(i, ret, entrySerial.deserialize(resolvedEntryType, values.get(i)));
                 } catch (final SerializationException ex) {
                     ex.initPath(values.get(i)::path);
                     throw ex;
@@ -85,18 +96,30 @@ public abstract class AbstractListChildSerializer<T> implements TypeSerializer.A
             throw new SerializationException(node, entryType, "No applicable type serializer for type");
         }
 
-        node.raw(Collections.emptyList());
-        if (obj != null) {
-            this.forEachElement(obj, el -> {
-                final ConfigurationNode child = node.appendListNode();
-                try {
-                    entrySerial.serialize(entryType, el, child);
-                } catch (final SerializationException ex) {
-                    ex.initPath(child::path);
-                    throw ex;
-                }
-            });
+        if (obj == null) {
+            node.raw(Collections.emptyList());
+            return;
+        }
+
+        if (this.serializeAll(obj, entrySerial, node)) {
+            return;
+        }
+
+        @Nullable Collection<?> elements = this.elements(obj);
+        if (elements == null) {
+            final List<@Nullable Object> collected = new ArrayList<>();
+            this.forEachElement(obj, collected::add);
+            elements = collected;
         }
+        final Iterator<?> it = elements.iterator();
+        node.setList(elements.size(), child -> {
+            try {
+                entrySerial.serialize(entryType, it.next(), child);
+            } catch (final SerializationException ex) {
+                ex.initPath(child::path);
+                throw ex;
+            }
+        });
     }
 
     @Override
@@ -203,4 +226,60 @@ public abstract class AbstractListChildSerializer<T> implements TypeSerializer.A
     @ForOverride
     protected abstract void deserializeSingle(int index, T collection, @Nullable Object deserialized) throws SerializationException;
 
+    /**
+     * Deserialize every element of a list at once, without going through the
+     * element serializer for each element.
+     *
+     * <p>Built-in serializers use this to read primitive elements without
+     * boxing them, when the element serializer is the default one.</p>
+     *
+     * @param elementType the type of element
+     * @param elementSerializer the serializer resolved for elements
+     * @param values the nodes holding each element
+     * @return the deserialized collection, or null to deserialize each
+     *     element separately
+     * @throws SerializationException if any element could not be deserialized
+     */
+    @Nullable T deserializeAll(
+        final AnnotatedType elementType,
+        final TypeSerializer<?> elementSerializer,
+        final List<? extends ConfigurationNode> values
+    ) throws SerializationException {
+        return null;
+    }
+
+    /**
+     * Serialize every element of a collection at once, without going through
+     * the element serializer for each element.
+     *
+     * @param collection the collection to serialize
+     * @param elementSerializer the serializer resolved for elements
+     * @param node the node to write to
+     * @return whether the collection was written, or false to serialize each
+     *     element separately
+     * @throws SerializationException if any element could not be serialized
+     */
+    boolean serializeAll(
+        final T collection,
+        final TypeSerializer<?> elementSerializer,
+        final ConfigurationNode node
+    ) throws SerializationException {
+        return false;
+    }
+
+    /**
+     * Get a view of the elements of a collection, in the order they would
+     * be passed to {@link #forEachElement(Object, CheckedConsumer)}.
+     *
+     * <p>Built-in serializers use this to size the list node up front,
+     * without first copying the elements to count them.</p>
+     *
+     * @param collection the collection to view
+     * @return a view of the elements, or null to collect them with
+     *     {@link #forEachElement(Object, CheckedConsumer)}
+     */
+    @Nullable Collection<?> elements(final T collection) {
+        return null;
+    }
+
 }
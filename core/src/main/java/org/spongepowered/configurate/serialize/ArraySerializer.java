@@ -18,12 +18,17 @@ package org.spongepowered.configurate.serialize;
 
 import io.leangen.geantyref.GenericTypeReflector;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.util.CheckedConsumer;
 import org.spongepowered.configurate.util.Types;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Type;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
 
 /**
  * A serializer for array classes. Primitive arrays need special handling
@@ -45,6 +50,22 @@ abstract class ArraySerializer<T> extends AbstractListChildSerializer<T> {
         return componentType;
     }
 
+    @Override
+    List<?> elements(final T collection) {
+        // boxes each element as it's read, rather than copying the whole array
+        return new AbstractList<@Nullable Object>() {
+            @Override
+            public @Nullable Object get(final int index) {
+                return Array.get(collection, index);
+            }
+
+            @Override
+            public int size() {
+                return Array.getLength(collection);
+            }
+        };
+    }
+
     static final class Objects extends ArraySerializer<Object[]> {
 
         public static boolean accepts(final Type token) {
@@ -123,7 +144,7 @@ abstract class ArraySerializer<T> extends AbstractListChildSerializer<T> {
         @Override
         protected void deserializeSingle(final int index, final byte[] collection,
                 final @Nullable Object deserialized) throws SerializationException {
-            collection[index] = deserialized == null ? 0 : Scalars.INTEGER.deserialize(deserialized).byteValue();
+            collection[index] = deserialized == null ? 0 : (byte) NumericSerializers.INTEGER.deserializeInt(deserialized);
         }
 
     }
@@ -173,7 +194,7 @@ abstract class ArraySerializer<T> extends AbstractListChildSerializer<T> {
         @Override
         protected void deserializeSingle(final int index, final short[] collection,
                 final @Nullable Object deserialized) throws SerializationException {
-            collection[index] = deserialized == null ? 0 : Scalars.INTEGER.deserialize(deserialized).shortValue();
+            collection[index] = deserialized == null ? 0 : (short) NumericSerializers.INTEGER.deserializeInt(deserialized);
         }
 
     }
@@ -198,7 +219,41 @@ abstract class ArraySerializer<T> extends AbstractListChildSerializer<T> {
         @Override
         protected void deserializeSingle(final int index, final int[] collection,
                 final @Nullable Object deserialized) throws SerializationException {
-            collection[index] = deserialized == null ? 0 : Scalars.INTEGER.deserialize(deserialized);
+            collection[index] = deserialized == null ? 0 : NumericSerializers.INTEGER.deserializeInt(deserialized);
+        }
+
+        @Override
+        int @Nullable [] deserializeAll(
+            final AnnotatedType elementType,
+            final TypeSerializer<?> elementSerializer,
+            final List<? extends ConfigurationNode> values
+        ) throws SerializationException {
+            if (elementSerializer != Scalars.INTEGER) {
+                return null;
+            }
+
+            final int[] ret = new int[values.size()];
+            for (int i = 0; i < ret.length; ++i) {
+                final ConfigurationNode value = values.get(i);
+                try {
+                    ret[i] = NumericSerializers.INTEGER.deserializeInt(ScalarSerializer.scalarValue(elementType, value));
+                } catch (final SerializationException ex) {
+                    ex.initPath(value::path);
+                    throw ex;
+                }
+            }
+            return ret;
+        }
+
+        @Override
+        boolean serializeAll(final int[] collection, final TypeSerializer<?> elementSerializer, final ConfigurationNode node) {
+            if (elementSerializer != Scalars.INTEGER || !node.options().acceptsType(Integer.class)) {
+                return false;
+            }
+
+            final PrimitiveIterator.OfInt it = Arrays.stream(collection).iterator();
+            node.setList(collection.length, child -> child.rawInt(it.nextInt()));
+            return true;
         }
 
     }
@@ -223,7 +278,41 @@ abstract class ArraySerializer<T> extends AbstractListChildSerializer<T> {
         @Override
         protected void deserializeSingle(final int index, final long[] collection,
                 final @Nullable Object deserialized) throws SerializationException {
-            collection[index] = deserialized == null ? 0 : Scalars.LONG.deserialize(deserialized);
+            collection[index] = deserialized == null ? 0 : NumericSerializers.LONG.deserializeLong(deserialized);
+        }
+
+        @Override
+        long @Nullable [] deserializeAll(
+            final AnnotatedType elementType,
+            final TypeSerializer<?> elementSerializer,
+            final List<? extends ConfigurationNode> values
+        ) throws SerializationException {
+            if (elementSerializer != Scalars.LONG) {
+                return null;
+            }
+
+            final long[] ret = new long[values.size()];
+            for (int i = 0; i < ret.length; ++i) {
+                final ConfigurationNode value = values.get(i);
+                try {
+                    ret[i] = NumericSerializers.LONG.deserializeLong(ScalarSerializer.scalarValue(elementType, value));
+                } catch (final SerializationException ex) {
+                    ex.initPath(value::path);
+                    throw ex;
+                }
+            }
+            return ret;
+        }
+
+        @Override
+        boolean serializeAll(final long[] collection, final TypeSerializer<?> elementSerializer, final ConfigurationNode node) {
+            if (elementSerializer != Scalars.LONG || !node.options().acceptsType(Long.class)) {
+                return false;
+            }
+
+            final PrimitiveIterator.OfLong it = Arrays.stream(collection).iterator();
+            node.setList(collection.length, child -> child.rawLong(it.nextLong()));
+            return true;
         }
 
     }
@@ -248,7 +337,7 @@ abstract class ArraySerializer<T> extends AbstractListChildSerializer<T> {
         @Override
         protected void deserializeSingle(final int index, final float[] collection,
                 final @Nullable Object deserialized) throws SerializationException {
-            collection[index] = deserialized == null ? 0 : Scalars.FLOAT.deserialize(deserialized);
+            collection[index] = deserialized == null ? 0 : NumericSerializers.FLOAT.deserializeFloat(deserialized);
         }
 
     }
@@ -273,7 +362,41 @@ abstract class ArraySerializer<T> extends AbstractListChildSerializer<T> {
         @Override
         protected void deserializeSingle(final int index, final double[] collection,
                 final @Nullable Object deserialized) throws SerializationException {
-            collection[index] = deserialized == null ? 0 : Scalars.DOUBLE.deserialize(deserialized);
+            collection[index] = deserialized == null ? 0 : NumericSerializers.DOUBLE.deserializeDouble(deserialized);
+        }
+
+        @Override
+        double @Nullable [] deserializeAll(
+            final AnnotatedType elementType,
+            final TypeSerializer<?> elementSerializer,
+            final List<? extends ConfigurationNode> values
+        ) throws SerializationException {
+            if (elementSerializer != Scalars.DOUBLE) {
+                return null;
+            }
+
+            final double[] ret = new double[values.size()];
+            for (int i = 0; i < ret.length; ++i) {
+                final ConfigurationNode value = values.get(i);
+                try {
+                    ret[i] = NumericSerializers.DOUBLE.deserializeDouble(ScalarSerializer.scalarValue(elementType, value));
+                } catch (final SerializationException ex) {
+                    ex.initPath(value::path);
+                    throw ex;
+                }
+            }
+            return ret;
+        }
+
+        @Override
+        boolean serializeAll(final double[] collection, final TypeSerializer<?> elementSerializer, final ConfigurationNode node) {
+            if (elementSerializer != Scalars.DOUBLE || !node.options().acceptsType(Double.class)) {
+                return false;
+            }
+
+            final PrimitiveIterator.OfDouble it = Arrays.stream(collection).iterator();
+            node.setList(collection.length, child -> child.rawDouble(it.nextDouble()));
+            return true;
         }
 
     }
@@ -18,11 +18,13 @@ package org.spongepowered.configurate.serialize;
 
 import io.leangen.geantyref.TypeToken;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.util.CheckedConsumer;
 
 import java.lang.reflect.AnnotatedParameterizedType;
 import java.lang.reflect.AnnotatedType;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 final class ListSerializer extends AbstractListChildSerializer<List<?>> {
@@ -59,4 +61,63 @@ final class ListSerializer extends AbstractListChildSerializer<List<?>> {
         ((List) collection).add(deserialized);
     }
 
+    @Override
+    List<?> elements(final List<?> collection) {
+        return collection;
+    }
+
+    @Override
+    @Nullable List<?> deserializeAll(
+        final AnnotatedType elementType,
+        final TypeSerializer<?> elementSerializer,
+        final List<? extends ConfigurationNode> values
+    ) throws SerializationException {
+        if (numericType(elementSerializer) == null) {
+            return null;
+        }
+
+        final ScalarSerializer<?> scalar = (ScalarSerializer<?>) elementSerializer;
+        final List<Object> ret = new ArrayList<>(values.size());
+        for (final ConfigurationNode value : values) {
+            try {
+                ret.add(scalar.deserialize(ScalarSerializer.scalarValue(elementType, value)));
+            } catch (final SerializationException ex) {
+                ex.initPath(value::path);
+                throw ex;
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    boolean serializeAll(final List<?> collection, final TypeSerializer<?> elementSerializer, final ConfigurationNode node) {
+        final @Nullable Class<?> numericType = numericType(elementSerializer);
+        if (numericType == null || !node.options().acceptsType(numericType)) {
+            return false;
+        }
+
+        // elements are already of a native type, so they can be written as-is
+        final Iterator<?> it = collection.iterator();
+        node.setList(collection.size(), child -> child.raw(it.next()));
+        return true;
+    }
+
+    /**
+     * Get the element type for the default serializers of numeric elements
+     * that are read and written directly.
+     *
+     * @param serializer the element serializer
+     * @return the element type, or null if elements need their serializer
+     */
+    private static @Nullable Class<?> numericType(final TypeSerializer<?> serializer) {
+        if (serializer == Scalars.INTEGER) {
+            return Integer.class;
+        } else if (serializer == Scalars.LONG) {
+            return Long.class;
+        } else if (serializer == Scalars.DOUBLE) {
+            return Double.class;
+        }
+        return null;
+    }
+
 }
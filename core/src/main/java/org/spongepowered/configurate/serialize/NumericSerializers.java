@@ -16,8 +16,7 @@
  */
 package org.spongepowered.configurate.serialize;
 
-import java.util.Locale;
-import java.util.function.BiFunction;
+import java.util.function.Predicate;
 
 /**
  * Scalar serializers for numeric types
@@ -100,53 +99,9 @@ final class NumericSerializers {
         return exponent >= Float.MIN_EXPONENT && exponent <= Float.MAX_EXPONENT;
     }
 
-    static final ScalarSerializer<Float> FLOAT = TypeSerializer.of(Float.class, (v, pass) -> {
-        if (pass.test(Double.class)) {
-            return v.doubleValue();
-        } else {
-            return v.toString();
-        }
-    }, v -> {
-            if (v instanceof Number) {
-                final double d = ((Number) v).doubleValue();
-                if (!canRepresentDoubleAsFloat(d)) {
-                    throw new SerializationException("Value " + d + " cannot be represented as a float without significant loss of precision");
-                }
-                return (float) d;
-            } else if (v instanceof CharSequence) {
-                String value = v.toString();
-                if (value.endsWith("f") || value.endsWith("F")) {
-                    value = value.substring(0, value.length() - 1);
-                }
-                try {
-                    return Float.parseFloat(value);
-                } catch (final NumberFormatException ex) {
-                    throw new SerializationException(ex);
-                }
-            } else {
-                throw new CoercionFailedException(v, "float");
-            }
-        });
+    static final ScalarSerializer.OfFloat FLOAT = new FloatSerializer();
 
-    static final ScalarSerializer<Double> DOUBLE = TypeSerializer.of(Double.class, (v, pass) -> { // we don't want to lose precision
-        return v.toString();
-    }, v -> {
-            if (v instanceof Number) {
-                return ((Number) v).doubleValue();
-            } else if (v instanceof CharSequence) {
-                String value = v.toString();
-                if (value.endsWith("d") || value.endsWith("D")) {
-                    value = value.substring(0, value.length() - 1);
-                }
-                try {
-                    return Double.parseDouble(value);
-                } catch (final NumberFormatException ex) {
-                    throw new SerializationException(ex);
-                }
-            } else {
-                throw new CoercionFailedException(v, "double");
-            }
-        });
+    static final ScalarSerializer.OfDouble DOUBLE = new DoubleSerializer();
 
     static final ScalarSerializer<Byte> BYTE = TypeSerializer.of(Byte.class, (v, pass) -> {
         if (pass.test(Short.class)) {
@@ -181,7 +136,7 @@ final class NumericSerializers {
             }
 
             if (value instanceof CharSequence) {
-                return parseNumber(value.toString(), Byte::parseByte, Byte::parseByte, "b");
+                return (byte) parseWhole((CharSequence) value, 'b', Byte.MIN_VALUE, Byte.MAX_VALUE, Byte.MAX_VALUE, "a byte");
             }
             throw new CoercionFailedException(value, "byte");
         });
@@ -217,101 +172,57 @@ final class NumericSerializers {
             }
 
             if (value instanceof CharSequence) {
-                return parseNumber(value.toString(), Short::parseShort, Short::parseShort, "s");
+                return (short) parseWhole((CharSequence) value, 's', Short.MIN_VALUE, Short.MAX_VALUE, Short.MAX_VALUE, "a short");
             }
             throw new CoercionFailedException(value, "short");
         });
 
-    static final ScalarSerializer<Integer> INTEGER = TypeSerializer.of(Integer.class, (v, pass) -> {
-        if (pass.test(Double.class)) {
-            return v.doubleValue();
-        } else if (pass.test(Long.class)) {
-            return v.longValue();
-        } else {
-            return v.toString();
-        }
-    }, value -> {
-            if (value instanceof Float
-                    || value instanceof Double) {
-                final double absVal = Math.abs(((Number) value).doubleValue());
-                if ((absVal - Math.floor(absVal)) < EPSILON && absVal <= Integer.MAX_VALUE) {
-                    return (int) absVal;
-                } else {
-                    throw new CoercionFailedException(value, "int");
-                }
-            }
-
-            if (value instanceof Number) {
-                final long full = ((Number) value).longValue();
-                if (full > Integer.MAX_VALUE || full < Integer.MIN_VALUE) {
-                    throw new SerializationException("Value " + full
-                            + " is out of range for an integer ([" + Integer.MIN_VALUE + "," + Integer.MAX_VALUE + "])");
-                }
-                return (int) full;
-            }
-
-            if (value instanceof CharSequence) {
-                return parseNumber(value.toString(), Integer::parseInt, Integer::parseUnsignedInt, "i");
-            }
-            throw new CoercionFailedException(value, "int");
-        });
-
-    static final ScalarSerializer<Long> LONG = TypeSerializer.of(Long.class, (v, pass) -> { // serialize
-        return v.toString();
-    }, value -> {
-            if (value instanceof Float
-                    || value instanceof Double) {
-                final double absVal = Math.abs(((Number) value).doubleValue());
-                if ((absVal - Math.floor(absVal)) < EPSILON && absVal <= Long.MAX_VALUE) {
-                    return (long) absVal;
-                } else {
-                    throw new CoercionFailedException(value, "long");
-                }
-            }
-
-            if (value instanceof Number) {
-                return ((Number) value).longValue();
-            }
+    static final ScalarSerializer.OfInt INTEGER = new IntSerializer();
 
-            if (value instanceof CharSequence) {
-                return parseNumber(value.toString(), Long::parseLong, Long::parseUnsignedLong, "l");
-            }
-            throw new CoercionFailedException(value, "long");
-        });
+    static final ScalarSerializer.OfLong LONG = new LongSerializer();
 
     /**
-     * Parse a number, resolving hex and binary values, as well as a type
-     * suffix, and unsigned values.
+     * Parse a whole number in a single pass, resolving hex and binary values,
+     * as well as a type suffix, and unsigned values.
      *
-     * @param input the input string
-     * @param parseFunc the function to parse as a signed number
-     * @param unsignedParseFunc the function to parse as an unsigned number
+     * <p>Unsigned values may use the full range up to {@code unsignedMax},
+     * which is itself interpreted as an unsigned value. The result for an
+     * unsigned value is not sign-extended, so it must be narrowed by
+     * the caller.</p>
+     *
+     * @param input the input text
      * @param suffix the numeric suffix, in lowercase
-     * @param <T> the number type
+     * @param min the minimum signed value
+     * @param max the maximum signed value
+     * @param unsignedMax the maximum unsigned value
+     * @param typeName a description of the type being parsed, for errors
      * @return the parsed number
      * @throws SerializationException if unable to interpret an appropriate
-     *                                number from the input string.
+     *                                number from the input text.
      */
-    static <T extends Number> T parseNumber(String input,
-            final BiFunction<String, Integer, T> parseFunc, final BiFunction<String, Integer, T> unsignedParseFunc,
-            final String suffix) throws SerializationException {
-        boolean unsigned = false;
-        boolean negative = false;
-
+    static long parseWhole(
+        final CharSequence input,
+        final char suffix,
+        final long min,
+        final long max,
+        final long unsignedMax,
+        final String typeName
+    ) throws SerializationException {
         int startIdx = 0;
         int endIdx = input.length();
 
         // type suffix
-        if (input.endsWith(suffix) || input.endsWith(suffix.toUpperCase(Locale.ROOT))) {
+        if (endIdx > 0 && (input.charAt(endIdx - 1) == suffix || input.charAt(endIdx - 1) == Character.toUpperCase(suffix))) {
             --endIdx;
         }
 
         // unsigned
-        if (endIdx > 0 && input.charAt(endIdx - 1) == 'u') {
-            unsigned = true;
+        final boolean unsigned = endIdx > 0 && input.charAt(endIdx - 1) == 'u';
+        if (unsigned) {
             --endIdx;
         }
 
+        boolean negative = false;
         if (endIdx > startIdx && input.charAt(startIdx) == '-') {
             if (unsigned) {
                 throw new SerializationException("Negative numbers cannot be unsigned! (both - prefix and u suffix were used)");
@@ -324,27 +235,209 @@ final class NumericSerializers {
 
         // bases
         int radix = 10;
-        if (input.startsWith("0x", startIdx)) { // hex
+        if (endIdx > startIdx + 1 && input.charAt(startIdx) == '0' && input.charAt(startIdx + 1) == 'x') { // hex
             radix = 16;
             startIdx += 2;
-        } else if (input.length() > startIdx && input.charAt(startIdx) == '#') { // hex
+        } else if (endIdx > startIdx && input.charAt(startIdx) == '#') { // hex
             radix = 16;
             ++startIdx;
-        } else if (input.startsWith("0b", startIdx)) { // binary
+        } else if (endIdx > startIdx + 1 && input.charAt(startIdx) == '0' && input.charAt(startIdx + 1) == 'b') { // binary
             radix = 2;
             startIdx += 2;
         }
 
-        input = input.substring(startIdx, endIdx);
+        if (startIdx == endIdx) {
+            throw new SerializationException("Value '" + input + "' does not contain any digits");
+        }
 
-        if (negative) { // ugly but not super avoidable without knowing the number type
-            input = "-" + input;
+        if (unsigned) {
+            final long limit = Long.divideUnsigned(unsignedMax, radix);
+            long result = 0;
+            for (int i = startIdx; i < endIdx; ++i) {
+                final int digit = digit(input, i, radix);
+                if (Long.compareUnsigned(result, limit) > 0) {
+                    throw outOfRange(input, typeName);
+                }
+                result *= radix;
+                if (Long.compareUnsigned(result, unsignedMax - digit) > 0) {
+                    throw outOfRange(input, typeName);
+                }
+                result += digit;
+            }
+            return result;
         }
-        try {
-            return (unsigned ? unsignedParseFunc : parseFunc).apply(input, radix);
-        } catch (final IllegalArgumentException ex) {
-            throw new SerializationException(ex);
+
+        // accumulate negatively, since the negative range is the larger one
+        final long limit = negative ? min : -max;
+        final long multiplyLimit = limit / radix;
+        long result = 0;
+        for (int i = startIdx; i < endIdx; ++i) {
+            final int digit = digit(input, i, radix);
+            if (result < multiplyLimit) {
+                throw outOfRange(input, typeName);
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                throw outOfRange(input, typeName);
+            }
+            result -= digit;
         }
+        return negative ? result : -result;
+    }
+
+    private static int digit(final CharSequence input, final int idx, final int radix) throws SerializationException {
+        final int digit = Character.digit(input.charAt(idx), radix);
+        if (digit < 0) {
+            throw new SerializationException("Value '" + input + "' has an invalid digit '" + input.charAt(idx) + "' at index " + idx);
+        }
+        return digit;
+    }
+
+    private static SerializationException outOfRange(final CharSequence input, final String typeName) {
+        return new SerializationException("Value '" + input + "' is out of range for " + typeName);
+    }
+
+    static final class FloatSerializer extends ScalarSerializer.OfFloat {
+
+        @Override
+        public float deserializeFloat(final Object obj) throws SerializationException {
+            if (obj instanceof Float) {
+                return (Float) obj;
+            } else if (obj instanceof Number) {
+                final double d = ((Number) obj).doubleValue();
+                if (!canRepresentDoubleAsFloat(d)) {
+                    throw new SerializationException("Value " + d + " cannot be represented as a float without significant loss of precision");
+                }
+                return (float) d;
+            } else if (obj instanceof CharSequence) {
+                try {
+                    // an f or F suffix is accepted by the parser itself
+                    return Float.parseFloat(obj.toString());
+                } catch (final NumberFormatException ex) {
+                    throw new SerializationException(ex);
+                }
+            } else {
+                throw new CoercionFailedException(obj, "float");
+            }
+        }
+
+        @Override
+        protected Object serialize(final Float item, final Predicate<Class<?>> typeSupported) {
+            if (typeSupported.test(Double.class)) {
+                return item.doubleValue();
+            } else {
+                return item.toString();
+            }
+        }
+
+    }
+
+    static final class DoubleSerializer extends ScalarSerializer.OfDouble {
+
+        @Override
+        public double deserializeDouble(final Object obj) throws SerializationException {
+            if (obj instanceof Number) {
+                return ((Number) obj).doubleValue();
+            } else if (obj instanceof CharSequence) {
+                try {
+                    // a d or D suffix is accepted by the parser itself
+                    return Double.parseDouble(obj.toString());
+                } catch (final NumberFormatException ex) {
+                    throw new SerializationException(ex);
+                }
+            } else {
+                throw new CoercionFailedException(obj, "double");
+            }
+        }
+
+        @Override
+        protected Object serialize(final Double item, final Predicate<Class<?>> typeSupported) {
+            // we don't want to lose precision
+            return item.toString();
+        }
+
+    }
+
+    static final class IntSerializer extends ScalarSerializer.OfInt {
+
+        @Override
+        public int deserializeInt(final Object obj) throws SerializationException {
+            if (obj instanceof Integer) {
+                return (Integer) obj;
+            }
+
+            if (obj instanceof Float
+                    || obj instanceof Double) {
+                final double absVal = Math.abs(((Number) obj).doubleValue());
+                if ((absVal - Math.floor(absVal)) < EPSILON && absVal <= Integer.MAX_VALUE) {
+                    return (int) absVal;
+                } else {
+                    throw new CoercionFailedException(obj, "int");
+                }
+            }
+
+            if (obj instanceof Number) {
+                final long full = ((Number) obj).longValue();
+                if (full > Integer.MAX_VALUE || full < Integer.MIN_VALUE) {
+                    throw new SerializationException("Value " + full
+                            + " is out of range for an integer ([" + Integer.MIN_VALUE + "," + Integer.MAX_VALUE + "])");
+                }
+                return (int) full;
+            }
+
+            if (obj instanceof CharSequence) {
+                // unsigned values beyond the signed range wrap around to negative values
+                return (int) parseWhole((CharSequence) obj, 'i', Integer.MIN_VALUE, Integer.MAX_VALUE, 0xFFFFFFFFL, "an integer");
+            }
+            throw new CoercionFailedException(obj, "int");
+        }
+
+        @Override
+        protected Object serialize(final Integer item, final Predicate<Class<?>> typeSupported) {
+            if (typeSupported.test(Double.class)) {
+                return item.doubleValue();
+            } else if (typeSupported.test(Long.class)) {
+                return item.longValue();
+            } else {
+                return item.toString();
+            }
+        }
+
+    }
+
+    static final class LongSerializer extends ScalarSerializer.OfLong {
+
+        @Override
+        public long deserializeLong(final Object obj) throws SerializationException {
+            if (obj instanceof Long) {
+                return (Long) obj;
+            }
+
+            if (obj instanceof Float
+                    || obj instanceof Double) {
+                final double absVal = Math.abs(((Number) obj).doubleValue());
+                if ((absVal - Math.floor(absVal)) < EPSILON && absVal <= Long.MAX_VALUE) {
+                    return (long) absVal;
+                } else {
+                    throw new CoercionFailedException(obj, "long");
+                }
+            }
+
+            if (obj instanceof Number) {
+                return ((Number) obj).longValue();
+            }
+
+            if (obj instanceof CharSequence) {
+                return parseWhole((CharSequence) obj, 'l', Long.MIN_VALUE, Long.MAX_VALUE, -1L, "a long");
+            }
+            throw new CoercionFailedException(obj, "long");
+        }
+
+        @Override
+        protected Object serialize(final Long item, final Predicate<Class<?>> typeSupported) {
+            return item.toString();
+        }
+
     }
 
 }
@@ -24,6 +24,7 @@ import java.net.URI;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Iterator;
 import java.util.List;
 
 final class PathSerializer implements TypeSerializer<Path> {
@@ -70,10 +71,8 @@ final class PathSerializer implements TypeSerializer<Path> {
         }
 
         if (node.isList()) {
-            node.set(null);
-            for (Path element : obj) {
-                node.appendListNode().set(element.toString());
-            }
+            final Iterator<Path> elements = obj.iterator();
+            node.setList(obj.getNameCount(), child -> child.set(elements.next().toString()));
         } else if (!obj.getFileSystem().equals(FileSystems.getDefault())) { // try to do something for non-default filesystems
             node.set(URI.class, obj.toUri());
         } else {
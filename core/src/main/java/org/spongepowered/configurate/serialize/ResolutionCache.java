@@ -0,0 +1,399 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.serialize;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.AnnotatedWildcardType;
+import java.lang.reflect.Executable;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of resolved serializers.
+ *
+ * <p>Types made only of classes visible to Configurate's own class loader are
+ * held in a shared map, limited to a fixed number of entries. When it grows
+ * past that capacity, entries are evicted in no particular order.</p>
+ *
+ * <p>Types that refer to a class from any other class loader are instead
+ * attached to one of those classes, so the cache never keeps a foreign class
+ * loader reachable. Those entries are dropped along with the class. Types
+ * referring to classes from several unrelated loaders are not cached.</p>
+ *
+ * <p>Finding the right class means walking the whole type, so a cheaper
+ * probe picks a likely class first. Entries are attached to the probed class
+ * whenever that is safe, letting most lookups skip the walk.</p>
+ *
+ * @param <K> the key type
+ */
+final class ResolutionCache<K> {
+
+    private static final Set<ClassLoader> HOME_LOADERS;
+
+    static {
+        final Set<ClassLoader> loaders = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (@Nullable ClassLoader loader = ResolutionCache.class.getClassLoader(); loader != null; loader = loader.getParent()) {
+            loaders.add(loader);
+        }
+        HOME_LOADERS = loaders;
+    }
+
+    /**
+     * The scope of types that refer to classes from unrelated class loaders.
+     *
+     * <p>No class can hold their serializers without keeping one of those
+     * loaders reachable, so they are resolved without being cached.</p>
+     */
+    static final Class<?> UNCACHEABLE = ResolutionCache.class;
+
+    private final int capacity;
+    private final Function<K, @Nullable Class<?>> scope;
+    private final Function<K, @Nullable Class<?>> probe;
+    private final Map<K, TypeSerializer<?>> shared = new ConcurrentHashMap<>();
+    private final ClassValue<Map<K, TypeSerializer<?>>> scoped = new ClassValue<Map<K, TypeSerializer<?>>>() {
+        @Override
+        protected Map<K, TypeSerializer<?>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    ResolutionCache(
+        final int capacity,
+        final Function<K, @Nullable Class<?>> scope,
+        final Function<K, @Nullable Class<?>> probe
+    ) {
+        this.capacity = capacity;
+        this.scope = scope;
+        this.probe = probe;
+    }
+
+    /**
+     * Get a cached value, resolving and caching it if necessary.
+     *
+     * @param key the key to look up
+     * @param resolver a function to resolve values not yet cached
+     * @return the cached value
+     */
+    TypeSerializer<?> get(final K key, final Function<K, TypeSerializer<?>> resolver) {
+        final @Nullable TypeSerializer<?> existing = this.shared.get(key);
+        if (existing != null) {
+            this.hits.increment();
+            return existing;
+        }
+
+        final @Nullable Class<?> probed = this.probe.apply(key);
+        if (probed != null) {
+            final @Nullable TypeSerializer<?> probedExisting = this.scoped.get(probed).get(key);
+            if (probedExisting != null) {
+                this.hits.increment();
+                return probedExisting;
+            }
+        }
+
+        final @Nullable Class<?> holder = this.scope.apply(key);
+        if (holder == UNCACHEABLE) {
+            this.misses.increment();
+            return resolver.apply(key);
+        }
+
+        final Map<K, TypeSerializer<?>> store;
+        if (holder == null) {
+            store = this.shared;
+        } else if (probed != null && probed.getClassLoader() == holder.getClassLoader()) {
+            // just as safe as the holder, and found again without walking the type
+            store = this.scoped.get(probed);
+        } else {
+            // only reachable through the walk, so check it before resolving
+            store = this.scoped.get(holder);
+            final @Nullable TypeSerializer<?> scopedExisting = store.get(key);
+            if (scopedExisting != null) {
+                this.hits.increment();
+                return scopedExisting;
+            }
+        }
+
+        this.misses.increment();
+        final TypeSerializer<?> resolved = resolver.apply(key);
+        final @Nullable TypeSerializer<?> raced = store.putIfAbsent(key, resolved);
+        if (raced != null) {
+            return raced;
+        }
+
+        if (holder == null) {
+            this.evictIfNecessary();
+        }
+        return resolved;
+    }
+
+    private void evictIfNecessary() {
+        final Iterator<K> it = this.shared.keySet().iterator();
+        while (this.shared.size() > this.capacity && it.hasNext()) {
+            if (this.shared.remove(it.next()) != null) {
+                this.evictions.increment();
+            }
+        }
+    }
+
+    long hits() {
+        return this.hits.sum();
+    }
+
+    long misses() {
+        return this.misses.sum();
+    }
+
+    long evictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Get the number of entries in the shared map.
+     *
+     * <p>Entries attached to foreign classes are not counted, since they can
+     * disappear at any time along with their class.</p>
+     *
+     * @return the shared entry count
+     */
+    int size() {
+        return this.shared.size();
+    }
+
+    /**
+     * Cheaply pick a foreign class a type refers to, without looking at
+     * annotations or type variables.
+     *
+     * <p>This is the type's own class when that is foreign, or otherwise the
+     * first foreign class among its type arguments.</p>
+     *
+     * @param type the type to inspect
+     * @return a foreign class, or null if none was found
+     */
+    static @Nullable Class<?> probe(final Type type) {
+        if (type instanceof Class<?>) {
+            Class<?> clazz = (Class<?>) type;
+            while (clazz.isArray()) {
+                clazz = clazz.getComponentType();
+            }
+            final @Nullable ClassLoader loader = clazz.getClassLoader();
+            return loader == null || HOME_LOADERS.contains(loader) ? null : clazz;
+        } else if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterized = (ParameterizedType) type;
+            final @Nullable Class<?> raw = probe(parameterized.getRawType());
+            if (raw != null) {
+                return raw;
+            }
+            for (final Type argument : parameterized.getActualTypeArguments()) {
+                final @Nullable Class<?> probed = probe(argument);
+                if (probed != null) {
+                    return probed;
+                }
+            }
+        } else if (type instanceof GenericArrayType) {
+            return probe(((GenericArrayType) type).getGenericComponentType());
+        } else if (type instanceof WildcardType) {
+            for (final Type bound : ((WildcardType) type).getUpperBounds()) {
+                final @Nullable Class<?> probed = probe(bound);
+                if (probed != null) {
+                    return probed;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cheaply pick a foreign class an annotated type refers to.
+     *
+     * @param type the type to inspect
+     * @return a foreign class, or null if none was found
+     * @see #probe(Type)
+     */
+    static @Nullable Class<?> probe(final AnnotatedType type) {
+        return probe(type.getType());
+    }
+
+    /**
+     * Find the class a type's cached serializer should be attached to.
+     *
+     * <p>This is a class from the most specific class loader, other than
+     * Configurate's own loader or its parents, that loaded any class the type
+     * refers to. Every other loader referenced must be that loader or one of
+     * its parents, so attaching to the class never keeps a loader reachable
+     * for longer than it already is. Types that refer to classes from
+     * unrelated loaders have no such class, and are scoped to
+     * {@link #UNCACHEABLE}.</p>
+     *
+     * @param type the type to inspect
+     * @return a foreign class, {@link #UNCACHEABLE}, or null if every class
+     *     is visible
+     */
+    static @Nullable Class<?> scope(final Type type) {
+        final Scope scope = new Scope();
+        scope.add(type);
+        return scope.result();
+    }
+
+    /**
+     * Find the class a type's cached serializer should be attached to,
+     * considering both the type and any of its annotations.
+     *
+     * @param type the type to inspect
+     * @return a foreign class, {@link #UNCACHEABLE}, or null if every class
+     *     is visible
+     * @see #scope(Type)
+     */
+    static @Nullable Class<?> scope(final AnnotatedType type) {
+        final Scope scope = new Scope();
+        scope.add(type);
+        return scope.result();
+    }
+
+    /**
+     * Collects the class loaders referenced by a type.
+     */
+    private static final class Scope {
+
+        private @Nullable Class<?> holder;
+        private boolean unrelated;
+
+        @Nullable Class<?> result() {
+            return this.unrelated ? UNCACHEABLE : this.holder;
+        }
+
+        void add(final Type type) {
+            if (this.unrelated) {
+                return;
+            }
+
+            if (type instanceof Class<?>) {
+                Class<?> clazz = (Class<?>) type;
+                while (clazz.isArray()) {
+                    clazz = clazz.getComponentType();
+                }
+                this.addClass(clazz);
+            } else if (type instanceof ParameterizedType) {
+                final ParameterizedType parameterized = (ParameterizedType) type;
+                this.add(parameterized.getRawType());
+                this.addAll(parameterized.getActualTypeArguments());
+                if (parameterized.getOwnerType() != null) {
+                    this.add(parameterized.getOwnerType());
+                }
+            } else if (type instanceof GenericArrayType) {
+                this.add(((GenericArrayType) type).getGenericComponentType());
+            } else if (type instanceof WildcardType) {
+                final WildcardType wildcard = (WildcardType) type;
+                this.addAll(wildcard.getUpperBounds());
+                this.addAll(wildcard.getLowerBounds());
+            } else if (type instanceof TypeVariable<?>) {
+                // bounds may refer back to the variable, so only its declaration is checked
+                final GenericDeclaration declaration = ((TypeVariable<?>) type).getGenericDeclaration();
+                if (declaration instanceof Class<?>) {
+                    this.add((Class<?>) declaration);
+                } else if (declaration instanceof Executable) {
+                    this.add(((Executable) declaration).getDeclaringClass());
+                }
+            }
+        }
+
+        void add(final AnnotatedType type) {
+            for (final Annotation annotation : type.getAnnotations()) {
+                this.add(annotation.annotationType());
+            }
+
+            if (type instanceof AnnotatedParameterizedType) {
+                this.addAll(((AnnotatedParameterizedType) type).getAnnotatedActualTypeArguments());
+            } else if (type instanceof AnnotatedArrayType) {
+                this.add(((AnnotatedArrayType) type).getAnnotatedGenericComponentType());
+            } else if (type instanceof AnnotatedWildcardType) {
+                final AnnotatedWildcardType wildcard = (AnnotatedWildcardType) type;
+                this.addAll(wildcard.getAnnotatedUpperBounds());
+                this.addAll(wildcard.getAnnotatedLowerBounds());
+            }
+            this.add(type.getType());
+        }
+
+        private void addAll(final Type[] types) {
+            for (final Type type : types) {
+                this.add(type);
+            }
+        }
+
+        private void addAll(final AnnotatedType[] types) {
+            for (final AnnotatedType type : types) {
+                this.add(type);
+            }
+        }
+
+        private void addClass(final Class<?> clazz) {
+            final @Nullable ClassLoader loader = clazz.getClassLoader();
+            if (loader == null || HOME_LOADERS.contains(loader)) {
+                return;
+            }
+
+            if (this.holder == null) {
+                this.holder = clazz;
+                return;
+            }
+
+            final ClassLoader current = this.holder.getClassLoader();
+            if (isAncestor(current, loader)) {
+                // the new loader keeps the current one reachable, so it's the more specific scope
+                this.holder = clazz;
+            } else if (!isAncestor(loader, current)) {
+                this.unrelated = true;
+            }
+        }
+
+        /**
+         * Get whether a loader is another loader or one of its parents.
+         *
+         * @param ancestor the possible ancestor
+         * @param loader the loader to start from
+         * @return whether {@code ancestor} is {@code loader} or a parent of it
+         */
+        private static boolean isAncestor(final ClassLoader ancestor, final ClassLoader loader) {
+            for (@Nullable ClassLoader next = loader; next != null; next = next.getParent()) {
+                if (next == ancestor) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -20,6 +20,7 @@ import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.util.ResolvedType;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
@@ -94,31 +95,13 @@ public abstract class ScalarSerializer<T> implements TypeSerializer.Annotated<T>
     }
 
     @Override
-    public final T deserialize(AnnotatedType type, final ConfigurationNode node) throws SerializationException {
-        ConfigurationNode deserializeFrom = node;
-        if (node.isList()) {
-            final List<? extends ConfigurationNode> children = node.childrenList();
-            if (children.size() == 1) {
-                deserializeFrom = children.get(0);
-            }
-        }
-
-        if (deserializeFrom.isList() || deserializeFrom.isMap()) {
-            throw new SerializationException(type, "Value must be provided as a scalar!");
-        }
-
-        final @Nullable Object value = deserializeFrom.rawScalar();
-        if (value == null) {
-            throw new SerializationException(type, "No scalar value present");
-        }
-
-        type = GenericTypeReflector.toCanonicalBoxed(type); // every primitive type should be boxed (cuz generics!)
-        final @Nullable T possible = this.cast(value);
-        if (possible != null) {
-            return possible;
-        }
+    public final T deserialize(final AnnotatedType type, final ConfigurationNode node) throws SerializationException {
+        return this.deserialize0(type, null, node);
+    }
 
-        return this.deserialize(type, value);
+    @Override
+    public final T deserialize(final ResolvedType type, final ConfigurationNode node) throws SerializationException {
+        return this.deserialize0(type.annotatedType(), type.canonical(), node);
     }
 
     /**
@@ -169,6 +152,51 @@ public abstract class ScalarSerializer<T> implements TypeSerializer.Annotated<T>
      */
     public abstract T deserialize(Type type, Object obj) throws SerializationException;
 
+    private T deserialize0(
+        final AnnotatedType type,
+        final @Nullable AnnotatedType canonical,
+        final ConfigurationNode node
+    ) throws SerializationException {
+        final Object value = scalarValue(type, node);
+        final @Nullable T possible = this.cast(value);
+        if (possible != null) {
+            return possible;
+        }
+
+        // every primitive type should be boxed (cuz generics!)
+        return this.deserialize(canonical == null ? GenericTypeReflector.toCanonicalBoxed(type) : canonical, value);
+    }
+
+    /**
+     * Get the scalar value to deserialize from a node.
+     *
+     * <p>A list holding exactly one value is unwrapped to that value.</p>
+     *
+     * @param type the type being deserialized, for errors
+     * @param node the node to read
+     * @return the scalar value
+     * @throws SerializationException if the node does not hold a scalar
+     */
+    static Object scalarValue(final AnnotatedType type, final ConfigurationNode node) throws SerializationException {
+        ConfigurationNode deserializeFrom = node;
+        if (node.isList()) {
+            final List<? extends ConfigurationNode> children = node.childrenList();
+            if (children.size() == 1) {
+                deserializeFrom = children.get(0);
+            }
+        }
+
+        if (deserializeFrom.isList() || deserializeFrom.isMap()) {
+            throw new SerializationException(type, "Value must be provided as a scalar!");
+        }
+
+        final @Nullable Object value = deserializeFrom.rawScalar();
+        if (value == null) {
+            throw new SerializationException(type, "No scalar value present");
+        }
+        return value;
+    }
+
     @Override
     public final void serialize(final AnnotatedType type, final @Nullable T obj, final ConfigurationNode node) throws SerializationException {
         this.serialize(type.getType(), obj, node);
@@ -296,4 +324,228 @@ public abstract class ScalarSerializer<T> implements TypeSerializer.Annotated<T>
 
     }
 
+    /**
+     * A scalar serializer for {@code int} values, able to deserialize them
+     * without boxing.
+     *
+     * @since 4.2.0
+     */
+    public abstract static class OfInt extends ScalarSerializer<Integer> {
+
+        /**
+         * Create a new serializer for {@code int} values.
+         *
+         * @since 4.2.0
+         */
+        protected OfInt() {
+            super(Integer.class);
+        }
+
+        /**
+         * Attempt to convert an object of unknown type to a {@code int}.
+         *
+         * @param obj the object to convert
+         * @return the converted value
+         * @throws SerializationException if the object could not be converted
+         * @since 4.2.0
+         */
+        public abstract int deserializeInt(Object obj) throws SerializationException;
+
+        /**
+         * Attempt to convert an object of unknown type to a {@code int},
+         * returning a default value rather than throwing an exception when the
+         * conversion fails.
+         *
+         * @param obj the object to convert
+         * @param def the value to return if the object could not be converted
+         * @return the converted value, or {@code def}
+         * @since 4.2.0
+         */
+        public final int tryDeserializeInt(final @Nullable Object obj, final int def) {
+            if (obj == null) {
+                return def;
+            }
+
+            try {
+                return this.deserializeInt(obj);
+            } catch (final SerializationException ex) {
+                return def;
+            }
+        }
+
+        @Override
+        public final Integer deserialize(final Type type, final Object obj) throws SerializationException {
+            return this.deserializeInt(obj);
+        }
+
+    }
+
+    /**
+     * A scalar serializer for {@code long} values, able to deserialize them
+     * without boxing.
+     *
+     * @since 4.2.0
+     */
+    public abstract static class OfLong extends ScalarSerializer<Long> {
+
+        /**
+         * Create a new serializer for {@code long} values.
+         *
+         * @since 4.2.0
+         */
+        protected OfLong() {
+            super(Long.class);
+        }
+
+        /**
+         * Attempt to convert an object of unknown type to a {@code long}.
+         *
+         * @param obj the object to convert
+         * @return the converted value
+         * @throws SerializationException if the object could not be converted
+         * @since 4.2.0
+         */
+        public abstract long deserializeLong(Object obj) throws SerializationException;
+
+        /**
+         * Attempt to convert an object of unknown type to a {@code long},
+         * returning a default value rather than throwing an exception when the
+         * conversion fails.
+         *
+         * @param obj the object to convert
+         * @param def the value to return if the object could not be converted
+         * @return the converted value, or {@code def}
+         * @since 4.2.0
+         */
+        public final long tryDeserializeLong(final @Nullable Object obj, final long def) {
+            if (obj == null) {
+                return def;
+            }
+
+            try {
+                return this.deserializeLong(obj);
+            } catch (final SerializationException ex) {
+                return def;
+            }
+        }
+
+        @Override
+        public final Long deserialize(final Type type, final Object obj) throws SerializationException {
+            return this.deserializeLong(obj);
+        }
+
+    }
+
+    /**
+     * A scalar serializer for {@code float} values, able to deserialize them
+     * without boxing.
+     *
+     * @since 4.2.0
+     */
+    public abstract static class OfFloat extends ScalarSerializer<Float> {
+
+        /**
+         * Create a new serializer for {@code float} values.
+         *
+         * @since 4.2.0
+         */
+        protected OfFloat() {
+            super(Float.class);
+        }
+
+        /**
+         * Attempt to convert an object of unknown type to a {@code float}.
+         *
+         * @param obj the object to convert
+         * @return the converted value
+         * @throws SerializationException if the object could not be converted
+         * @since 4.2.0
+         */
+        public abstract float deserializeFloat(Object obj) throws SerializationException;
+
+        /**
+         * Attempt to convert an object of unknown type to a {@code float},
+         * returning a default value rather than throwing an exception when the
+         * conversion fails.
+         *
+         * @param obj the object to convert
+         * @param def the value to return if the object could not be converted
+         * @return the converted value, or {@code def}
+         * @since 4.2.0
+         */
+        public final float tryDeserializeFloat(final @Nullable Object obj, final float def) {
+            if (obj == null) {
+                return def;
+            }
+
+            try {
+                return this.deserializeFloat(obj);
+            } catch (final SerializationException ex) {
+                return def;
+            }
+        }
+
+        @Override
+        public final Float deserialize(final Type type, final Object obj) throws SerializationException {
+            return this.deserializeFloat(obj);
+        }
+
+    }
+
+    /**
+     * A scalar serializer for {@code double} values, able to deserialize them
+     * without boxing.
+     *
+     * @since 4.2.0
+     */
+    public abstract static class OfDouble extends ScalarSerializer<Double> {
+
+        /**
+         * Create a new serializer for {@code double} values.
+         *
+         * @since 4.2.0
+         */
+        protected OfDouble() {
+            super(Double.class);
+        }
+
+        /**
+         * Attempt to convert an object of unknown type to a {@code double}.
+         *
+         * @param obj the object to convert
+         * @return the converted value
+         * @throws SerializationException if the object could not be converted
+         * @since 4.2.0
+         */
+        public abstract double deserializeDouble(Object obj) throws SerializationException;
+
+        /**
+         * Attempt to convert an object of unknown type to a {@code double},
+         * returning a default value rather than throwing an exception when the
+         * conversion fails.
+         *
+         * @param obj the object to convert
+         * @param def the value to return if the object could not be converted
+         * @return the converted value, or {@code def}
+         * @since 4.2.0
+         */
+        public final double tryDeserializeDouble(final @Nullable Object obj, final double def) {
+            if (obj == null) {
+                return def;
+            }
+
+            try {
+                return this.deserializeDouble(obj);
+            } catch (final SerializationException ex) {
+                return def;
+            }
+        }
+
+        @Override
+        public final Double deserialize(final Type type, final Object obj) throws SerializationException {
+            return this.deserializeDouble(obj);
+        }
+
+    }
+
 }
@@ -124,6 +124,9 @@ public final class Scalars {
     /**
      * Serializer for {@link Integer} values.
      *
+     * <p>This serializer is always a {@link ScalarSerializer.OfInt}, which can
+     * deserialize values without boxing them.</p>
+     *
      * @since 4.0.0
      */
     public static final ScalarSerializer<Integer> INTEGER = NumericSerializers.INTEGER;
@@ -131,6 +134,9 @@ public final class Scalars {
     /**
      * Serializer for {@link Long} values.
      *
+     * <p>This serializer is always a {@link ScalarSerializer.OfLong}, which can
+     * deserialize values without boxing them.</p>
+     *
      * @since 4.0.0
      */
     public static final ScalarSerializer<Long> LONG = NumericSerializers.LONG;
@@ -138,6 +144,9 @@ public final class Scalars {
     /**
      * Serializer for {@link Float} values.
      *
+     * <p>This serializer is always a {@link ScalarSerializer.OfFloat}, which can
+     * deserialize values without boxing them.</p>
+     *
      * @since 4.0.0
      */
     public static final ScalarSerializer<Float> FLOAT = NumericSerializers.FLOAT;
@@ -145,6 +154,9 @@ public final class Scalars {
     /**
      * Serializer for {@link Double} values.
      *
+     * <p>This serializer is always a {@link ScalarSerializer.OfDouble}, which can
+     * deserialize values without boxing them.</p>
+     *
      * @since 4.0.0
      */
     public static final ScalarSerializer<Double> DOUBLE = NumericSerializers.DOUBLE;
@@ -0,0 +1,247 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.serialize;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.serialize.TypeSerializerCollection.RegisteredSerializer;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index over the serializers registered in a collection and all of
+ * its parents.
+ *
+ * <p>Registrations are flattened into a single priority order when the
+ * collection is built. Each registration is then indexed by the erasure of
+ * the type it was registered for, so a lookup only has to test the
+ * registrations that could possibly match the erasure of the queried type,
+ * rather than every registration in the chain. Registrations made with an
+ * arbitrary predicate cannot be indexed, and are tested for every
+ * queried type.</p>
+ *
+ * <p>The index is only a filter: every candidate is still tested with
+ * {@link RegisteredSerializer#matches(Type)}, and the first match in
+ * priority order wins, exactly as in a linear scan.</p>
+ */
+final class SerializerIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final RegisteredSerializer[] serializers;
+    private final Map<Class<?>, int[]> exact;
+    private final Map<Class<?>, int[]> hierarchy;
+    private final int[] predicates;
+    private final int[] allHierarchy;
+    // attached to each queried class, so classes from other loaders are never kept reachable
+    private final ClassValue<int[]> candidates = new ClassValue<int[]>() {
+        @Override
+        protected int[] computeValue(final Class<?> type) {
+            return SerializerIndex.this.computeCandidates(type);
+        }
+    };
+
+    SerializerIndex(final List<RegisteredSerializer> own, final @Nullable SerializerIndex parent) {
+        final List<RegisteredSerializer> flattened = new ArrayList<>(own);
+        if (parent != null) {
+            Collections.addAll(flattened, parent.serializers);
+        }
+        this.serializers = flattened.toArray(new RegisteredSerializer[0]);
+
+        final Map<Class<?>, List<Integer>> exact = new HashMap<>();
+        final Map<Class<?>, List<Integer>> hierarchy = new HashMap<>();
+        final List<Integer> predicates = new ArrayList<>();
+        final List<Integer> allHierarchy = new ArrayList<>();
+        for (int i = 0; i < this.serializers.length; ++i) {
+            final RegisteredSerializer serializer = this.serializers[i];
+            final @Nullable Class<?> erased = erase(serializer.indexType());
+            if (erased == null) {
+                predicates.add(i);
+            } else if (serializer.exact()) {
+                exact.computeIfAbsent(erased, k -> new ArrayList<>()).add(i);
+            } else {
+                hierarchy.computeIfAbsent(erased, k -> new ArrayList<>()).add(i);
+                allHierarchy.add(i);
+            }
+        }
+        this.exact = toArrays(exact);
+        this.hierarchy = toArrays(hierarchy);
+        this.predicates = toArray(predicates);
+        this.allHierarchy = toArray(allHierarchy);
+    }
+
+    /**
+     * Find the first registered serializer matching a type.
+     *
+     * @param type the type to match
+     * @return the first matching serializer, or null if none match
+     */
+    @Nullable TypeSerializer<?> find(final Type type) {
+        final @Nullable Class<?> erased = erase(type);
+        if (erased == null) {
+            for (final RegisteredSerializer serializer : this.serializers) {
+                if (serializer.matches(type)) {
+                    return serializer.serializer();
+                }
+            }
+            return null;
+        }
+
+        for (final int idx : this.candidates.get(erased)) {
+            if (this.serializers[idx].matches(type)) {
+                return this.serializers[idx].serializer();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the first registered serializer matching an annotated type.
+     *
+     * @param type the type to match
+     * @return the first matching serializer, or null if none match
+     */
+    @Nullable TypeSerializer<?> find(final AnnotatedType type) {
+        final @Nullable Class<?> erased = erase(type.getType());
+        if (erased == null) {
+            for (final RegisteredSerializer serializer : this.serializers) {
+                if (serializer.matches(type)) {
+                    return serializer.serializer();
+                }
+            }
+            return null;
+        }
+
+        for (final int idx : this.candidates.get(erased)) {
+            if (this.serializers[idx].matches(type)) {
+                return this.serializers[idx].serializer();
+            }
+        }
+        return null;
+    }
+
+    private int[] computeCandidates(final Class<?> erased) {
+        final BitSet result = new BitSet(this.serializers.length);
+        set(result, this.predicates);
+        set(result, this.exact.get(erased));
+
+        if (erased.isArray()) {
+            // array covariance is not visible by walking the class hierarchy
+            for (final int idx : this.allHierarchy) {
+                final @Nullable Class<?> target = erase(this.serializers[idx].indexType());
+                if (target != null && target.isAssignableFrom(erased)) {
+                    result.set(idx);
+                }
+            }
+        } else if (!this.hierarchy.isEmpty()) {
+            for (final Class<?> supertype : supertypes(erased)) {
+                set(result, this.hierarchy.get(supertype));
+            }
+        }
+        return result.stream().toArray();
+    }
+
+    /**
+     * Collect a class, all of its superclasses and interfaces, and
+     * {@link Object}.
+     *
+     * <p>Primitive types are collected along with their boxed
+     * equivalents.</p>
+     *
+     * @param type the type to start from
+     * @return all supertypes of the type
+     */
+    private static Set<Class<?>> supertypes(final Class<?> type) {
+        final Set<Class<?>> seen = new HashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        if (type.isPrimitive()) {
+            queue.add((Class<?>) GenericTypeReflector.box(type));
+        }
+        queue.add(Object.class);
+
+        @Nullable Class<?> next;
+        while ((next = queue.poll()) != null) {
+            if (!seen.add(next)) {
+                continue;
+            }
+            final @Nullable Class<?> superclass = next.getSuperclass();
+            if (superclass != null) {
+                queue.add(superclass);
+            }
+            Collections.addAll(queue, next.getInterfaces());
+        }
+        return seen;
+    }
+
+    /**
+     * Get the erasure of the types we can index by.
+     *
+     * <p>Other types, such as wildcards and type variables, can match
+     * registrations through their bounds, so they are not indexed.</p>
+     *
+     * @param type the type to erase
+     * @return the erased type, or null if the type can not be indexed
+     */
+    private static @Nullable Class<?> erase(final @Nullable Type type) {
+        if (type instanceof Class<?> || type instanceof ParameterizedType || type instanceof GenericArrayType) {
+            return GenericTypeReflector.erase(type);
+        }
+        return null;
+    }
+
+    private static void set(final BitSet set, final int @Nullable [] indices) {
+        if (indices != null) {
+            for (final int idx : indices) {
+                set.set(idx);
+            }
+        }
+    }
+
+    private static Map<Class<?>, int[]> toArrays(final Map<Class<?>, List<Integer>> lists) {
+        final Map<Class<?>, int[]> result = new HashMap<>(lists.size() * 4 / 3 + 1);
+        for (final Map.Entry<Class<?>, List<Integer>> entry : lists.entrySet()) {
+            result.put(entry.getKey(), toArray(entry.getValue()));
+        }
+        return result;
+    }
+
+    private static int[] toArray(final List<Integer> list) {
+        if (list.isEmpty()) {
+            return NONE;
+        }
+        final int[] result = new int[list.size()];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = list.get(i);
+        }
+        return result;
+    }
+
+}
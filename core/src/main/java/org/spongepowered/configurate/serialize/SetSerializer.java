@@ -70,4 +70,9 @@ final class SetSerializer extends AbstractListChildSerializer<Set<?>> {
         ((Set) collection).add(deserialized);
     }
 
+    @Override
+    Set<?> elements(final Set<?> collection) {
+        return collection;
+    }
+
 }
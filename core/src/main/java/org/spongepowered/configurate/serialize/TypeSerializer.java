@@ -21,6 +21,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
 import org.spongepowered.configurate.util.CheckedFunction;
+import org.spongepowered.configurate.util.ResolvedType;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
@@ -96,6 +97,24 @@ public interface TypeSerializer<T> {
         return this.deserialize(type.getType(), node);
     }
 
+    /**
+     * Deserialize an object (of the correct type) from the given
+     * configuration node, using a type resolved ahead of time.
+     *
+     * <p>By default, this deserializes using the type as it was originally
+     * provided. Serializers that need the canonical form of the type may
+     * override this to avoid computing it again.</p>
+     *
+     * @param type the resolved type of return value required
+     * @param node the node containing serialized data
+     * @return an object
+     * @throws SerializationException if the presented data is invalid
+     * @since 4.2.0
+     */
+    default T deserialize(final ResolvedType type, final ConfigurationNode node) throws SerializationException {
+        return this.deserialize(type.annotatedType(), node);
+    }
+
     /**
      * Deserialize an object (of the correct type) from the given configuration
      * node.
@@ -26,6 +26,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.ObjectMapper;
+import org.spongepowered.configurate.util.ResolvedType;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
 
 import java.lang.reflect.AnnotatedType;
@@ -33,9 +34,7 @@ import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 /**
@@ -46,6 +45,7 @@ import java.util.function.Predicate;
 public final class TypeSerializerCollection {
 
     private static final TypeSerializerCollection DEFAULTS;
+    private static final int DEFAULT_CACHE_CAPACITY = 2048;
 
     static {
         DEFAULTS = TypeSerializerCollection.builder()
@@ -88,12 +88,22 @@ public final class TypeSerializerCollection {
 
     private final @Nullable TypeSerializerCollection parent;
     final List<RegisteredSerializer> serializers;
-    private final Map<Type, TypeSerializer<?>> typeMatches = new ConcurrentHashMap<>();
-    private final Map<AnnotatedType, TypeSerializer<?>> annotatedTypeMatches = new ConcurrentHashMap<>();
-
-    private TypeSerializerCollection(final @Nullable TypeSerializerCollection parent, final List<RegisteredSerializer> serializers) {
+    private final SerializerIndex index;
+    private final int cacheCapacity;
+    private final ResolutionCache<Type> typeMatches;
+    private final ResolutionCache<AnnotatedType> annotatedTypeMatches;
+
+    private TypeSerializerCollection(
+        final @Nullable TypeSerializerCollection parent,
+        final List<RegisteredSerializer> serializers,
+        final int cacheCapacity
+    ) {
         this.parent = parent;
         this.serializers = UnmodifiableCollections.copyOf(serializers);
+        this.index = new SerializerIndex(this.serializers, parent == null ? null : parent.index);
+        this.cacheCapacity = cacheCapacity;
+        this.typeMatches = new ResolutionCache<>(cacheCapacity, ResolutionCache::scope, ResolutionCache::probe);
+        this.annotatedTypeMatches = new ResolutionCache<>(cacheCapacity, ResolutionCache::scope, ResolutionCache::probe);
     }
 
     /**
@@ -101,7 +111,8 @@ public final class TypeSerializerCollection {
      *
      * <p>First, all registered serializers from this collection are queried in
      * registration order, then if a parent collection is set, that collection
-     * is queried.</p>
+     * is queried. Registrations are indexed by type when the collection is
+     * built, so only those that could match the type are tested.</p>
      *
      * @param token the type a serializer is required for
      * @param <T> the type to serialize
@@ -120,7 +131,8 @@ public final class TypeSerializerCollection {
      *
      * <p>First, all registered serializers from this collection are queried in
      * registration order, then if a parent collection is set, that collection
-     * is queried.</p>
+     * is queried. Registrations are indexed by type when the collection is
+     * built, so only those that could match the type are tested.</p>
      *
      * <p>This method will fail when provided a raw parameterized type</p>
      *
@@ -171,44 +183,55 @@ public final class TypeSerializerCollection {
         return this.get0(GenericTypeReflector.toCanonicalBoxed(type));
     }
 
+    /**
+     * Resolve a type serializer for a type resolved ahead of time.
+     *
+     * <p>This behaves like {@link #get(AnnotatedType)}, without having to
+     * compute the canonical form of the type again.</p>
+     *
+     * @param type the type a serializer is required for
+     * @return a serializer if any is present, or null if no applicable
+     *          serializer is found
+     * @since 4.2.0
+     */
+    public @Nullable TypeSerializer<?> get(final ResolvedType type) {
+        return this.get0(type.canonical());
+    }
+
     private @Nullable TypeSerializer<?> get0(final AnnotatedType canonical) {
-        @Nullable TypeSerializer<?> serial = this.annotatedTypeMatches.computeIfAbsent(canonical, param -> {
-            for (final RegisteredSerializer ent : this.serializers) {
-                if (ent.matches(param)) {
-                    return ent.serializer();
-                }
-            }
-            return NoOp.INSTANCE;
+        final TypeSerializer<?> serial = this.annotatedTypeMatches.get(canonical, param -> {
+            final @Nullable TypeSerializer<?> found = this.index.find(param);
+            return found == null ? NoOp.INSTANCE : found;
         });
-
-        if (serial == NoOp.INSTANCE) {
-            serial = null;
-        }
-
-        if (serial == null && this.parent != null) {
-            serial = this.parent.get0(canonical);
-        }
-        return serial;
+        return serial == NoOp.INSTANCE ? null : serial;
     }
 
     private @Nullable TypeSerializer<?> get0(final Type canonical) {
-        @Nullable TypeSerializer<?> serial = this.typeMatches.computeIfAbsent(canonical, param -> {
-            for (final RegisteredSerializer ent : this.serializers) {
-                if (ent.matches(param)) {
-                    return ent.serializer();
-                }
-            }
-            return NoOp.INSTANCE;
+        final TypeSerializer<?> serial = this.typeMatches.get(canonical, param -> {
+            final @Nullable TypeSerializer<?> found = this.index.find(param);
+            return found == null ? NoOp.INSTANCE : found;
         });
+        return serial == NoOp.INSTANCE ? null : serial;
+    }
 
-        if (serial == NoOp.INSTANCE) {
-            serial = null;
-        }
-
-        if (serial == null && this.parent != null) {
-            serial = this.parent.get0(canonical);
-        }
-        return serial;
+    /**
+     * Get statistics about the cache of resolved serializers in
+     * this collection.
+     *
+     * <p>Resolutions for types involving classes from class loaders other
+     * than Configurate's own are held weakly, and are not included in the
+     * cache size or bounded by its capacity.</p>
+     *
+     * @return a snapshot of the cache statistics
+     * @since 4.2.0
+     */
+    public CacheStatistics cacheStatistics() {
+        return new CacheStatistics(
+            this.typeMatches.hits() + this.annotatedTypeMatches.hits(),
+            this.typeMatches.misses() + this.annotatedTypeMatches.misses(),
+            this.typeMatches.evictions() + this.annotatedTypeMatches.evictions(),
+            this.typeMatches.size() + this.annotatedTypeMatches.size()
+        );
     }
 
     /**
@@ -285,9 +308,30 @@ public final class TypeSerializerCollection {
     public static class Builder {
         private final @Nullable TypeSerializerCollection parent;
         private final List<RegisteredSerializer> serializers = new ArrayList<>();
+        private int cacheCapacity;
 
         Builder(final @Nullable TypeSerializerCollection parent) {
             this.parent = parent;
+            this.cacheCapacity = parent == null ? DEFAULT_CACHE_CAPACITY : parent.cacheCapacity;
+        }
+
+        /**
+         * Set the maximum number of resolved serializers the collection will
+         * cache for each kind of lookup.
+         *
+         * <p>Collections created from a child builder inherit the capacity of
+         * their parent by default.</p>
+         *
+         * @param capacity the cache capacity, must be positive
+         * @return this builder
+         * @since 4.2.0
+         */
+        public Builder cacheCapacity(final int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Cache capacity must be positive, but was " + capacity);
+            }
+            this.cacheCapacity = capacity;
+            return this;
         }
 
         /**
@@ -375,7 +419,7 @@ public final class TypeSerializerCollection {
         private Builder register0(final Type type, final TypeSerializer<?> serializer) {
             requireNonNull(type, "type");
             requireNonNull(serializer, "serializer");
-            this.serializers.add(new TypeRegistration(test -> {
+            this.serializers.add(new TypeRegistration(type, false, test -> {
                 // Test direct type
                 if (GenericTypeReflector.isSuperType(type, test)) {
                     return true;
@@ -447,7 +491,7 @@ public final class TypeSerializerCollection {
         private Builder registerExact0(final Type type, final TypeSerializer<?> serializer) {
             requireNonNull(type, "type");
             requireNonNull(serializer, "serializer");
-            this.serializers.add(new TypeRegistration(test -> test.equals(type), serializer));
+            this.serializers.add(new TypeRegistration(type, true, test -> test.equals(type), serializer));
             return this;
         }
 
@@ -497,8 +541,85 @@ public final class TypeSerializerCollection {
          * @since 4.0.0
          */
         public TypeSerializerCollection build() {
-            return new TypeSerializerCollection(this.parent, this.serializers);
+            return new TypeSerializerCollection(this.parent, this.serializers, this.cacheCapacity);
+        }
+    }
+
+    /**
+     * A snapshot of the state of a collection's resolution cache.
+     *
+     * @since 4.2.0
+     */
+    public static final class CacheStatistics {
+
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        CacheStatistics(final long hits, final long misses, final long evictions, final int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        /**
+         * Get the number of lookups answered from the cache.
+         *
+         * @return the hit count
+         * @since 4.2.0
+         */
+        public long hits() {
+            return this.hits;
+        }
+
+        /**
+         * Get the number of lookups that had to resolve a serializer.
+         *
+         * @return the miss count
+         * @since 4.2.0
+         */
+        public long misses() {
+            return this.misses;
+        }
+
+        /**
+         * Get the number of entries evicted to stay within the
+         * cache capacity.
+         *
+         * @return the eviction count
+         * @since 4.2.0
+         */
+        public long evictions() {
+            return this.evictions;
+        }
+
+        /**
+         * Get the number of entries currently held in the bounded part of
+         * the cache.
+         *
+         * <p>Serializers for types referring to classes from other class
+         * loaders are attached to those classes instead, and are not
+         * counted here.</p>
+         *
+         * @return the cache size
+         * @since 4.2.0
+         */
+        public int size() {
+            return this.size;
         }
+
+        @Override
+        public String toString() {
+            return "CacheStatistics{"
+                + "hits=" + this.hits
+                + ", misses=" + this.misses
+                + ", evictions=" + this.evictions
+                + ", size=" + this.size
+                + '}';
+        }
+
     }
 
     interface RegisteredSerializer {
@@ -509,14 +630,42 @@ public final class TypeSerializerCollection {
 
         TypeSerializer<?> serializer();
 
+        /**
+         * Get the type this serializer was registered for, if it was
+         * registered for a single type rather than with a predicate.
+         *
+         * @return the registered type, if any
+         */
+        default @Nullable Type indexType() {
+            return null;
+        }
+
+        /**
+         * Get whether this serializer only matches its {@link #indexType()}
+         * exactly, rather than that type and all of its subtypes.
+         *
+         * @return whether the registration is exact
+         */
+        default boolean exact() {
+            return false;
+        }
+
     }
 
     static final class TypeRegistration implements RegisteredSerializer {
 
+        private final @Nullable Type type;
+        private final boolean exact;
         private final Predicate<Type> predicate;
         private final TypeSerializer<?> serializer;
 
         TypeRegistration(final Predicate<Type> predicate, final TypeSerializer<?> serializer) {
+            this(null, false, predicate, serializer);
+        }
+
+        TypeRegistration(final @Nullable Type type, final boolean exact, final Predicate<Type> predicate, final TypeSerializer<?> serializer) {
+            this.type = type;
+            this.exact = exact;
             this.predicate = predicate;
             this.serializer = serializer;
         }
@@ -536,6 +685,16 @@ public final class TypeSerializerCollection {
             return this.serializer;
         }
 
+        @Override
+        public @Nullable Type indexType() {
+            return this.type;
+        }
+
+        @Override
+        public boolean exact() {
+            return this.exact;
+        }
+
     }
 
     static final class AnnotatedTypeRegistration implements RegisteredSerializer {
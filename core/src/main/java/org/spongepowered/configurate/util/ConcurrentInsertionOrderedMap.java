@@ -0,0 +1,349 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.util;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * A concurrent map that iterates in insertion order.
+ *
+ * <p>Lookups go through a {@link ConcurrentHashMap} index and never lock.
+ * Entries are additionally kept in a linked list that records insertion
+ * order. Modifications are serialized on the map's monitor, and iteration
+ * is weakly consistent: iterators never throw
+ * {@link java.util.ConcurrentModificationException}, and see every entry
+ * that was present for the whole iteration.</p>
+ *
+ * <p>Like other concurrent maps, neither keys nor values may be null.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class ConcurrentInsertionOrderedMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    private final ConcurrentHashMap<K, Node<K, V>> index = new ConcurrentHashMap<>();
+    /**
+     * Sentinel before the first entry.
+     */
+    private final Node<K, V> head = new Node<>(null, null);
+    // guarded by this
+    private Node<K, V> tail = this.head;
+    private @Nullable Set<Map.Entry<K, V>> entrySet;
+
+    @Override
+    public int size() {
+        return this.index.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.index.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+        return key != null && this.index.containsKey(key);
+    }
+
+    @Override
+    public @Nullable V get(final @Nullable Object key) {
+        if (key == null) {
+            return null;
+        }
+        final @Nullable Node<K, V> node = this.index.get(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public @Nullable V put(final K key, final V value) {
+        requireNonNull(value, "value");
+        synchronized (this) {
+            final @Nullable Node<K, V> existing = this.index.get(requireNonNull(key, "key"));
+            if (existing != null) {
+                final V old = existing.value;
+                existing.value = value;
+                return old;
+            }
+            this.append(key, value);
+            return null;
+        }
+    }
+
+    @Override
+    public @Nullable V putIfAbsent(final K key, final V value) {
+        requireNonNull(value, "value");
+        synchronized (this) {
+            final @Nullable Node<K, V> existing = this.index.get(requireNonNull(key, "key"));
+            if (existing != null) {
+                return existing.value;
+            }
+            this.append(key, value);
+            return null;
+        }
+    }
+
+    @Override
+    public @Nullable V remove(final @Nullable Object key) {
+        if (key == null) {
+            return null;
+        }
+        synchronized (this) {
+            final @Nullable Node<K, V> removed = this.index.remove(key);
+            if (removed == null) {
+                return null;
+            }
+            this.unlink(removed);
+            return removed.value;
+        }
+    }
+
+    @Override
+    public boolean remove(final @Nullable Object key, final @Nullable Object value) {
+        if (key == null || value == null) {
+            return false;
+        }
+        synchronized (this) {
+            final @Nullable Node<K, V> existing = this.index.get(key);
+            if (existing == null || !value.equals(existing.value)) {
+                return false;
+            }
+            this.index.remove(key);
+            this.unlink(existing);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean replace(final K key, final V oldValue, final V newValue) {
+        requireNonNull(oldValue, "oldValue");
+        requireNonNull(newValue, "newValue");
+        synchronized (this) {
+            final @Nullable Node<K, V> existing = this.index.get(requireNonNull(key, "key"));
+            if (existing == null || !oldValue.equals(existing.value)) {
+                return false;
+            }
+            existing.value = newValue;
+            return true;
+        }
+    }
+
+    @Override
+    public @Nullable V replace(final K key, final V value) {
+        requireNonNull(value, "value");
+        synchronized (this) {
+            final @Nullable Node<K, V> existing = this.index.get(requireNonNull(key, "key"));
+            if (existing == null) {
+                return null;
+            }
+            final V old = existing.value;
+            existing.value = value;
+            return old;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (this) {
+            this.index.clear();
+            for (@Nullable Node<K, V> node = this.head.next; node != null; node = node.next) {
+                node.removed = true;
+            }
+            this.head.next = null;
+            this.tail = this.head;
+        }
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        for (@Nullable Node<K, V> node = this.head.next; node != null; node = node.next) {
+            if (!node.removed) {
+                action.accept(node.key, node.value);
+            }
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+        return this.entrySet;
+    }
+
+    // guarded by this
+    private void append(final K key, final V value) {
+        final Node<K, V> node = new Node<>(key, value);
+        node.prev = this.tail;
+        this.tail.next = node;
+        this.tail = node;
+        this.index.put(key, node);
+    }
+
+    // guarded by this
+    private void unlink(final Node<K, V> node) {
+        node.removed = true;
+        final Node<K, V> prev = node.prev;
+        final @Nullable Node<K, V> next = node.next;
+        prev.next = next;
+        if (next == null) {
+            this.tail = prev;
+        } else {
+            next.prev = prev;
+        }
+        // node.next is kept so iterators positioned on this node can continue
+    }
+
+    static final class Node<K, V> implements Map.Entry<K, V> {
+        final K key;
+        volatile V value;
+        volatile @Nullable Node<K, V> next;
+        volatile boolean removed;
+        // guarded by the owning map, unset only on the head sentinel
+        @MonotonicNonNull Node<K, V> prev;
+
+        // the head sentinel has no key or value
+        Node(final @Nullable K key, final @Nullable V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return this.key;
+        }
+
+        @Override
+        public V getValue() {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(final V value) {
+            throw new UnsupportedOperationException("Entries must be modified through the map");
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object other) {
+            if (!(other instanceof Map.Entry<?, ?>)) {
+                return false;
+            }
+            final Map.Entry<?, ?> that = (Map.Entry<?, ?>) other;
+            return this.key.equals(that.getKey()) && Objects.equals(this.value, that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.key.hashCode() ^ this.value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ConcurrentInsertionOrderedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(final @Nullable Object o) {
+            if (!(o instanceof Map.Entry<?, ?>)) {
+                return false;
+            }
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            final @Nullable Object key = entry.getKey();
+            final @Nullable V value = key == null ? null : ConcurrentInsertionOrderedMap.this.get(key);
+            return value != null && value.equals(entry.getValue());
+        }
+
+        @Override
+        public boolean remove(final @Nullable Object o) {
+            if (!(o instanceof Map.Entry<?, ?>)) {
+                return false;
+            }
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return ConcurrentInsertionOrderedMap.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void clear() {
+            ConcurrentInsertionOrderedMap.this.clear();
+        }
+
+    }
+
+    final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private @Nullable Node<K, V> next = ConcurrentInsertionOrderedMap.this.head.next;
+        private @Nullable Node<K, V> last;
+
+        @Override
+        public boolean hasNext() {
+            // skip entries removed since this iterator reached them
+            @Nullable Node<K, V> node = this.next;
+            while (node != null && node.removed) {
+                node = node.next;
+            }
+            this.next = node;
+            return node != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Node<K, V> node = this.next;
+            this.last = node;
+            this.next = node.next;
+            return node;
+        }
+
+        @Override
+        public void remove() {
+            final @Nullable Node<K, V> last = this.last;
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            this.last = null;
+            ConcurrentInsertionOrderedMap.this.remove(last.key, last.value);
+        }
+    }
+
+}
@@ -20,11 +20,8 @@ import static java.util.Objects.requireNonNull;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
-import java.util.WeakHashMap;
 
 /**
  * Utility class to cache more flexible enum lookup.
@@ -38,6 +35,9 @@ import java.util.WeakHashMap;
  *     <li>caches mappings</li>
  * </ul>
  *
+ * <p>Mappings are computed once per enum class and can be safely shared
+ * between threads. Lookups do not allocate.</p>
+ *
  * <p>If the enum has two fields that are equal except for case and underscores,
  * an exact match will return the appropriate value, and any fuzzy matches will
  * map to the first value in the enum that is applicable.</p>
@@ -50,12 +50,19 @@ public final class EnumLookup {
 
     }
 
-    private static final Map<Class<? extends Enum<?>>, Map<String, Enum<?>>> ENUM_FIELD_CACHE = new WeakHashMap<>();
+    // index of each part of a cached table, see table()
+    private static final int EXACT = 0;
+    private static final int FOLDED = 1;
 
-    private static String processKey(final String key) {
-        // stick a flower at the front so processed keys are different from literal keys
-        return "🌸" + key.toLowerCase(Locale.ROOT).replace("_", "");
-    }
+    // the values are built only from JDK types, so an enum from a parent
+    // class loader never keeps Configurate's own loader reachable
+    private static final ClassValue<Object[]> ENUM_FIELD_CACHE = new ClassValue<Object[]>() {
+        @Override
+        protected Object[] computeValue(final Class<?> type) {
+            final Object @Nullable [] constants = type.getEnumConstants();
+            return table(constants == null ? new Enum<?>[0] : (Enum<?>[]) constants);
+        }
+    };
 
     /**
      * Perform a fuzzy lookup of {@code key} in enum {@code clazz}.
@@ -68,21 +75,104 @@ public final class EnumLookup {
      */
     @SuppressWarnings("unchecked")
     public static <T extends Enum<T>> @Nullable T lookupEnum(final Class<T> clazz, final String key) {
-        final Map<String, Enum<?>> vals = ENUM_FIELD_CACHE.computeIfAbsent(requireNonNull(clazz), c2 -> {
-            final Map<String, Enum<?>> ret = new HashMap<>();
-            for (Enum<?> field : c2.getEnumConstants()) {
-                ret.put(field.name(), field);
-                ret.putIfAbsent(processKey(field.name()), field);
+        final Object[] table = ENUM_FIELD_CACHE.get(requireNonNull(clazz, "clazz"));
+        final @Nullable Enum<?> exact = ((Map<String, Enum<?>>) table[EXACT]).get(requireNonNull(key, "key"));
+        if (exact != null) {
+            return (T) exact;
+        }
+        final @Nullable Enum<?>[] folded = (@Nullable Enum<?>[]) table[FOLDED];
+        return (T) folded[slot(folded, key)];
+    }
+
+    /**
+     * Build the lookup table for a single enum class.
+     *
+     * <p>Exact names are held in an ordinary map. Fuzzy matches are held in an
+     * open-addressed array keyed by the folded hash of each name, so a key can
+     * be compared against candidates in place.</p>
+     *
+     * @param constants the enum's constants
+     * @return the exact map and the folded array
+     */
+    private static Object[] table(final Enum<?>[] constants) {
+        final Map<String, Enum<?>> exact = new HashMap<>(constants.length * 4 / 3 + 1);
+        int capacity = 2;
+        while (capacity < constants.length * 2) {
+            capacity <<= 1;
+        }
+        final @Nullable Enum<?>[] folded = new Enum<?>[capacity];
+
+        for (final Enum<?> constant : constants) {
+            exact.put(constant.name(), constant);
+            final int slot = slot(folded, constant.name());
+            if (folded[slot] == null) { // the first applicable value wins
+                folded[slot] = constant;
             }
-            return Collections.unmodifiableMap(ret);
-        });
+        }
+        return new Object[] {exact, folded};
+    }
 
+    /**
+     * Find the slot for a key in a folded array, either holding a value that
+     * matches the key or empty.
+     *
+     * @param folded the folded array, sized to a power of two
+     * @param key the key to find
+     * @return the slot index
+     */
+    private static int slot(final @Nullable Enum<?>[] folded, final CharSequence key) {
+        final int mask = folded.length - 1;
+        int idx = foldedHash(key) & mask;
+        @Nullable Enum<?> candidate;
+        while ((candidate = folded[idx]) != null && !foldedEquals(candidate.name(), key)) {
+            idx = (idx + 1) & mask;
+        }
+        return idx;
+    }
+
+    /**
+     * Compute a hash of {@code key} that ignores case and underscores.
+     *
+     * @param key the key to hash
+     * @return the folded hash
+     */
+    private static int foldedHash(final CharSequence key) {
+        int hash = 0;
+        for (int i = 0, length = key.length(); i < length; ++i) {
+            final char c = key.charAt(i);
+            if (c != '_') {
+                hash = 31 * hash + Character.toLowerCase(c);
+            }
+        }
+        return hash ^ (hash >>> 16);
+    }
 
-        final Enum<?> possibleRet = vals.get(requireNonNull(key, "key"));
-        if (possibleRet != null) {
-            return (T) possibleRet;
+    /**
+     * Compare two keys, ignoring case and underscores.
+     *
+     * @param left the first key
+     * @param right the second key
+     * @return whether the keys are equal
+     */
+    private static boolean foldedEquals(final CharSequence left, final CharSequence right) {
+        final int leftLength = left.length();
+        final int rightLength = right.length();
+        int leftIdx = 0;
+        int rightIdx = 0;
+        while (true) {
+            while (leftIdx < leftLength && left.charAt(leftIdx) == '_') {
+                ++leftIdx;
+            }
+            while (rightIdx < rightLength && right.charAt(rightIdx) == '_') {
+                ++rightIdx;
+            }
+            if (leftIdx == leftLength || rightIdx == rightLength) {
+                return leftIdx == leftLength && rightIdx == rightLength;
+            }
+            if (Character.toLowerCase(left.charAt(leftIdx++)) != Character.toLowerCase(right.charAt(rightIdx++))) {
+                return false;
+            }
         }
-        return (T) vals.get(processKey(key));
     }
 
 }
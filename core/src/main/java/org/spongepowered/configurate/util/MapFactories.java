@@ -76,6 +76,23 @@ public final class MapFactories {
         return DefaultFactory.INSERTION_ORDERED;
     }
 
+    /**
+     * Returns a {@link MapFactory} which creates concurrent maps which are
+     * sorted by insertion order.
+     *
+     * <p>Unlike the maps produced by {@link #insertionOrdered()}, these maps
+     * are safe for concurrent use by themselves, so nodes do not have to
+     * guard them with a lock. Reads never block, which avoids contention
+     * when many threads read from the same nodes.</p>
+     *
+     * @return a map factory which produces concurrent maps sorted by
+     *     insertion order
+     * @since 4.2.0
+     */
+    public static MapFactory concurrentInsertionOrdered() {
+        return DefaultFactory.CONCURRENT_INSERTION_ORDERED;
+    }
+
     private enum DefaultFactory implements MapFactory {
         UNORDERED {
             @Override
@@ -94,6 +111,12 @@ public final class MapFactories {
             public <K, V> Map<K, V> create() {
                 return new LinkedHashMap<>();
             }
+        },
+        CONCURRENT_INSERTION_ORDERED {
+            @Override
+            public <K, V> ConcurrentMap<K, V> create() {
+                return new ConcurrentInsertionOrderedMap<>();
+            }
         }
     }
 
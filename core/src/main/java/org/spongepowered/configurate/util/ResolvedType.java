@@ -0,0 +1,150 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.util;
+
+import static java.util.Objects.requireNonNull;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.geantyref.TypeToken;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+
+/**
+ * A type that has been canonicalized once, ahead of use.
+ *
+ * <p>Resolving a serializer for a type, and deserializing a value of that
+ * type, both need the canonical boxed form of the type. Computing that form
+ * allocates a new type each time, which adds up when the same type is used
+ * for many values. Holding on to a resolved type wherever a
+ * {@link TypeToken} or {@link AnnotatedType} would otherwise be held allows
+ * that work to be done only once.</p>
+ *
+ * @since 4.2.0
+ */
+public final class ResolvedType {
+
+    private final AnnotatedType type;
+    private final AnnotatedType canonical;
+    private final Class<?> erased;
+    private final boolean complete;
+
+    /**
+     * Resolve an annotated type.
+     *
+     * @param type the type to resolve
+     * @return a resolved type
+     * @since 4.2.0
+     */
+    public static ResolvedType of(final AnnotatedType type) {
+        return new ResolvedType(requireNonNull(type, "type"));
+    }
+
+    /**
+     * Resolve a type.
+     *
+     * @param type the type to resolve
+     * @return a resolved type
+     * @since 4.2.0
+     */
+    public static ResolvedType of(final Type type) {
+        return of(GenericTypeReflector.annotate(requireNonNull(type, "type")));
+    }
+
+    /**
+     * Resolve the type held by a type token.
+     *
+     * @param type the type to resolve
+     * @return a resolved type
+     * @since 4.2.0
+     */
+    public static ResolvedType of(final TypeToken<?> type) {
+        return of(requireNonNull(type, "type").getAnnotatedType());
+    }
+
+    private ResolvedType(final AnnotatedType type) {
+        final AnnotatedType canonical = GenericTypeReflector.toCanonicalBoxed(type);
+        this.type = type;
+        this.canonical = canonical;
+        this.erased = GenericTypeReflector.erase(canonical.getType());
+        this.complete = !GenericTypeReflector.isMissingTypeParameters(canonical.getType());
+    }
+
+    /**
+     * Get the type as it was provided.
+     *
+     * @return the original annotated type
+     * @since 4.2.0
+     */
+    public AnnotatedType annotatedType() {
+        return this.type;
+    }
+
+    /**
+     * Get the canonical form of this type, with any primitives boxed.
+     *
+     * @return the canonical annotated type
+     * @since 4.2.0
+     */
+    public AnnotatedType canonical() {
+        return this.canonical;
+    }
+
+    /**
+     * Get the erasure of the canonical form of this type.
+     *
+     * @return the erased type
+     * @since 4.2.0
+     */
+    public Class<?> erased() {
+        return this.erased;
+    }
+
+    /**
+     * Get whether this type has all of its type parameters specified.
+     *
+     * <p>Raw types cannot be serialized.</p>
+     *
+     * @return whether the type is complete
+     * @since 4.2.0
+     */
+    public boolean complete() {
+        return this.complete;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ResolvedType)) {
+            return false;
+        }
+        return this.canonical.equals(((ResolvedType) other).canonical);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.canonical.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ResolvedType{" + this.canonical + '}';
+    }
+
+}
@@ -18,16 +18,19 @@ package org.spongepowered.configurate.objectmapping;
 
 import static io.leangen.geantyref.GenericTypeReflector.erase;
 import static io.leangen.geantyref.GenericTypeReflector.resolveExactType;
+import static org.spongepowered.configurate.objectmapping.Invocations.propagate;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.configurate.util.Types;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.RecordComponent;
 
@@ -37,6 +40,9 @@ import java.lang.reflect.RecordComponent;
 final class RecordFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]> {
 
     static final RecordFieldDiscoverer INSTANCE = new RecordFieldDiscoverer();
+    private static final MethodHandles.Lookup OWN_LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
 
     private RecordFieldDiscoverer() {
     }
@@ -60,6 +66,7 @@ final class RecordFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]>
         try {
             final RecordComponent[] recordComponents = clazz.getRecordComponents();
             final Class<?>[] constructorParams = new Class<?>[recordComponents.length];
+            final @Nullable Object[] defaults = new Object[recordComponents.length];
             for (int i = 0, recordComponentsLength = recordComponents.length; i < recordComponentsLength; i++) {
                 // each component is itself annotatable, plus attached backing field and accessor method, so we have to get them all
                 final RecordComponent component = recordComponents[i];
@@ -69,6 +76,7 @@ final class RecordFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]>
                 final String name = component.getName();
                 final AnnotatedType genericType = component.getAnnotatedType();
                 constructorParams[i] = erase(genericType.getType()); // to add to the canonical constructor
+                defaults[i] = Types.defaultValue(constructorParams[i]);
 
                 final Field backingField = clazz.getDeclaredField(name);
                 backingField.setAccessible(true);
@@ -77,6 +85,7 @@ final class RecordFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]>
                 final AnnotatedType resolvedType = resolveExactType(genericType, target);
                 final AnnotatedElement annotationContainer = Types.combinedAnnotations(component, backingField, accessor);
                 final int targetIdx = i;
+                final MethodHandle getter = OWN_LOOKUP.unreflect(accessor).asType(GETTER_TYPE);
                 collector.accept(name, resolvedType, annotationContainer,
                     (intermediate, el, implicitSupplier) -> {
                         if (el != null) {
@@ -84,13 +93,23 @@ final class RecordFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]>
                         } else {
                             intermediate[targetIdx] = implicitSupplier.get();
                         }
-                    }, accessor::invoke
+                    }, instance -> {
+                        try {
+                            return (Object) getter.invokeExact((Object) instance);
+                        } catch (final Throwable ex) {
+                            throw propagate(ex);
+                        }
+                    }
                 );
             }
 
             // canonical constructor, which we'll use to make new instances
             final Constructor<?> clazzConstructor = clazz.getDeclaredConstructor(constructorParams);
             clazzConstructor.setAccessible(true);
+            // spread over the intermediate array, so each instance is created by one exact invocation
+            final MethodHandle constructor = OWN_LOOKUP.unreflectConstructor(clazzConstructor)
+                .asSpreader(Object[].class, recordComponents.length)
+                .asType(CONSTRUCTOR_TYPE);
 
             return new InstanceFactory<>() {
                 @Override
@@ -102,15 +121,15 @@ final class RecordFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]>
                 public Object complete(final @Nullable Object[] intermediate) throws SerializationException {
                     // Primitive values cannot be null, but we must pass a value for every parameter.
                     for (int i = 0, length = intermediate.length; i < length; ++i) {
-                        if (intermediate[i] == null && constructorParams[i].isPrimitive()) {
-                            intermediate[i] = Types.defaultValue(constructorParams[i]);
+                        if (intermediate[i] == null) {
+                            intermediate[i] = defaults[i];
                         }
                     }
 
                     try {
-                        return clazzConstructor.newInstance(intermediate);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        throw new SerializationException(target.getType(), e);
+                        return (Object) constructor.invokeExact(intermediate);
+                    } catch (final Throwable e) {
+                        throw new SerializationException(target.getType(), propagate(e));
                     }
                 }
 
@@ -121,6 +140,8 @@ final class RecordFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]>
             };
         } catch (final NoSuchFieldException | NoSuchMethodException ex) {
             throw new SerializationException(target.getType(), "Record class did not have fields and accessors aligning specification", ex);
+        } catch (final IllegalAccessException ex) {
+            throw new SerializationException(target.getType(), "Record class could not be accessed", ex);
         }
     }
 
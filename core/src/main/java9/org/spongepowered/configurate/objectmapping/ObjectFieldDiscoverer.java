@@ -19,27 +19,32 @@ package org.spongepowered.configurate.objectmapping;
 import static io.leangen.geantyref.GenericTypeReflector.erase;
 import static io.leangen.geantyref.GenericTypeReflector.getExactSuperType;
 import static io.leangen.geantyref.GenericTypeReflector.getFieldType;
+import static org.spongepowered.configurate.objectmapping.Invocations.propagate;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.configurate.util.CheckedFunction;
 import org.spongepowered.configurate.util.Types;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.invoke.VarHandle;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-class ObjectFieldDiscoverer implements FieldDiscoverer<Map<VarHandle, Object>> {
+class ObjectFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]> {
 
     private static final MethodHandles.Lookup OWN_LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
 
     static final ObjectFieldDiscoverer EMPTY_CONSTRUCTOR_INSTANCE = new ObjectFieldDiscoverer(type -> {
         try {
@@ -56,37 +61,44 @@ class ObjectFieldDiscoverer implements FieldDiscoverer<Map<VarHandle, Object>> {
         } catch (final NoSuchMethodException e) {
             return null;
         }
-    }, "Objects must have a zero-argument constructor to be able to create new instances");
+    }, "Objects must have a zero-argument constructor to be able to create new instances", false);
 
     private final CheckedFunction<AnnotatedType, @Nullable Supplier<Object>, SerializationException> instanceFactory;
     private final String instanceUnavailableErrorMessage;
+    private final boolean requiresInstanceCreation;
 
     ObjectFieldDiscoverer(
         final CheckedFunction<AnnotatedType, @Nullable Supplier<Object>, SerializationException> instanceFactory,
-        final @Nullable String instanceUnavailableErrorMessage
+        final @Nullable String instanceUnavailableErrorMessage,
+        final boolean requiresInstanceCreation
     ) {
         this.instanceFactory = instanceFactory;
         this.instanceUnavailableErrorMessage = Objects.requireNonNullElse(
             instanceUnavailableErrorMessage,
             "Unable to create instances for this type!"
         );
+        this.requiresInstanceCreation = requiresInstanceCreation;
     }
 
     @Override
-    public <V> @Nullable InstanceFactory<Map<VarHandle, Object>> discover(final AnnotatedType target,
-            final FieldCollector<Map<VarHandle, Object>, V> collector) throws SerializationException {
+    public <V> @Nullable InstanceFactory<@Nullable Object[]> discover(final AnnotatedType target,
+            final FieldCollector<@Nullable Object[], V> collector) throws SerializationException {
         final Class<?> clazz = erase(target.getType());
         if (clazz.isInterface()) {
             throw new SerializationException(target.getType(), "ObjectMapper can only work with concrete types");
         }
 
         final @Nullable Supplier<Object> maker = this.instanceFactory.apply(target);
+        if (maker == null && this.requiresInstanceCreation) {
+            return null;
+        }
 
+        final List<FieldAccessor> fields = new ArrayList<>();
         AnnotatedType collectType = target;
         Class<?> collectClass = clazz;
         while (true) {
             try {
-                collectFields(collectType, collector);
+                collectFields(collectType, collector, fields);
             } catch (final IllegalAccessException ex) {
                 throw new SerializationException(collectType.getType(), "Unable to access field in type", ex);
             }
@@ -97,33 +109,45 @@ class ObjectFieldDiscoverer implements FieldDiscoverer<Map<VarHandle, Object>> {
             }
             collectType = getExactSuperType(collectType, collectClass);
         }
+        final FieldAccessor[] accessors = fields.toArray(new FieldAccessor[0]);
 
         return new MutableInstanceFactory<>() {
 
             @Override
-            public Map<VarHandle, Object> begin() {
-                return new HashMap<>();
+            public @Nullable Object[] begin() {
+                return new Object[accessors.length];
             }
 
             @Override
-            public void complete(final Object instance, final Map<VarHandle, Object> intermediate) {
-                for (Map.Entry<VarHandle, Object> entry : intermediate.entrySet()) {
-                    // Handle implicit field initialization by detecting any existing information in the object
-                    if (entry.getValue() instanceof ImplicitProvider) {
-                        final @Nullable Object implicit = ((ImplicitProvider) entry.getValue()).provider.get();
-                        if (implicit != null) {
-                            if (entry.getKey().get(instance) == null) {
-                                entry.getKey().set(instance, implicit);
+            public void complete(final Object instance, final @Nullable Object[] intermediate) throws SerializationException {
+                for (int i = 0; i < accessors.length; ++i) {
+                    final @Nullable Object value = intermediate[i];
+                    if (value == null) { // not loaded
+                        continue;
+                    }
+
+                    try {
+                        // Handle implicit field initialization by detecting any existing information in the object
+                        if (value instanceof ImplicitProvider) {
+                            final @Nullable Object implicit = ((ImplicitProvider) value).provider.get();
+                            if (implicit != null) {
+                                if (accessors[i].get(instance) == null) {
+                                    accessors[i].set(instance, implicit);
+                                }
                             }
+                        } else {
+                            accessors[i].set(instance, value);
                         }
-                    } else {
-                        entry.getKey().set(instance, entry.getValue());
+                    } catch (final RuntimeException ex) {
+                        throw ex;
+                    } catch (final Exception ex) {
+                        throw new SerializationException(target.getType(), ex);
                     }
                 }
             }
 
             @Override
-            public Object complete(final Map<VarHandle, Object> intermediate) throws SerializationException {
+            public Object complete(final @Nullable Object[] intermediate) throws SerializationException {
                 final Object instance = maker == null ? null : maker.get();
                 if (instance == null) {
                     throw new SerializationException(target.getType(), ObjectFieldDiscoverer.this.instanceUnavailableErrorMessage);
@@ -140,26 +164,76 @@ class ObjectFieldDiscoverer implements FieldDiscoverer<Map<VarHandle, Object>> {
         };
     }
 
-    private void collectFields(final AnnotatedType clazz, final FieldCollector<Map<VarHandle, Object>, ?> fieldMaker) throws IllegalAccessException {
+    private void collectFields(
+        final AnnotatedType clazz,
+        final FieldCollector<@Nullable Object[], ?> fieldMaker,
+        final List<FieldAccessor> fields
+    ) throws IllegalAccessException {
         final Class<?> erased = erase(clazz.getType());
         final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(erased, OWN_LOOKUP);
-        for (Field field : erased.getDeclaredFields()) {
+        for (final Field field : erased.getDeclaredFields()) {
             if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) != 0) {
                 continue;
             }
-            final VarHandle handle = lookup.unreflectVarHandle(field);
+
+            final int index = fields.size();
+            final FieldAccessor accessor = new FieldAccessor(lookup, field);
+            fields.add(accessor);
             final AnnotatedType fieldType = getFieldType(field, clazz);
             fieldMaker.accept(field.getName(), fieldType, Types.combinedAnnotations(fieldType, field),
                               (intermediate, val, implicitProvider) -> {
                     if (val != null) {
-                        intermediate.put(handle, val);
+                        intermediate[index] = val;
                     } else {
-                        intermediate.put(handle, new ImplicitProvider(implicitProvider));
+                        intermediate[index] = new ImplicitProvider(implicitProvider);
                     }
-                }, handle::get);
+                }, accessor::get);
         }
     }
 
+    /**
+     * Method handles to read and write a single field.
+     *
+     * <p>Fields are accessed through a {@link VarHandle}, converted once to
+     * method handles with plain {@link Object} signatures, so each access is
+     * an exact invocation the JIT can inline. Since var handles cannot write
+     * final fields, those are written with an unreflected setter instead.</p>
+     */
+    static final class FieldAccessor {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        FieldAccessor(final MethodHandles.Lookup lookup, final Field field) throws IllegalAccessException {
+            final VarHandle handle = lookup.unreflectVarHandle(field);
+            this.getter = handle.toMethodHandle(VarHandle.AccessMode.GET).asType(GETTER_TYPE);
+            if (Modifier.isFinal(field.getModifiers())) {
+                // unreflecting an accessible field allows writing final fields, as Field.set does
+                field.setAccessible(true);
+                this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            } else {
+                this.setter = handle.toMethodHandle(VarHandle.AccessMode.SET).asType(SETTER_TYPE);
+            }
+        }
+
+        @Nullable Object get(final Object instance) throws Exception {
+            try {
+                return (Object) this.getter.invokeExact(instance);
+            } catch (final Throwable ex) {
+                throw propagate(ex);
+            }
+        }
+
+        void set(final Object instance, final Object value) throws Exception {
+            try {
+                this.setter.invokeExact(instance, value);
+            } catch (final Throwable ex) {
+                throw propagate(ex);
+            }
+        }
+
+    }
+
     static class ImplicitProvider {
 
         final Supplier<Object> provider;
@@ -30,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.leangen.geantyref.TypeToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.Test;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.serialize.SerializationException;
@@ -44,6 +45,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
 class AbstractConfigurationNodeTest {
@@ -327,6 +330,45 @@ class AbstractConfigurationNodeTest {
         });
     }
 
+    @Test
+    void testSetListSized() {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        final ConfigurationNode old = root.node("old").raw("value");
+        final List<String> values = Arrays.asList("a", "b", "c");
+
+        root.node("list").setList(values.size(), child -> child.raw(values.get((Integer) child.key())));
+
+        assertEquals(values, root.node("list").raw());
+        assertEquals(NodePath.path("list", 2), root.node("list", 2).path());
+        root.setList(1, child -> child.raw("replaced"));
+        assertEquals(Collections.singletonList("replaced"), root.raw());
+        assertTrue(old.virtual());
+    }
+
+    @Test
+    void testSetListSkipsUnsetElements() {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        final int[] calls = {0};
+        root.setList(4, child -> {
+            switch (calls[0]++) {
+                case 0:
+                    child.raw("first");
+                    break;
+                case 1: // left unset
+                    break;
+                case 2:
+                    child.raw("removed").raw(null);
+                    break;
+                default:
+                    child.node("key").raw("last");
+            }
+        });
+
+        assertEquals(4, calls[0]);
+        assertEquals(Arrays.asList("first", Collections.singletonMap("key", "last")), root.raw());
+        assertEquals(1, root.node(1, "key").parent().key());
+    }
+
     /**
      * A test representation hint which indicates to a serializer that the node
      * should be represented evilly.
@@ -414,6 +456,270 @@ class AbstractConfigurationNodeTest {
         assertEquals(true, mergeTarget.hint(IS_EVIL));
     }
 
+    @Test
+    void testHintsCopyIsIndependent() {
+        final ConfigurationNode original = BasicConfigurationNode.root().hint(INDENT, 2);
+        final ConfigurationNode copy = original.copy();
+
+        copy.hint(INDENT, 4).hint(IS_EVIL, true);
+
+        assertEquals(2, original.hint(INDENT));
+        assertNull(original.hint(IS_EVIL));
+        assertEquals(ImmutableMap.of(INDENT, 4, IS_EVIL, true), copy.ownHints());
+    }
+
+    @Test
+    void testManyHints() {
+        final ConfigurationNode node = BasicConfigurationNode.root();
+        final List<RepresentationHint<Integer>> hints = new ArrayList<>();
+        for (int i = 0; i < RepresentationHintMap.MAX_ARRAY_SIZE * 2; ++i) {
+            final RepresentationHint<Integer> hint = RepresentationHint.of("hint-" + i, Integer.class);
+            hints.add(hint);
+            node.hint(hint, i);
+        }
+
+        assertEquals(hints.size(), node.ownHints().size());
+        for (int i = 0; i < hints.size(); ++i) {
+            assertEquals(i, node.hint(hints.get(i)));
+        }
+
+        for (final RepresentationHint<Integer> hint : hints) {
+            node.hint(hint, null);
+        }
+        assertTrue(node.ownHints().isEmpty());
+    }
+
+    @Test
+    void testOwnHintsUnmodifiable() {
+        final ConfigurationNode node = BasicConfigurationNode.root().hint(IS_EVIL, true);
+
+        assertThrows(UnsupportedOperationException.class, () -> node.ownHints().clear());
+        assertEquals(true, node.hint(IS_EVIL));
+    }
+
+    @Test
+    void testFindExisting() throws SerializationException {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        root.node("a", "b").set("value");
+        root.node("list").appendListNode().set("first");
+
+        assertSame(root.node("a", "b"), root.find("a", "b"));
+        assertSame(root.node("a", "b"), root.find(NodePath.path("a", "b")));
+        assertSame(root, root.find());
+        assertEquals("first", root.find("list", 0).raw());
+        assertEquals("first", root.find("list", "0").raw());
+    }
+
+    @Test
+    void testFindAbsentDoesNotCreateNodes() {
+        final BasicConfigurationNode root = BasicConfigurationNode.root(b -> b.node("a").raw("value"));
+
+        assertNull(root.find("a", "b"));
+        assertNull(root.find("missing"));
+        assertNull(root.find(NodePath.path("missing", "deeper")));
+        assertFalse(root.hasChild("missing"));
+        assertEquals(Collections.singleton("a"), root.childrenMap().keySet());
+    }
+
+    @Test
+    void testFindNullElement() {
+        final BasicConfigurationNode root = BasicConfigurationNode.root(b -> b.node("a", "b").raw("value"));
+        assertThrows(NullPointerException.class, () -> root.find("a", null));
+        assertThrows(NullPointerException.class, () -> root.hasChild("a", null));
+    }
+
+    @Test
+    void testGetAtPath() throws SerializationException {
+        final BasicConfigurationNode root = BasicConfigurationNode.root(ConfigurationOptions.defaults().shouldCopyDefaults(true));
+        root.node("server", "port").set(25565);
+        root.node("server", "motd").set("hello");
+        root.node("server", "ratio").set("0.5");
+        root.node("server", "enabled").set("true");
+        root.node("server", "big").set(Long.MAX_VALUE);
+
+        assertEquals(25565, root.getInt(NodePath.path("server", "port"), 0));
+        assertEquals("25565", root.getString(NodePath.path("server", "port")));
+        assertEquals("hello", root.getString(NodePath.path("server", "motd"), "def"));
+        assertEquals(0.5d, root.getDouble(NodePath.path("server", "ratio"), 0d));
+        assertTrue(root.getBoolean(NodePath.path("server", "enabled"), false));
+        assertEquals(Long.MAX_VALUE, root.getLong(NodePath.path("server", "big"), 0L));
+
+        // absent paths and invalid values produce the default without modifying the node
+        assertEquals(7, root.getInt(NodePath.path("server", "missing"), 7));
+        assertEquals(3, root.getInt(NodePath.path("server", "motd"), 3));
+        assertNull(root.getString(NodePath.path("missing", "motd")));
+        assertEquals("def", root.getString(NodePath.path("missing"), "def"));
+        assertFalse(root.hasChild("missing"));
+        assertFalse(root.hasChild("server", "missing"));
+    }
+
+    @Test
+    void testPathCached() {
+        final BasicConfigurationNode root = BasicConfigurationNode.root(b -> b.node("a", "b", "c").raw("value"));
+        final BasicConfigurationNode node = root.node("a", "b", "c");
+
+        assertSame(node.path(), node.path());
+        assertEquals(NodePath.path("a", "b", "c"), node.path());
+        assertEquals(NodePath.path(), root.path());
+    }
+
+    @Test
+    void testPathUpdatedOnListReindex() throws SerializationException {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        final BasicConfigurationNode list = root.node("list");
+        list.appendListNode().set("zero");
+        list.appendListNode().set("one");
+        final BasicConfigurationNode two = list.appendListNode();
+        two.node("child").set("two");
+
+        final BasicConfigurationNode child = two.node("child");
+        assertEquals(NodePath.path("list", 2, "child"), child.path());
+
+        list.removeChild(0);
+
+        assertEquals(1, two.key());
+        assertEquals(NodePath.path("list", 1), two.path());
+        assertEquals(NodePath.path("list", 1, "child"), child.path());
+        assertSame(child, root.node("list", 1, "child"));
+    }
+
+    @Test
+    void testPathOfAttachedVirtualNode() throws SerializationException {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        final BasicConfigurationNode virtual = root.node("a", "b");
+        assertEquals(NodePath.path("a", "b"), virtual.path());
+
+        virtual.set("value");
+
+        assertEquals(NodePath.path("a", "b"), virtual.path());
+        assertEquals(NodePath.path("a", "b"), root.node("a", "b").path());
+    }
+
+    @Test
+    void testChildrenMapIsSnapshot() throws SerializationException {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        root.node("a").set(1);
+        root.node("b").set(2);
+
+        final Map<Object, BasicConfigurationNode> children = root.childrenMap();
+        final BasicConfigurationNode a = root.node("a");
+        root.node("c").set(3);
+        root.removeChild("a");
+
+        assertEquals(Arrays.asList("a", "b"), new ArrayList<>(children.keySet()));
+        assertSame(a, children.get("a"));
+        assertEquals(2, children.get("b").getInt());
+        assertTrue(children.containsKey("a"));
+        assertFalse(children.containsKey("c"));
+        assertEquals(Arrays.asList("b", "c"), new ArrayList<>(root.childrenMap().keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> children.remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> children.keySet().clear());
+        assertThrows(UnsupportedOperationException.class, () -> children.entrySet().iterator().next().setValue(root));
+    }
+
+    @Test
+    void testChildrenListIsSnapshot() throws SerializationException {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        root.appendListNode().set("zero");
+        root.appendListNode().set("one");
+
+        final List<BasicConfigurationNode> children = root.childrenList();
+        root.appendListNode().set("two");
+        root.removeChild(0);
+
+        assertEquals(2, children.size());
+        assertEquals("one", children.get(1).getString());
+        assertEquals(Arrays.asList("one", "two"), root.getList(String.class));
+        assertThrows(UnsupportedOperationException.class, () -> children.remove(0));
+    }
+
+    @Test
+    void testModifyWhileIteratingChildren() throws SerializationException {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        for (int i = 0; i < 5; ++i) {
+            root.node("key-" + i).set(i);
+        }
+
+        for (final Object key : root.childrenMap().keySet()) {
+            root.removeChild(key);
+            root.node(key + "-renamed").set(key);
+        }
+
+        assertEquals(5, root.childrenMap().size());
+        assertTrue(root.hasChild("key-4-renamed"));
+    }
+
+    @Test
+    void testChildrenViewsStableUnderConcurrentWrites() throws InterruptedException {
+        final BasicConfigurationNode map = BasicConfigurationNode.root();
+        final BasicConfigurationNode list = BasicConfigurationNode.root();
+        final int count = 20_000;
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final AtomicReference<@Nullable Throwable> failure = new AtomicReference<>();
+        final Thread[] readers = new Thread[4];
+        for (int i = 0; i < readers.length; ++i) {
+            readers[i] = new Thread(() -> {
+                try {
+                    while (writing.get()) {
+                        // each view must keep exactly the children it had when taken
+                        final Map<Object, BasicConfigurationNode> mapView = map.childrenMap();
+                        final int mapSize = mapView.size();
+                        assertEquals(mapSize, new ArrayList<>(mapView.entrySet()).size());
+
+                        final List<BasicConfigurationNode> listView = list.childrenList();
+                        final int listSize = listView.size();
+                        assertEquals(listSize, new ArrayList<>(listView).size());
+                    }
+                } catch (final Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            });
+            readers[i].start();
+        }
+
+        for (int i = 0; i < count; ++i) {
+            map.node("key-" + i).raw(i);
+            list.appendListNode().raw(i);
+        }
+        writing.set(false);
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(count, map.childrenMap().size());
+        assertEquals(count, list.childrenList().size());
+    }
+
+    @Test
+    void testForEachChild() throws SerializationException {
+        final BasicConfigurationNode map = BasicConfigurationNode.root();
+        map.node("a").set("one");
+        map.node("b").set("two");
+
+        final Map<Object, Object> seen = new HashMap<>();
+        map.forEachChild((key, child) -> {
+            seen.put(key, child.raw());
+            map.node(key + "-copy").raw(child.raw());
+        });
+        assertEquals(ImmutableMap.of("a", "one", "b", "two"), seen);
+        assertEquals(4, map.childrenMap().size());
+
+        final BasicConfigurationNode list = BasicConfigurationNode.root();
+        list.appendListNode().set("zero");
+        list.appendListNode().set("one");
+        final List<Object> keys = new ArrayList<>();
+        list.forEachChild((key, child) -> {
+            keys.add(key);
+            assertSame(list.node(key), child);
+        });
+        assertEquals(Arrays.asList(0, 1), keys);
+
+        BasicConfigurationNode.root().raw("scalar").forEachChild((key, child) -> {
+            throw new AssertionError("scalar nodes have no children");
+        });
+    }
+
     @Test
     void testCollectToMap() {
         final ConfigurationNode target = ImmutableMap.of("one", 3,
@@ -555,4 +861,78 @@ class AbstractConfigurationNodeTest {
             .isThrownBy(() -> BasicConfigurationNode.root().node("hello", 3).set("abc"));
     }
 
+    @Test
+    void testRawPrimitives() {
+        final BasicConfigurationNode node = BasicConfigurationNode.root();
+
+        node.node("int").rawInt(42);
+        node.node("long").rawLong(Long.MAX_VALUE);
+        node.node("double").rawDouble(4.5d);
+        node.node("boolean").rawBoolean(true);
+
+        assertEquals(42, node.node("int").getInt());
+        assertEquals(Long.MAX_VALUE, node.node("long").getLong());
+        assertEquals(4.5d, node.node("double").getDouble());
+        assertTrue(node.node("boolean").getBoolean());
+
+        assertThat(node.node("int").raw()).isEqualTo(42);
+        assertThat(node.node("long").raw()).isEqualTo(Long.MAX_VALUE);
+        assertThat(node.node("double").raw()).isEqualTo(4.5d);
+        assertThat(node.node("boolean").raw()).isEqualTo(true);
+    }
+
+    @Test
+    void testRawPrimitiveUpdatesInPlace() {
+        final BasicConfigurationNode node = BasicConfigurationNode.root();
+        final BasicConfigurationNode child = node.node("value");
+
+        child.rawInt(1);
+        child.rawInt(2);
+        assertEquals(2, child.getInt());
+        assertSame(child, node.node("value"));
+
+        child.raw("three");
+        assertEquals("three", child.getString());
+        assertEquals(3, child.getInt(3));
+
+        child.rawInt(4);
+        assertEquals(4, child.getInt());
+        assertEquals("4", child.getString());
+    }
+
+    @Test
+    void testPrimitiveGettersWiden() {
+        final BasicConfigurationNode node = BasicConfigurationNode.root();
+        node.rawInt(7);
+
+        assertEquals(7L, node.getLong());
+        assertEquals(7d, node.getDouble());
+
+        node.rawLong(1L << 40);
+        assertEquals((double) (1L << 40), node.getDouble());
+    }
+
+    @Test
+    void testRawPrimitivesCopy() {
+        final BasicConfigurationNode node = BasicConfigurationNode.root();
+        node.node("a").rawDouble(0.25d);
+        node.node("b").rawBoolean(false);
+
+        final BasicConfigurationNode copy = node.copy();
+        node.node("a").rawDouble(0.5d);
+
+        assertEquals(0.25d, copy.node("a").getDouble());
+        assertFalse(copy.node("b").getBoolean(true));
+        assertEquals(node.node("b"), copy.node("b"));
+    }
+
+    @Test
+    void testRawPrimitiveRejectedByOptions() {
+        final BasicConfigurationNode node = BasicConfigurationNode.root(ConfigurationOptions.defaults()
+            .nativeTypes(Collections.singleton(String.class)));
+
+        assertThrows(IllegalArgumentException.class, () -> node.node("a").rawInt(1));
+        assertTrue(node.node("a").virtual());
+    }
+
 }
@@ -0,0 +1,61 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.util.UnmodifiableCollections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class ConfigurationOptionsTest {
+
+    @Test
+    void testAcceptsNativeTypes() {
+        final ConfigurationOptions options = ConfigurationOptions.defaults()
+            .nativeTypes(UnmodifiableCollections.toSet(Integer.class, double.class, List.class, String.class));
+
+        assertTrue(options.acceptsType(Integer.class));
+        assertTrue(options.acceptsType(int.class));
+        assertTrue(options.acceptsType(Double.class));
+        assertTrue(options.acceptsType(ArrayList.class));
+        assertFalse(options.acceptsType(Long.class));
+        assertFalse(options.acceptsType(Map.class));
+
+        // answers are cached, so ask again
+        assertTrue(options.acceptsType(ArrayList.class));
+        assertFalse(options.acceptsType(Long.class));
+    }
+
+    @Test
+    void testCacheNotSharedBetweenNativeTypes() {
+        final ConfigurationOptions ints = ConfigurationOptions.defaults()
+            .nativeTypes(UnmodifiableCollections.toSet(Integer.class));
+        final ConfigurationOptions strings = ints.nativeTypes(UnmodifiableCollections.toSet(String.class));
+
+        assertTrue(ints.acceptsType(Integer.class));
+        assertFalse(strings.acceptsType(Integer.class));
+        assertTrue(ConfigurationOptions.defaults().acceptsType(Integer.class));
+        assertEquals(ints, ints.header("a header").header(null));
+    }
+
+}
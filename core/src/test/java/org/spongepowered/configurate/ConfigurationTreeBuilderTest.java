@@ -0,0 +1,229 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class ConfigurationTreeBuilderTest {
+
+    @Test
+    void testBuildMatchesIncrementalConstruction() {
+        final BasicConfigurationNode built = ConfigurationTreeBuilder.create(BasicConfigurationNode.factory())
+            .beginMap()
+                .key("name").scalar("tree")
+                .key("count").scalarInt(3)
+                .key("big").scalarLong(1L << 40)
+                .key("ratio").scalarDouble(0.5)
+                .key("enabled").scalarBoolean(true)
+                .key("items").beginList(2)
+                    .scalar("one")
+                    .beginMap().key("two").scalarInt(2).end()
+                .end()
+                .key("empty-map").beginMap().end()
+                .key("empty-list").beginList().end()
+            .end()
+            .build();
+
+        final BasicConfigurationNode expected = BasicConfigurationNode.root();
+        expected.node("name").raw("tree");
+        expected.node("count").raw(3);
+        expected.node("big").raw(1L << 40);
+        expected.node("ratio").raw(0.5);
+        expected.node("enabled").raw(true);
+        expected.node("items").appendListNode().raw("one");
+        expected.node("items").appendListNode().node("two").raw(2);
+        expected.node("empty-map").raw(Collections.emptyMap());
+        expected.node("empty-list").raw(Collections.emptyList());
+
+        assertEquals(expected, built);
+        assertEquals(3, built.node("count").getInt());
+        assertEquals(NodePath.path("items", 1, "two"), built.node("items", 1, "two").path());
+        assertTrue(built.node("empty-map").isMap());
+        assertTrue(built.node("empty-list").isList());
+    }
+
+    @Test
+    void testChildrenAttached() {
+        final BasicConfigurationNode built = ConfigurationTreeBuilder.create(BasicConfigurationNode.factory())
+            .beginMap()
+                .key("section").beginMap().key("value").scalar("hello").end()
+            .end()
+            .build();
+
+        final BasicConfigurationNode child = built.node("section", "value");
+        assertFalse(child.virtual());
+        assertSame(built, child.parent().parent());
+
+        // the tree is fully usable once built
+        child.raw("goodbye");
+        built.node("section", "other").raw(5);
+        assertEquals("goodbye", built.node("section", "value").getString());
+        assertEquals(Arrays.asList("value", "other"), Arrays.asList(built.node("section").childrenMap().keySet().toArray()));
+    }
+
+    @Test
+    void testNullValuesRemoved() {
+        final BasicConfigurationNode built = ConfigurationTreeBuilder.create(BasicConfigurationNode.factory())
+            .beginMap()
+                .key("a").scalar("a")
+                .key("b").nullValue()
+                .key("c").beginList().scalar(1).nullValue().scalar(2).end()
+            .end()
+            .build();
+
+        final Map<Object, Object> expected = new LinkedHashMap<>();
+        expected.put("a", "a");
+        expected.put("c", Arrays.asList(1, 2));
+        assertEquals(expected, built.raw());
+        assertEquals(1, built.node("c", 1).key());
+    }
+
+    @Test
+    void testCurrent() {
+        final CommentedConfigurationNode root = CommentedConfigurationNode.root();
+        final ConfigurationTreeBuilder<CommentedConfigurationNode> builder = ConfigurationTreeBuilder.into(root);
+        assertSame(root, builder.current());
+
+        builder.beginMap().key("commented");
+        builder.current().comment("a comment");
+        builder.beginList().element();
+        builder.current().comment("an element");
+        builder.scalar("value");
+        assertSame(root.node("commented"), builder.current());
+        builder.end().end();
+
+        assertSame(root, builder.build());
+        assertEquals("a comment", root.node("commented").comment());
+        assertEquals("an element", root.node("commented", 0).comment());
+    }
+
+    @Test
+    void testReplacesExistingValue() {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        root.node("old").raw("value");
+        final BasicConfigurationNode old = root.node("old");
+
+        ConfigurationTreeBuilder.into(root).beginList().scalar("new").end().build();
+
+        assertEquals(Collections.singletonList("new"), root.raw());
+        assertTrue(old.virtual());
+    }
+
+    @Test
+    void testRepeatedKeysReplace() {
+        final BasicConfigurationNode built = ConfigurationTreeBuilder.create(BasicConfigurationNode.factory())
+            .beginMap()
+                .key("map").beginMap().key("a").scalar(1).end()
+                .key("list").beginList().scalar(1).end()
+                .key("map").beginMap().key("b").scalar(2).end()
+                .key("list").beginList().scalar(2).end()
+            .end()
+            .build();
+
+        assertEquals(Collections.singletonMap("b", 2), built.node("map").raw());
+        assertEquals(Collections.singletonList(2), built.node("list").raw());
+    }
+
+    @Test
+    void testRepeatedKeysMerge() {
+        final BasicConfigurationNode built = ConfigurationTreeBuilder.create(BasicConfigurationNode.factory())
+            .mergeRepeatedKeys(true)
+            .beginMap()
+                .key("map").beginMap().key("a").beginMap().key("x").scalar(1).end().end()
+                .key("list").beginList().scalar(1).end()
+                .key("emptied").beginMap().key("a").scalar(1).end()
+                .key("changed").beginList().scalar(1).end()
+                .key("map").beginMap().key("a").beginMap().key("y").scalar(2).end().key("b").scalar(3).end()
+                .key("list").beginList().scalar(2).scalar(3).end()
+                .key("emptied").beginMap().end()
+                .key("changed").beginMap().key("a").scalar(1).end()
+            .end()
+            .build();
+
+        final Map<Object, Object> nested = new LinkedHashMap<>();
+        nested.put("x", 1);
+        nested.put("y", 2);
+        assertEquals(nested, built.node("map", "a").raw());
+        assertEquals(3, built.node("map", "b").raw());
+        assertEquals(Arrays.asList(1, 2, 3), built.node("list").raw());
+        assertEquals(NodePath.path("list", 2), built.node("list", 2).path());
+        assertEquals(Collections.emptyMap(), built.node("emptied").raw());
+        assertTrue(built.node("emptied").isMap());
+        assertEquals(Collections.singletonMap("a", 1), built.node("changed").raw());
+    }
+
+    @Test
+    void testScalarRoot() {
+        final BasicConfigurationNode built = ConfigurationTreeBuilder.create(BasicConfigurationNode.factory())
+            .scalar("alone")
+            .build();
+
+        assertEquals("alone", built.raw());
+    }
+
+    @Test
+    void testVirtualTarget() {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        ConfigurationTreeBuilder.into(root.node("a", "b")).beginMap().key("c").scalar(1).end();
+
+        assertEquals(1, root.node("a", "b", "c").raw());
+        assertFalse(root.node("a").virtual());
+    }
+
+    @Test
+    void testRejectsUnacceptedTypes() {
+        final ConfigurationTreeBuilder<BasicConfigurationNode> builder = ConfigurationTreeBuilder.create(
+            BasicConfigurationNode.factory(),
+            ConfigurationOptions.defaults().nativeTypes(Collections.singleton(String.class))
+        );
+        builder.beginMap().key("a");
+
+        assertThrows(IllegalArgumentException.class, () -> builder.scalarInt(1));
+    }
+
+    @Test
+    void testMisuse() {
+        final ConfigurationTreeBuilder<BasicConfigurationNode> builder = ConfigurationTreeBuilder.create(BasicConfigurationNode.factory());
+        assertThrows(IllegalStateException.class, builder::end);
+        assertThrows(IllegalStateException.class, () -> builder.key("a"));
+        assertThrows(IllegalStateException.class, builder::element);
+
+        builder.beginMap();
+        assertThrows(IllegalStateException.class, () -> builder.scalar("no key"));
+        assertThrows(IllegalStateException.class, builder::build);
+
+        builder.key("a");
+        assertThrows(IllegalStateException.class, () -> builder.key("b"));
+        assertThrows(IllegalStateException.class, builder::end);
+
+        builder.scalar("a").end();
+        assertThrows(IllegalStateException.class, () -> builder.scalar("again"));
+        assertEquals("a", builder.build().node("a").raw());
+    }
+
+}
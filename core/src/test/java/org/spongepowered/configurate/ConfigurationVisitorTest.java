@@ -17,6 +17,7 @@
 package org.spongepowered.configurate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -80,6 +81,177 @@ class ConfigurationVisitorTest {
         assertEquals("b(l)t", result);
     }
 
+    @Test
+    void testDeepTree() {
+        final BasicConfigurationNode base = BasicConfigurationNode.root();
+        BasicConfigurationNode pointer = base;
+        for (int i = 0; i < 10_000; ++i) {
+            pointer = pointer.node("a").raw(Collections.emptyMap());
+        }
+        pointer.raw("end");
+
+        final StringBuilder expected = new StringBuilder("b(m");
+        for (int i = 0; i < 10_000; ++i) {
+            expected.append(i == 9_999 ? "(-a-s)" : "(-a-m");
+        }
+        for (int i = 0; i < 10_000; ++i) {
+            expected.append(')');
+        }
+        expected.append('t');
+
+        assertEquals(expected.toString(), base.visit(VISITOR));
+    }
+
+    @Test
+    void testParallelMatchesSequential() throws VisitorSafeNoopException {
+        final BasicConfigurationNode base = BasicConfigurationNode.root();
+        for (int i = 0; i < 20; ++i) {
+            final BasicConfigurationNode section = base.node("section-" + i);
+            section.node("name").raw("name " + i);
+            for (int j = 0; j < 5; ++j) {
+                section.node("values").appendListNode().node("v").raw(j);
+            }
+        }
+
+        final String expected = base.visit(VISITOR);
+        assertEquals(expected, base.visitParallel(new ParallelTestVisitor(false)));
+        assertEquals(expected, base.visitParallel(new ParallelTestVisitor(true)));
+        assertEquals(expected, base.freeze().visitParallel(new ParallelTestVisitor(true)));
+    }
+
+    @Test
+    void testParallelSingleScalar() throws VisitorSafeNoopException {
+        final BasicConfigurationNode base = BasicConfigurationNode.root();
+        assertEquals("bt", base.visitParallel(new ParallelTestVisitor(true)));
+
+        base.raw("test");
+        assertEquals("b(s)t", base.visitParallel(new ParallelTestVisitor(true)));
+    }
+
+    @Test
+    void testParallelDeepTree() throws VisitorSafeNoopException {
+        final BasicConfigurationNode base = BasicConfigurationNode.root();
+        base.node("shallow").raw("value");
+        BasicConfigurationNode pointer = base.node("deep");
+        for (int i = 0; i < 10_000; ++i) {
+            pointer = pointer.node("a").raw(Collections.emptyMap());
+        }
+        pointer.raw("end");
+
+        assertEquals(base.visit(VISITOR), base.visitParallel(new ParallelTestVisitor(false)));
+    }
+
+    @Test
+    void testParallelExceptionPropagated() {
+        final BasicConfigurationNode base = BasicConfigurationNode.root();
+        for (int i = 0; i < 10; ++i) {
+            base.node("section-" + i).raw(i);
+        }
+
+        final ConfigurateException ex = assertThrows(ConfigurateException.class, () -> base.visitParallel(new FailingVisitor("scalar")));
+        assertEquals(NodePath.path("section-3"), ex.path());
+    }
+
+    @Test
+    void testParallelExceptionPathsForExitAndMerge() {
+        final BasicConfigurationNode base = BasicConfigurationNode.root();
+        for (int i = 0; i < 10; ++i) {
+            base.node("section-" + i, "value").raw(i);
+            base.node("section-" + i, "other").raw(-i);
+        }
+
+        ConfigurateException ex = assertThrows(ConfigurateException.class, () -> base.visitParallel(new FailingVisitor("exit")));
+        assertEquals(NodePath.path("section-3"), ex.path());
+
+        ex = assertThrows(ConfigurateException.class, () -> base.visitParallel(new FailingVisitor("merge")));
+        assertEquals(NodePath.path("section-3"), ex.path());
+    }
+
+    /**
+     * A parallel visitor that splits at every node, and fails at one event
+     * for the node {@code section-3} or its value {@code 3}.
+     */
+    static class FailingVisitor implements ConfigurationVisitor.Parallel<StringBuilder, String, ConfigurateException> {
+        private final String event;
+
+        FailingVisitor(final String event) {
+            this.event = event;
+        }
+
+        @Override
+        public StringBuilder newState() {
+            return new StringBuilder();
+        }
+
+        @Override
+        public boolean shouldSplit(final ConfigurationNode node, final int depth) {
+            return true;
+        }
+
+        @Override
+        public void beginVisit(final ConfigurationNode node, final StringBuilder state) {}
+
+        @Override
+        public void enterNode(final ConfigurationNode node, final StringBuilder state) {}
+
+        @Override
+        public void enterMappingNode(final ConfigurationNode node, final StringBuilder state) {}
+
+        @Override
+        public void enterListNode(final ConfigurationNode node, final StringBuilder state) {}
+
+        @Override
+        public void enterScalarNode(final ConfigurationNode node, final StringBuilder state) throws ConfigurateException {
+            if (this.event.equals("scalar") && Integer.valueOf(3).equals(node.raw())) {
+                throw new ConfigurateException("failed");
+            }
+        }
+
+        @Override
+        public void exitMappingNode(final ConfigurationNode node, final StringBuilder state) throws ConfigurateException {
+            if (this.event.equals("exit") && "section-3".equals(node.key())) {
+                throw new ConfigurateException("failed");
+            }
+        }
+
+        @Override
+        public void exitListNode(final ConfigurationNode node, final StringBuilder state) {}
+
+        @Override
+        public String endVisit(final StringBuilder state) {
+            return state.toString();
+        }
+
+        @Override
+        public void merge(final ConfigurationNode node, final StringBuilder state, final StringBuilder childState) throws ConfigurateException {
+            if (this.event.equals("merge") && "section-3".equals(node.key())) {
+                throw new ConfigurateException("failed");
+            }
+        }
+    }
+
+    /**
+     * A {@link TestVisitor} that appends the output for each subtree to
+     * its parent.
+     */
+    static class ParallelTestVisitor extends TestVisitor implements ConfigurationVisitor.Parallel<StringBuilder, String, VisitorSafeNoopException> {
+        private final boolean splitAll;
+
+        ParallelTestVisitor(final boolean splitAll) {
+            this.splitAll = splitAll;
+        }
+
+        @Override
+        public boolean shouldSplit(final ConfigurationNode node, final int depth) {
+            return this.splitAll || depth == 0;
+        }
+
+        @Override
+        public void merge(final ConfigurationNode node, final StringBuilder state, final StringBuilder childState) {
+            state.append(childState);
+        }
+    }
+
     /**
      * A visitor that tracks events and outputs a string with the
      * following tokens.
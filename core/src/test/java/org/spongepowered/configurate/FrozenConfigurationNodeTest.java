@@ -0,0 +1,188 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.leangen.geantyref.TypeToken;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+class FrozenConfigurationNodeTest {
+
+    private static final RepresentationHint<Integer> INDENT = RepresentationHint.of("indent", Integer.class);
+
+    private static BasicConfigurationNode sample() throws SerializationException {
+        final BasicConfigurationNode node = BasicConfigurationNode.root();
+        node.node("name").set("frozen");
+        node.node("section", "count").set(5);
+        node.node("section", "enabled").set(true);
+        node.node("list").setList(String.class, Arrays.asList("one", "two", "three"));
+        node.hint(INDENT, 4);
+        return node;
+    }
+
+    @Test
+    void testValuesPreserved() throws SerializationException {
+        final BasicConfigurationNode source = sample();
+        final ConfigurationNode frozen = source.freeze();
+
+        assertEquals("frozen", frozen.node("name").getString());
+        assertEquals(5, frozen.node("section", "count").getInt());
+        assertTrue(frozen.node("section", "enabled").getBoolean());
+        assertEquals(Arrays.asList("one", "two", "three"), frozen.node("list").getList(String.class));
+        assertEquals("two", frozen.node("list", 1).getString());
+        assertEquals(source.raw(), frozen.raw());
+        assertEquals(NodePath.path("section", "count"), frozen.node("section", "count").path());
+    }
+
+    @Test
+    void testIndependentOfSource() throws SerializationException {
+        final BasicConfigurationNode source = sample();
+        final ConfigurationNode frozen = source.freeze();
+
+        source.node("name").set("thawed");
+        source.node("section").set(null);
+
+        assertEquals("frozen", frozen.node("name").getString());
+        assertEquals(5, frozen.node("section", "count").getInt());
+    }
+
+    @Test
+    void testLargeMapLookup() throws SerializationException {
+        final BasicConfigurationNode source = BasicConfigurationNode.root();
+        for (int i = 0; i < 100; ++i) {
+            source.node("key-" + i).set(i);
+        }
+        final ConfigurationNode frozen = source.freeze();
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(i, frozen.node("key-" + i).getInt());
+            assertTrue(frozen.hasChild("key-" + i));
+        }
+        assertFalse(frozen.hasChild("key-100"));
+        assertEquals(100, frozen.childrenMap().size());
+    }
+
+    @Test
+    void testMissingNodesVirtual() throws SerializationException {
+        final ConfigurationNode frozen = sample().freeze();
+
+        final ConfigurationNode missing = frozen.node("section", "missing", "deeper");
+        assertTrue(missing.virtual());
+        assertTrue(missing.isNull());
+        assertEquals(NodePath.path("section", "missing", "deeper"), missing.path());
+        assertFalse(frozen.hasChild("section", "missing"));
+        assertNull(frozen.find("section", "missing"));
+        assertSame(frozen.node("section"), frozen.find(NodePath.path("section")));
+    }
+
+    @Test
+    void testMutationRejected() throws SerializationException {
+        final ConfigurationNode frozen = sample().freeze();
+
+        assertThrows(UnsupportedOperationException.class, () -> frozen.node("name").set("other"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.node("new").raw(3));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.removeChild("name"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.node("list").appendListNode());
+        assertThrows(UnsupportedOperationException.class, () -> frozen.hint(INDENT, 2));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.childrenMap().clear());
+    }
+
+    @Test
+    void testDefaultsNotCopied() throws SerializationException {
+        final BasicConfigurationNode source = BasicConfigurationNode.root(ConfigurationOptions.defaults().shouldCopyDefaults(true));
+        final ConfigurationNode frozen = source.freeze();
+
+        assertEquals("default", frozen.node("missing").getString("default"));
+        assertEquals(7, frozen.node("missing").get(Integer.class, 7));
+        assertNull(frozen.node("missing").raw());
+    }
+
+    @Test
+    void testHints() throws SerializationException {
+        final ConfigurationNode frozen = sample().freeze();
+
+        assertEquals(4, frozen.ownHint(INDENT));
+        assertNull(frozen.node("section").ownHint(INDENT));
+        assertEquals(4, frozen.node("section").hint(INDENT));
+    }
+
+    @Test
+    void testCopyIsMutable() throws SerializationException {
+        final BasicConfigurationNode source = sample();
+        final ConfigurationNode copy = source.freeze().copy();
+
+        assertEquals(source, copy);
+        copy.node("name").set("thawed");
+        assertEquals("thawed", copy.node("name").getString());
+    }
+
+    @Test
+    void testCopyRestoresOptions() throws SerializationException {
+        final CommentedConfigurationNode source = CommentedConfigurationNode.root(ConfigurationOptions.defaults().shouldCopyDefaults(true));
+        source.node("section", "name").comment("A comment").set("frozen");
+        final ConfigurationNode frozen = source.freeze();
+        assertFalse(frozen.options().shouldCopyDefaults());
+
+        final ConfigurationNode copy = frozen.copy();
+        assertTrue(copy.options().shouldCopyDefaults());
+        assertTrue(frozen.node("section").copy().options().shouldCopyDefaults());
+        assertEquals(7, copy.node("missing").get(Integer.class, 7));
+        assertEquals(7, copy.node("missing").raw());
+
+        // comments are not kept by a snapshot
+        assertEquals("frozen", copy.node("section", "name").getString());
+        assertThat(copy).isInstanceOf(BasicConfigurationNode.class);
+    }
+
+    @Test
+    void testFreezeIdempotent() throws SerializationException {
+        final ConfigurationNode frozen = sample().freeze();
+        assertSame(frozen, frozen.freeze());
+    }
+
+    @Test
+    void testObjectMapping() throws SerializationException {
+        final ConfigurationNode frozen = sample().freeze();
+
+        final Map<String, String> section = frozen.node("section").get(new TypeToken<Map<String, String>>() {});
+        assertThat(section).containsEntry("count", "5").containsEntry("enabled", "true");
+
+        final List<String> list = frozen.node("list").get(new TypeToken<List<String>>() {});
+        assertThat(list).containsExactly("one", "two", "three");
+    }
+
+    @Test
+    void testVisitMatchesSource() throws SerializationException {
+        final BasicConfigurationNode source = sample();
+        final ConfigurationVisitor.Safe<StringBuilder, String> visitor = new ConfigurationVisitorTest.TestVisitor();
+
+        assertEquals(source.visit(visitor), source.freeze().visit(visitor));
+    }
+
+}
@@ -16,6 +16,7 @@
  */
 package org.spongepowered.configurate;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.spongepowered.configurate.NodePath.path;
 
@@ -56,4 +57,29 @@ class NodePathTest {
         assertEquals(path("client", "port"), path.with(0, "client"));
     }
 
+    @Test
+    void testSharedPrefix() {
+        final NodePath base = path("a", "b");
+        final NodePath child = base.withAppendedChild("c").withAppendedChild("d");
+        final NodePath joined = child.plus(path("e", "f"));
+
+        assertEquals(path("a", "b", "c", "d", "e", "f"), joined);
+        assertEquals(path("a", "b", "c", "d", "e", "f").hashCode(), joined.hashCode());
+        assertEquals(6, joined.size());
+        assertEquals("b", joined.get(1));
+        assertEquals("d", joined.get(3));
+        assertEquals("f", joined.get(5));
+        assertArrayEquals(new Object[] {"a", "b", "c", "d"}, child.array());
+        assertEquals("[a, b, c, d, e, f]", joined.toString());
+        assertEquals(path("a", "x", "c", "d"), child.with(1, "x"));
+        assertEquals(path("a", "b"), base);
+    }
+
+    @Test
+    void testArrayIsCopy() {
+        final NodePath path = path("a").withAppendedChild("b");
+        path.array()[0] = "changed";
+        assertEquals(path("a", "b"), path);
+    }
+
 }
@@ -0,0 +1,143 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Matches;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
+import org.spongepowered.configurate.objectmapping.meta.Required;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.Arrays;
+import java.util.List;
+
+class GeneratedObjectMapperTest {
+
+    @ConfigSerializable
+    static class Example {
+        @Setting("display-name")
+        @Comment("The name to show")
+        @Required
+        @Matches(value = "[a-z]+", failureMessage = "{0} is not lowercase")
+        String name;
+        int count = 3;
+        List<String> tags;
+
+        @PostProcess
+        void validate() throws SerializationException {
+            if (this.count < 0) {
+                throw new SerializationException("Count must not be negative");
+            }
+        }
+
+        @PostProcess
+        void checkTags() {
+            if (this.tags != null && this.tags.contains("")) {
+                throw new IllegalStateException("Tags must not be empty");
+            }
+        }
+    }
+
+    @Test
+    void testDefaultFactoryPrefersGenerated() throws SerializationException {
+        assertTrue(ObjectMapper.factory().get(Example.class) instanceof GeneratedObjectMapper<?>);
+        assertFalse(ObjectMapper.factoryBuilder().build().get(Example.class) instanceof GeneratedObjectMapper<?>);
+    }
+
+    @Test
+    void testGeneratedMatchesDiscovered() throws SerializationException {
+        final ObjectMapper<Example> generated = ObjectMapper.factory().get(Example.class);
+        final ObjectMapper<Example> discovered = ObjectMapper.factoryBuilder().build().get(Example.class);
+        assertEquals(
+            Arrays.asList("name", "count", "tags"),
+            Arrays.asList(generated.fields().get(0).name(), generated.fields().get(1).name(), generated.fields().get(2).name())
+        );
+
+        final BasicConfigurationNode source = BasicConfigurationNode.root(n -> {
+            n.node("display-name").raw("hello");
+            n.node("tags").appendListNode().raw("a");
+        });
+        final Example loaded = generated.load(source);
+        assertEquals("hello", loaded.name);
+        assertEquals(3, loaded.count);
+        assertEquals(Arrays.asList("a"), loaded.tags);
+
+        final CommentedConfigurationNode fromGenerated = CommentedConfigurationNode.root();
+        final CommentedConfigurationNode fromDiscovered = CommentedConfigurationNode.root();
+        generated.save(loaded, fromGenerated);
+        discovered.save(loaded, fromDiscovered);
+        assertEquals(fromDiscovered, fromGenerated);
+        assertEquals("The name to show", fromGenerated.node("display-name").comment());
+    }
+
+    @Test
+    void testGeneratedConstraintsAndPostProcessing() throws SerializationException {
+        final ObjectMapper<Example> generated = ObjectMapper.factory().get(Example.class);
+
+        assertThrows(SerializationException.class, () -> generated.load(BasicConfigurationNode.root()));
+        final SerializationException mismatch = assertThrows(SerializationException.class,
+            () -> generated.load(BasicConfigurationNode.root(n -> n.node("display-name").raw("Hello"))));
+        assertTrue(mismatch.rawMessage().contains("Hello is not lowercase"));
+        assertThrows(SerializationException.class, () -> generated.load(BasicConfigurationNode.root(n -> {
+            n.node("display-name").raw("hello");
+            n.node("count").raw(-1);
+        })));
+    }
+
+    @Test
+    void testGeneratedPostProcessorsMatchDiscovered() throws SerializationException {
+        final BasicConfigurationNode source = BasicConfigurationNode.root(n -> {
+            n.node("display-name").raw("hello");
+            n.node("count").raw(-1);
+            n.node("tags").appendListNode().raw("");
+        });
+
+        final SerializationException generated = assertThrows(SerializationException.class,
+            () -> ObjectMapper.factory().get(Example.class).load(source));
+        final SerializationException discovered = assertThrows(SerializationException.class,
+            () -> ObjectMapper.factoryBuilder().build().get(Example.class).load(source));
+
+        // every post-processor runs, with later failures suppressed by the first
+        assertEquals(discovered.getMessage(), generated.getMessage());
+        assertEquals(Example.class, generated.expectedType());
+        assertEquals(1, generated.getSuppressed().length);
+        assertEquals(discovered.getSuppressed()[0].getMessage(), generated.getSuppressed()[0].getMessage());
+        assertTrue(generated.getSuppressed()[0].getCause() instanceof IllegalStateException);
+    }
+
+    static class NonStringMatches {
+        int value;
+    }
+
+    @Test
+    void testMatchesIgnoredForNonStringFields() throws SerializationException {
+        final GeneratedObjectMapper.Field<NonStringMatches, Integer> field = GeneratedObjectMapper.field("value", "value", int.class,
+            (NonStringMatches instance) -> instance.value, (NonStringMatches instance, Integer value) -> instance.value = value)
+            .matches("[a-z]+", 0, "{0} does not match");
+        assertTrue(field.constraints.isEmpty());
+    }
+
+}
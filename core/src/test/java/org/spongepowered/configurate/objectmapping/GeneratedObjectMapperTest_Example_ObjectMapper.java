@@ -0,0 +1,51 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping;
+
+import io.leangen.geantyref.TypeToken;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A mapper in the form the annotation processor would generate
+ * for {@link GeneratedObjectMapperTest.Example}.
+ */
+@SuppressWarnings("checkstyle:TypeName")
+public final class GeneratedObjectMapperTest_Example_ObjectMapper extends GeneratedObjectMapper<GeneratedObjectMapperTest.Example> {
+
+    public GeneratedObjectMapperTest_Example_ObjectMapper() {
+        super(GeneratedObjectMapperTest.Example.class, GeneratedObjectMapperTest.Example::new, Arrays.asList(
+            field("name", "display-name", String.class,
+                (GeneratedObjectMapperTest.Example instance) -> instance.name,
+                (GeneratedObjectMapperTest.Example instance, String value) -> instance.name = value)
+                .comment("The name to show", false)
+                .required()
+                .matches("[a-z]+", 0, "{0} is not lowercase"),
+            field("count", "count", int.class,
+                (GeneratedObjectMapperTest.Example instance) -> instance.count,
+                (GeneratedObjectMapperTest.Example instance, Integer value) -> instance.count = value),
+            field("tags", "tags", new TypeToken<List<String>>() {},
+                (GeneratedObjectMapperTest.Example instance) -> instance.tags,
+                (GeneratedObjectMapperTest.Example instance, List<String> value) -> instance.tags = value)
+        ), Arrays.asList(
+            postProcessor("validate", (GeneratedObjectMapperTest.Example instance) -> instance.validate()),
+            postProcessor("checkTags", (GeneratedObjectMapperTest.Example instance) -> instance.checkTags())
+        ));
+    }
+
+}
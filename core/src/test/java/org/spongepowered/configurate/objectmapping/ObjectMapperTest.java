@@ -18,7 +18,9 @@ package org.spongepowered.configurate.objectmapping;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -30,16 +32,19 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializer;
 import org.spongepowered.configurate.serialize.UpperCase;
 import org.spongepowered.configurate.serialize.UppercaseStringTypeSerializer;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -84,6 +89,69 @@ class ObjectMapperTest {
         assertEquals("boom", instance.stringVal);
     }
 
+    @Test
+    void testFieldSerializerFollowsCollection() throws SerializationException {
+        final ObjectMapper<TestObject> mapper = ObjectMapper.factory().get(TestObject.class);
+        final TypeSerializer<String> reverser = new TypeSerializer<String>() {
+            @Override
+            public String deserialize(final Type type, final ConfigurationNode node) {
+                return new StringBuilder(node.getString("")).reverse().toString();
+            }
+
+            @Override
+            public void serialize(final Type type, final @Nullable String obj, final ConfigurationNode node) {
+                node.raw(obj);
+            }
+        };
+        final ConfigurationOptions reversing = ConfigurationOptions.defaults().serializers(b -> b.register(String.class, reverser));
+
+        final BasicConfigurationNode plain = BasicConfigurationNode.root();
+        plain.node("test-key").set("hello");
+        final BasicConfigurationNode reversed = BasicConfigurationNode.root(reversing);
+        reversed.node("test-key").set("hello");
+
+        // alternate, so each field has seen more than one collection
+        for (int i = 0; i < 3; ++i) {
+            assertEquals("hello", mapper.load(plain).stringVal);
+            assertEquals("olleh", mapper.load(reversed).stringVal);
+        }
+    }
+
+    @ConfigSerializable
+    private static class FinalFieldsParent {
+        private int inherited;
+    }
+
+    @ConfigSerializable
+    private static final class FinalFields extends FinalFieldsParent {
+        private final String name;
+        private final long count;
+
+        FinalFields() {
+            this.name = "default";
+            this.count = 0;
+        }
+    }
+
+    @Test
+    void testLoadFinalAndPrimitiveFields() throws SerializationException {
+        final ObjectMapper<FinalFields> mapper = ObjectMapper.factory().get(FinalFields.class);
+        final BasicConfigurationNode source = BasicConfigurationNode.root();
+        source.node("name").set("custom");
+        source.node("count").set(42);
+        source.node("inherited").set("0x10");
+
+        final FinalFields loaded = mapper.load(source);
+        assertEquals("custom", loaded.name);
+        assertEquals(42L, loaded.count);
+        assertEquals(16, ((FinalFieldsParent) loaded).inherited);
+
+        final BasicConfigurationNode saved = BasicConfigurationNode.root();
+        mapper.save(loaded, saved);
+        assertEquals(42L, saved.node("count").getLong());
+        assertEquals(16, saved.node("inherited").getInt());
+    }
+
     @Test
     void testDefaultsNotAppliedUnlessCopyDefaults() throws SerializationException {
         final ObjectMapper<TestObject> mapper = ObjectMapper.factory().get(TestObject.class);
@@ -312,6 +380,30 @@ class ObjectMapperTest {
 
     }
 
+    @Test
+    void testMapperCacheStatistics() throws SerializationException {
+        final ObjectMapper.Factory factory = ObjectMapper.factoryBuilder().cacheCapacity(1).build();
+        final TypeToken<GenericSerializable<String>> stringSerializable = new TypeToken<GenericSerializable<String>>() {};
+        final TypeToken<GenericSerializable<Integer>> intSerializable = new TypeToken<GenericSerializable<Integer>>() {};
+
+        final ObjectMapper<TestObject> classMapper = factory.get(TestObject.class);
+        assertSame(classMapper, factory.get(TestObject.class));
+        final ObjectMapper<GenericSerializable<String>> stringMapper = factory.get(stringSerializable);
+        assertSame(stringMapper, factory.get(stringSerializable));
+
+        // the string mapper is evicted, then rebuilt
+        factory.get(intSerializable);
+        assertNotSame(stringMapper, factory.get(stringSerializable));
+        assertSame(classMapper, factory.get(TestObject.class));
+
+        final ObjectMapper.Factory.CacheStatistics stats = factory.cacheStatistics();
+        assertEquals(3, stats.hits());
+        assertEquals(4, stats.misses());
+        assertEquals(1, stats.rebuilds());
+        assertEquals(2, stats.evictions());
+        assertThrows(IllegalArgumentException.class, () -> ObjectMapper.factoryBuilder().cacheCapacity(0));
+    }
+
     @Test
     void testDirectInterfacesProhibited() {
         assertThrows(SerializationException.class, () -> ObjectMapper.factory().get(ParentInterface.class));
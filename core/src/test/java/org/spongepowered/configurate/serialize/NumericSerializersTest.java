@@ -217,6 +217,36 @@ class NumericSerializersTest {
         assertEquals((Long) i, serializer.deserialize(Long.class, this.node));
     }
 
+    @Test
+    void testWholeNumberAffixes() throws Exception {
+        assertEquals(-0x41, Scalars.INTEGER.deserialize("-#41"));
+        assertEquals(5, Scalars.INTEGER.deserialize("+0b101i"));
+        assertEquals(-1, Scalars.INTEGER.deserialize("0xFFFFFFFFu"));
+        assertEquals(-1L, Scalars.LONG.deserialize("0xffffffffffffffffuL"));
+        assertEquals(Long.MIN_VALUE, Scalars.LONG.deserialize("-9223372036854775808"));
+        assertEquals((Byte) (byte) -128, Scalars.BYTE.deserialize("-128b"));
+        assertEquals((Short) (short) 12, Scalars.SHORT.deserialize(new StringBuilder("12S")));
+
+        assertThrows(SerializationException.class, () -> Scalars.INTEGER.deserialize("2147483648"));
+        assertThrows(SerializationException.class, () -> Scalars.INTEGER.deserialize("0x100000000u"));
+        assertThrows(SerializationException.class, () -> Scalars.LONG.deserialize("-5u"));
+        assertThrows(SerializationException.class, () -> Scalars.BYTE.deserialize("0x"));
+        assertThrows(SerializationException.class, () -> Scalars.SHORT.deserialize("12z"));
+    }
+
+    @Test
+    void testPrimitiveEntryPoints() throws Exception {
+        final ScalarSerializer.OfInt ints = (ScalarSerializer.OfInt) Scalars.INTEGER;
+        assertEquals(48, ints.deserializeInt("0x30"));
+        assertEquals(48, ints.deserializeInt(48d));
+        assertEquals(-1, ints.tryDeserializeInt("nope", -1));
+        assertEquals(-1, ints.tryDeserializeInt(null, -1));
+
+        assertEquals(1.5f, ((ScalarSerializer.OfFloat) Scalars.FLOAT).deserializeFloat("1.5f"));
+        assertEquals(1.5d, ((ScalarSerializer.OfDouble) Scalars.DOUBLE).deserializeDouble("1.5D"));
+        assertEquals(7L, ((ScalarSerializer.OfLong) Scalars.LONG).deserializeLong("7l"));
+    }
+
     @Test
     void testFloat() throws Exception {
         final TypeSerializer<Float> serializer = this.serializer(Float.class);
@@ -17,7 +17,11 @@
 package org.spongepowered.configurate.serialize;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import io.leangen.geantyref.TypeFactory;
 import io.leangen.geantyref.TypeToken;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.Test;
@@ -25,8 +29,16 @@ import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
 
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 class TypeSerializerCollectionTest {
 
@@ -42,4 +54,166 @@ class TypeSerializerCollectionTest {
         assertEquals(Arrays.asList("a string", 14), value);
     }
 
+    @Test
+    void testRegistrationOrderAcrossKinds() {
+        final TypeSerializer<Object> predicate = new PassthroughSerializer();
+        final TypeSerializer<Object> hierarchy = new PassthroughSerializer();
+        final TypeSerializer<Object> exact = new PassthroughSerializer();
+        final TypeSerializerCollection collection = TypeSerializerCollection.builder()
+            .register(type -> type.equals(Integer.class), predicate)
+            .register(Number.class, hierarchy)
+            .registerExact(Long.class, exact)
+            .build();
+
+        assertSame(predicate, collection.get(Integer.class));
+        assertSame(hierarchy, collection.get(Long.class));
+        assertSame(predicate, collection.get(int.class));
+        assertSame(hierarchy, collection.get(Double.class));
+        assertNull(collection.get(String.class));
+    }
+
+    @Test
+    void testChildTakesPriorityOverParent() {
+        final TypeSerializer<Object> parentSerializer = new PassthroughSerializer();
+        final TypeSerializer<Object> childSerializer = new PassthroughSerializer();
+        final TypeSerializerCollection parent = TypeSerializerCollection.builder()
+            .register(Collection.class, parentSerializer)
+            .registerExact(String.class, parentSerializer)
+            .build();
+        final TypeSerializerCollection child = parent.childBuilder()
+            .register(List.class, childSerializer)
+            .build();
+
+        assertSame(childSerializer, child.get(new TypeToken<ArrayList<String>>() {}));
+        assertSame(parentSerializer, child.get(new TypeToken<Set<String>>() {}));
+        assertSame(parentSerializer, child.get(String.class));
+        assertSame(parentSerializer, parent.get(new TypeToken<ArrayList<String>>() {}));
+    }
+
+    @Test
+    void testArrayCovariance() {
+        final TypeSerializer<Object> arrays = new PassthroughSerializer();
+        final TypeSerializerCollection collection = TypeSerializerCollection.builder()
+            .register(Number[].class, arrays)
+            .build();
+
+        assertSame(arrays, collection.get(Integer[].class));
+        assertNull(collection.get(String[].class));
+    }
+
+    @Test
+    void testCacheStatistics() {
+        final TypeSerializerCollection collection = TypeSerializerCollection.defaults().childBuilder().build();
+        collection.get(String.class);
+        collection.get(String.class);
+        collection.get(new TypeToken<List<String>>() {});
+
+        final TypeSerializerCollection.CacheStatistics stats = collection.cacheStatistics();
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(0, stats.evictions());
+        assertEquals(2, stats.size());
+    }
+
+    @Test
+    void testCacheBounded() {
+        final TypeSerializerCollection collection = TypeSerializerCollection.defaults().childBuilder()
+            .cacheCapacity(2)
+            .build();
+        final Type[] types = {String.class, Integer.class, Long.class, Double.class};
+        for (final Type type : types) {
+            assertNotNull(collection.get(type));
+        }
+
+        final TypeSerializerCollection.CacheStatistics stats = collection.cacheStatistics();
+        assertEquals(2, stats.size());
+        assertEquals(2, stats.evictions());
+        // evicted entries still resolve
+        for (final Type type : types) {
+            assertNotNull(collection.get(type));
+        }
+    }
+
+    @Test
+    void testForeignClassesNotRetained() throws ReflectiveOperationException {
+        final URL classes = UpperCase.class.getProtectionDomain().getCodeSource().getLocation();
+        final Class<?> foreign;
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes}, null)) {
+            foreign = Class.forName(UpperCase.class.getName(), false, loader);
+        } catch (final IOException ex) {
+            throw new AssertionError(ex);
+        }
+
+        assertNull(ResolutionCache.scope(String.class));
+        assertNull(ResolutionCache.scope(new TypeToken<List<String>>() {}.getType()));
+        assertSame(foreign, ResolutionCache.scope(foreign));
+        assertSame(foreign, ResolutionCache.scope(TypeFactory.parameterizedClass(List.class, foreign)));
+
+        final TypeSerializerCollection collection = TypeSerializerCollection.builder()
+            .register(Object.class, new PassthroughSerializer())
+            .build();
+        assertNotNull(collection.get(foreign));
+        assertNotNull(collection.get(foreign));
+
+        final TypeSerializerCollection.CacheStatistics stats = collection.cacheStatistics();
+        assertEquals(1, stats.hits());
+        assertEquals(0, stats.size());
+    }
+
+    @Test
+    void testForeignTypeArgumentsProbed() throws ReflectiveOperationException {
+        final URL classes = UpperCase.class.getProtectionDomain().getCodeSource().getLocation();
+        final Class<?> foreign;
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes}, null)) {
+            foreign = Class.forName(UpperCase.class.getName(), false, loader);
+        } catch (final IOException ex) {
+            throw new AssertionError(ex);
+        }
+
+        final Type list = TypeFactory.parameterizedClass(List.class, foreign);
+        assertNull(ResolutionCache.probe(new TypeToken<List<String>>() {}.getType()));
+        assertSame(foreign, ResolutionCache.probe(list));
+        assertSame(foreign, ResolutionCache.probe(TypeFactory.parameterizedClass(Map.class, String.class, list)));
+
+        final TypeSerializerCollection collection = TypeSerializerCollection.builder()
+            .register(Object.class, new PassthroughSerializer())
+            .build();
+        for (int i = 0; i < 3; ++i) {
+            assertNotNull(collection.get(list));
+        }
+
+        final TypeSerializerCollection.CacheStatistics stats = collection.cacheStatistics();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0, stats.size());
+    }
+
+    @Test
+    void testTypesFromUnrelatedLoadersNotCached() throws ReflectiveOperationException {
+        final URL classes = UpperCase.class.getProtectionDomain().getCodeSource().getLocation();
+        final Class<?> first;
+        final Class<?> second;
+        try (URLClassLoader firstLoader = new URLClassLoader(new URL[] {classes}, null);
+             URLClassLoader secondLoader = new URLClassLoader(new URL[] {classes}, null)) {
+            first = Class.forName(UpperCase.class.getName(), false, firstLoader);
+            second = Class.forName(UpperCase.class.getName(), false, secondLoader);
+        } catch (final IOException ex) {
+            throw new AssertionError(ex);
+        }
+
+        final Type mixed = TypeFactory.parameterizedClass(Map.class, first, second);
+        assertSame(ResolutionCache.UNCACHEABLE, ResolutionCache.scope(mixed));
+
+        final TypeSerializerCollection collection = TypeSerializerCollection.builder()
+            .register(Object.class, new PassthroughSerializer())
+            .build();
+        assertNotNull(collection.get(mixed));
+        assertNotNull(collection.get(mixed));
+
+        final TypeSerializerCollection.CacheStatistics stats = collection.cacheStatistics();
+        assertEquals(0, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(0, stats.size());
+    }
+
 }
@@ -164,6 +164,22 @@ class TypeSerializersTest {
         assertEquals("people", value.node(3).getString());
     }
 
+    @Test
+    void testNumericListSerializer() throws SerializationException {
+        final TypeToken<List<Long>> longListType = new TypeToken<List<Long>>() {};
+        final TypeSerializer<List<Long>> longListSerializer = this.serializer(longListType);
+        final BasicConfigurationNode value = BasicConfigurationNode.root();
+        value.appendListNode().raw(1);
+        value.appendListNode().raw("0x10");
+        value.appendListNode().raw(3.0d);
+
+        assertEquals(Arrays.asList(1L, 16L, 3L), longListSerializer.deserialize(longListType.getType(), value));
+        value.set(null);
+
+        longListSerializer.serialize(longListType.getType(), Arrays.asList(5L, Long.MAX_VALUE), value);
+        assertEquals(Arrays.asList(5L, Long.MAX_VALUE), value.raw());
+    }
+
     @Test
     void testSetSerializer() throws SerializationException {
         final TypeToken<Set<String>> stringListType = new TypeToken<Set<String>>() {};
@@ -482,6 +498,25 @@ class TypeSerializersTest {
         assertArrayEquals(testArray, intArraySerializer.deserialize(intArrayType, serializeTo));
     }
 
+    @Test
+    void testArraySerializerIntPrimitiveCoerced() throws SerializationException {
+        final Class<int[]> intArrayType = int[].class;
+        final TypeSerializer<int[]> intArraySerializer = this.serializer(intArrayType);
+
+        final BasicConfigurationNode node = BasicConfigurationNode.root(ConfigurationOptions.defaults()
+            .nativeTypes(UnmodifiableCollections.toSet(String.class)));
+        intArraySerializer.serialize(intArrayType, new int[] {4, 0x10}, node);
+        assertEquals(Arrays.asList("4", "16"), node.raw());
+
+        node.node(1).raw("0x20");
+        assertArrayEquals(new int[] {4, 32}, intArraySerializer.deserialize(intArrayType, node));
+
+        node.node(1).raw("nope");
+        final SerializationException ex = Assertions.assertThrows(SerializationException.class,
+            () -> intArraySerializer.deserialize(intArrayType, node));
+        assertEquals(node.node(1).path(), ex.path());
+    }
+
     @Test
     void testArraySerializerLongPrimitive() throws SerializationException {
         final Class<long[]> longArrayType = long[].class;
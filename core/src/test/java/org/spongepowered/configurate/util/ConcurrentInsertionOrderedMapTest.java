@@ -0,0 +1,180 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
+class ConcurrentInsertionOrderedMapTest {
+
+    @Test
+    void testFactoryCreatesConcurrentMaps() {
+        assertThat(MapFactories.concurrentInsertionOrdered().<String, Integer>create())
+            .isInstanceOf(ConcurrentMap.class);
+    }
+
+    @Test
+    void testIteratesInInsertionOrder() {
+        final ConcurrentMap<String, Integer> map = new ConcurrentInsertionOrderedMap<>();
+        map.put("c", 1);
+        map.put("a", 2);
+        map.put("b", 3);
+        map.put("a", 4); // replacing keeps the original position
+
+        assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(map.keySet()));
+        assertEquals(Arrays.asList(1, 4, 3), new ArrayList<>(map.values()));
+    }
+
+    @Test
+    void testReinsertMovesToEnd() {
+        final ConcurrentMap<String, Integer> map = new ConcurrentInsertionOrderedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        assertEquals(1, map.remove("a"));
+        assertNull(map.putIfAbsent("a", 5));
+        assertEquals(2, map.putIfAbsent("b", 6));
+
+        assertEquals(Arrays.asList("b", "c", "a"), new ArrayList<>(map.keySet()));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void testAtomicOperations() {
+        final ConcurrentMap<String, Integer> map = new ConcurrentInsertionOrderedMap<>();
+        map.put("a", 1);
+
+        assertFalse(map.remove("a", 2));
+        assertFalse(map.replace("a", 2, 3));
+        assertTrue(map.replace("a", 1, 3));
+        assertEquals(3, map.replace("a", 4));
+        assertNull(map.replace("b", 4));
+        assertTrue(map.remove("a", 4));
+        assertTrue(map.isEmpty());
+
+        assertThrows(NullPointerException.class, () -> map.put("a", null));
+        assertThrows(NullPointerException.class, () -> map.put(null, 1));
+    }
+
+    @Test
+    void testEqualToOtherMaps() {
+        final ConcurrentMap<String, Integer> map = new ConcurrentInsertionOrderedMap<>();
+        final Map<String, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 10; ++i) {
+            map.put("key" + i, i);
+            expected.put("key" + i, i);
+        }
+
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(expected.toString(), map.toString());
+    }
+
+    @Test
+    void testModifyWhileIterating() {
+        final ConcurrentMap<String, Integer> map = new ConcurrentInsertionOrderedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        final List<String> seen = new ArrayList<>();
+        final Iterator<Map.Entry<String, Integer>> it = map.entrySet().iterator();
+        seen.add(it.next().getKey());
+        map.remove("b");
+        map.put("d", 4);
+        it.forEachRemaining(entry -> seen.add(entry.getKey()));
+
+        assertEquals(Arrays.asList("a", "c", "d"), seen);
+
+        final Iterator<String> keys = map.keySet().iterator();
+        keys.next();
+        keys.remove();
+        assertEquals(Arrays.asList("c", "d"), new ArrayList<>(map.keySet()));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.entrySet().iterator().hasNext());
+        map.put("e", 5);
+        assertEquals(Arrays.asList("e"), new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    void testConcurrentWriters() throws InterruptedException {
+        final ConcurrentMap<Integer, Integer> map = new ConcurrentInsertionOrderedMap<>();
+        final int threadCount = 4;
+        final int perThread = 1000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; ++i) {
+            final int offset = i * perThread;
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException ex) {
+                    throw new RuntimeException(ex);
+                }
+                for (int j = 0; j < perThread; ++j) {
+                    map.put(offset + j, j);
+                    if (j % 2 == 0) {
+                        map.remove(offset + j);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(threadCount * perThread / 2, map.size());
+        assertEquals(map.size(), new ArrayList<>(map.keySet()).size());
+    }
+
+    @Test
+    void testUnwrappedInNodes() {
+        final BasicConfigurationNode node = BasicConfigurationNode.root(ConfigurationOptions.defaults()
+            .mapFactory(MapFactories.concurrentInsertionOrdered()));
+        node.node("b").raw(1);
+        node.node("a").raw(2);
+        node.node("c").raw(3);
+        node.removeChild("a");
+        node.node("a").raw(4);
+
+        assertThat(node.childrenMap().keySet()).containsExactly("b", "c", "a");
+        assertEquals(node, node.copy());
+    }
+
+}
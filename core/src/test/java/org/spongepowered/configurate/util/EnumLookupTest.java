@@ -0,0 +1,57 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class EnumLookupTest {
+
+    enum Similar {
+        ONE_TWO,
+        ONETWO,
+        One_Two,
+        THREE
+    }
+
+    @Test
+    void testExactMatchWins() {
+        assertEquals(Similar.ONETWO, EnumLookup.lookupEnum(Similar.class, "ONETWO"));
+        assertEquals(Similar.One_Two, EnumLookup.lookupEnum(Similar.class, "One_Two"));
+    }
+
+    @Test
+    void testFuzzyMatchIsFirstDeclared() {
+        assertEquals(Similar.ONE_TWO, EnumLookup.lookupEnum(Similar.class, "onetwo"));
+        assertEquals(Similar.ONE_TWO, EnumLookup.lookupEnum(Similar.class, "_one__two_"));
+        assertEquals(Similar.THREE, EnumLookup.lookupEnum(Similar.class, "Th_Ree"));
+        assertEquals(TimeUnit.MILLISECONDS, EnumLookup.lookupEnum(TimeUnit.class, "milliSeconds"));
+    }
+
+    @Test
+    void testMissingValue() {
+        assertNull(EnumLookup.lookupEnum(Similar.class, "four"));
+        assertNull(EnumLookup.lookupEnum(Similar.class, "one_two_three"));
+        assertNull(EnumLookup.lookupEnum(Similar.class, "___"));
+        assertNull(EnumLookup.lookupEnum(Similar.class, ""));
+    }
+
+}
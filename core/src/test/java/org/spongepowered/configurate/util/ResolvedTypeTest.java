@@ -0,0 +1,81 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.geantyref.TypeToken;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.serialize.Scalars;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializerCollection;
+
+import java.lang.reflect.AnnotatedType;
+import java.util.Arrays;
+import java.util.List;
+
+class ResolvedTypeTest {
+
+    @Test
+    void testPrimitivesBoxed() {
+        final AnnotatedType original = GenericTypeReflector.annotate(int.class);
+        final ResolvedType resolved = ResolvedType.of(original);
+
+        assertSame(original, resolved.annotatedType());
+        assertEquals(Integer.class, resolved.canonical().getType());
+        assertEquals(Integer.class, resolved.erased());
+        assertTrue(resolved.complete());
+        assertEquals(ResolvedType.of(int.class), resolved);
+    }
+
+    @Test
+    void testRawTypesIncomplete() {
+        assertFalse(ResolvedType.of(List.class).complete());
+        assertTrue(ResolvedType.of(new TypeToken<List<String>>() {}).complete());
+
+        final BasicConfigurationNode node = BasicConfigurationNode.root().raw("value");
+        assertThrows(SerializationException.class, () -> node.get(ResolvedType.of(List.class)));
+    }
+
+    @Test
+    void testSerializerLookup() {
+        final TypeSerializerCollection serializers = TypeSerializerCollection.defaults();
+        assertSame(Scalars.INTEGER, serializers.get(ResolvedType.of(int.class)));
+        assertSame(serializers.get(new TypeToken<List<String>>() {}), serializers.get(ResolvedType.of(new TypeToken<List<String>>() {})));
+    }
+
+    @Test
+    void testNodeGet() throws SerializationException {
+        final ResolvedType intType = ResolvedType.of(int.class);
+        final ResolvedType listType = ResolvedType.of(new TypeToken<List<Integer>>() {});
+        final BasicConfigurationNode node = BasicConfigurationNode.root();
+        node.node("number").raw("42");
+        node.node("list").raw(Arrays.asList("1", 2));
+
+        assertEquals(42, node.node("number").get(intType));
+        assertEquals(Arrays.asList(1, 2), node.node("list").get(listType));
+        assertEquals(Arrays.asList(1, 2), node.node("list").copy().get(listType));
+        assertEquals(42, node.node("number").get(intType));
+    }
+
+}
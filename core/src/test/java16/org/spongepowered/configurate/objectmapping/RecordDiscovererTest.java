@@ -17,6 +17,8 @@
 package org.spongepowered.configurate.objectmapping;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.Test;
@@ -131,4 +133,23 @@ class RecordDiscovererTest {
         assertEquals(0, withPrimitives.helloWorld());
     }
 
+    @Test
+    void testConstructorExceptionWrapped() {
+        @ConfigSerializable
+        record Validated(int count) {
+            Validated {
+                if (count < 0) {
+                    throw new IllegalArgumentException("count must not be negative");
+                }
+            }
+        }
+
+        final var node = BasicConfigurationNode.root(n -> {
+            n.node("count").raw(-1);
+        });
+
+        final var ex = assertThrows(SerializationException.class, () -> node.get(Validated.class));
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
 }
@@ -20,18 +20,29 @@ import static org.spongepowered.configurate.interfaces.processor.Utils.isNestedC
 
 import com.google.auto.service.AutoService;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.interfaces.Constants;
+import org.spongepowered.configurate.interfaces.InterfaceIndex;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 import java.io.IOException;
-import java.io.Writer;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
@@ -42,11 +53,10 @@ import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
-import javax.tools.FileObject;
-import javax.tools.StandardLocation;
 
 /**
  * Generates an implementation for a given interface based config,
@@ -58,6 +68,8 @@ import javax.tools.StandardLocation;
 public final class ConfigImplementationGeneratorProcessor extends AbstractProcessor {
 
     private final Properties mappings = new Properties();
+    private final Set<String> indexed = new HashSet<>();
+    private final Map<String, Integer> indexRounds = new HashMap<>();
     Types typeUtils;
     private Filer filer;
     private Messager messager;
@@ -79,9 +91,6 @@ public final class ConfigImplementationGeneratorProcessor extends AbstractProces
     @Override
     public boolean process(final Set<? extends TypeElement> ignored, final RoundEnvironment env) {
         if (env.processingOver()) {
-            if (!env.errorRaised()) {
-                writeMappings();
-            }
             return false;
         }
 
@@ -103,6 +112,9 @@ public final class ConfigImplementationGeneratorProcessor extends AbstractProces
             }
         }
 
+        if (!env.errorRaised()) {
+            writeIndexes();
+        }
         return false;
     }
 
@@ -127,18 +139,70 @@ public final class ConfigImplementationGeneratorProcessor extends AbstractProces
         return SourceVersion.latest();
     }
 
-    private void writeMappings() {
-        final FileObject resource;
-        try {
-            resource = this.filer.createResource(StandardLocation.CLASS_OUTPUT, "", Constants.MAPPING_FILE);
-            try (Writer writer = resource.openWriter()) {
-                this.mappings.store(writer, null);
+    /**
+     * Write an index of the implementations generated in this round, for
+     * each package they were generated in.
+     *
+     * <p>A generated file can't be rewritten, so a package that gets more
+     * implementations in a later round gets a further index for that
+     * round, named as described by {@link Constants#INDEX_CLASS_NAME}.</p>
+     */
+    private void writeIndexes() {
+        final Map<String, Map<String, String>> byPackage = new TreeMap<>();
+        for (final String type : this.mappings.stringPropertyNames()) {
+            if (this.indexed.add(type)) {
+                byPackage.computeIfAbsent(packageName(type), k -> new TreeMap<>()).put(type, this.mappings.getProperty(type));
+            }
+        }
+
+        for (final Map.Entry<String, Map<String, String>> entry : byPackage.entrySet()) {
+            final int round = this.indexRounds.merge(entry.getKey(), 1, Integer::sum);
+            final String indexName = round == 1 ? Constants.INDEX_CLASS_NAME : Constants.INDEX_CLASS_NAME + round;
+
+            final TypeName classType = ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class));
+            final CodeBlock.Builder implementations = CodeBlock.builder();
+            for (final Map.Entry<String, String> mapping : entry.getValue().entrySet()) {
+                implementations.addStatement("IMPLEMENTATIONS.put($T.class, $T.class)", className(mapping.getKey()), className(mapping.getValue()));
+            }
+
+            final TypeSpec index = TypeSpec.classBuilder(indexName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(InterfaceIndex.class)
+                .addJavadoc("Automatically generated index of the config implementations in this package")
+                .addField(FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(Map.class), classType, classType), "IMPLEMENTATIONS")
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T<>()", HashMap.class)
+                    .build())
+                .addStaticBlock(implementations.build())
+                .addMethod(MethodSpec.methodBuilder("implementation")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(classType)
+                    .addParameter(classType, "type", Modifier.FINAL)
+                    .addStatement("return IMPLEMENTATIONS.get(type)")
+                    .build())
+                .build();
+
+            try {
+                JavaFile.builder(entry.getKey(), index)
+                    .build()
+                    .writeTo(this.filer);
+            } catch (final IOException exception) {
+                printError(exception.getMessage());
             }
-        } catch (final IOException exception) {
-            throw new RuntimeException("Failed to write interface mappings!", exception);
         }
     }
 
+    private static String packageName(final String binaryName) {
+        final int packageEnd = binaryName.lastIndexOf('.');
+        return packageEnd == -1 ? "" : binaryName.substring(0, packageEnd);
+    }
+
+    private static ClassName className(final String binaryName) {
+        final String[] simpleNames = binaryName.substring(binaryName.lastIndexOf('.') + 1).split("\\$");
+        return ClassName.get(packageName(binaryName), simpleNames[0], Arrays.copyOfRange(simpleNames, 1, simpleNames.length));
+    }
+
     Properties generatedClasses() {
         return this.mappings;
     }
@@ -0,0 +1,390 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.interfaces.processor;
+
+import static org.spongepowered.configurate.interfaces.processor.Utils.annotation;
+import static org.spongepowered.configurate.interfaces.processor.Utils.hasAnnotation;
+
+import com.google.auto.common.MoreElements;
+import com.google.auto.common.MoreTypes;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import io.leangen.geantyref.TypeToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.objectmapping.GeneratedObjectMapper;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Matches;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
+import org.spongepowered.configurate.objectmapping.meta.Required;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.util.NamingSchemes;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+
+class ObjectMapperGenerator {
+
+    /**
+     * Annotations understood by the default object mapper factory, which
+     * generated mappers reproduce.
+     *
+     * <p>Any other annotation on a field could change how the field is
+     * resolved or serialized, so it prevents generating a mapper.</p>
+     */
+    private static final Set<String> KNOWN_ANNOTATIONS = new HashSet<>(Arrays.asList(
+        Setting.class.getCanonicalName(),
+        Comment.class.getCanonicalName(),
+        Matches.class.getCanonicalName(),
+        Required.class.getCanonicalName()
+    ));
+
+    private final ObjectMapperGeneratorProcessor processor;
+    private final TypeElement source;
+    private final PackageElement sourcePackage;
+
+    ObjectMapperGenerator(
+        final ObjectMapperGeneratorProcessor processor,
+        final TypeElement source
+    ) {
+        this.processor = processor;
+        this.source = source;
+        this.sourcePackage = processor.elementUtils.getPackageOf(source);
+    }
+
+    /**
+     * Returns the generated mapper, or null if the class can't be mapped
+     * without reflection.
+     */
+    public @Nullable TypeSpec generate() {
+        if (!checkType()) {
+            return null;
+        }
+
+        final List<CodeBlock> fields = new ArrayList<>();
+        final List<ExecutableElement> postProcessors = new ArrayList<>();
+        if (!gatherFields(fields) || !gatherPostProcessors(postProcessors)) {
+            return null;
+        }
+
+        final ClassName className = ClassName.get(this.source);
+        final CodeBlock.Builder fieldList = CodeBlock.builder();
+        for (int i = 0; i < fields.size(); ++i) {
+            fieldList.add(i == 0 ? "\n" : ",\n").add(fields.get(i));
+        }
+
+        final CodeBlock.Builder superCall = CodeBlock.builder()
+            .add("super($T.class, $T::new, $T.asList($>$>$L$<$<)", className, className, Arrays.class, fieldList.build());
+        if (!postProcessors.isEmpty()) {
+            // passed to the mapper, which calls them all and collects failures as at runtime
+            final CodeBlock.Builder postProcessorList = CodeBlock.builder();
+            for (int i = 0; i < postProcessors.size(); ++i) {
+                final Name name = postProcessors.get(i).getSimpleName();
+                postProcessorList.add(i == 0 ? "\n" : ",\n")
+                    .add("postProcessor($S, ($T instance) -> instance.$N())", name, className, name);
+            }
+            superCall.add(", $T.asList($>$>$L$<$<)", Arrays.class, postProcessorList.build());
+        }
+
+        return TypeSpec
+            .classBuilder(String.join("_", className.simpleNames()) + GeneratedObjectMapper.SUFFIX)
+            .superclass(ParameterizedTypeName.get(ClassName.get(GeneratedObjectMapper.class), className))
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addOriginatingElement(this.source)
+            .addJavadoc("Automatically generated object mapper for {@link $T}", className)
+            .addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addStatement("$L)", superCall.build())
+                .build())
+            .build();
+    }
+
+    /**
+     * Returns true if the generated mapper can create instances of the
+     * class, otherwise false.
+     */
+    private boolean checkType() {
+        final Set<Modifier> modifiers = this.source.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT) || !this.source.getTypeParameters().isEmpty()) {
+            // never mapped as a plain class, so there is nothing to note
+            return false;
+        }
+        if (this.source.getNestingKind() != NestingKind.TOP_LEVEL
+                && (this.source.getNestingKind() != NestingKind.MEMBER || !modifiers.contains(Modifier.STATIC))) {
+            return skip(this.source, "it is not a top level or static nested class");
+        }
+        if (!isAccessible(this.source)) {
+            return skip(this.source, "it is private");
+        }
+
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(this.source.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return isAccessible(constructor) || skip(this.source, "its zero-argument constructor is private");
+            }
+        }
+        return skip(this.source, "it has no zero-argument constructor");
+    }
+
+    /**
+     * Returns true if every field of the class and its superclasses can be
+     * mapped directly, otherwise false.
+     */
+    private boolean gatherFields(final List<CodeBlock> fields) {
+        final DeclaredType sourceType = MoreTypes.asDeclared(this.source.asType());
+        TypeElement type = this.source;
+        while (!isObject(type)) {
+            for (final VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                final Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+
+                if (modifiers.contains(Modifier.FINAL)) {
+                    return skip(field, "field %s is final", field.getSimpleName());
+                }
+                if (!isAccessible(field)) {
+                    return skip(field, "field %s is not accessible", field.getSimpleName());
+                }
+                for (final AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                    final String annotationType = MoreElements.asType(mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+                    if (!KNOWN_ANNOTATIONS.contains(annotationType)) {
+                        return skip(field, "field %s has the annotation @%s", field.getSimpleName(), annotationType);
+                    }
+                }
+
+                final TypeMirror fieldType = this.processor.typeUtils.asMemberOf(sourceType, field);
+                if (!isMappable(fieldType)) {
+                    return skip(field, "the type of field %s can't be referenced from generated code", field.getSimpleName());
+                }
+
+                fields.add(fieldSpec(type, field, fieldType));
+            }
+            type = MoreElements.asType(this.processor.typeUtils.asElement(type.getSuperclass()));
+        }
+        return true;
+    }
+
+    private CodeBlock fieldSpec(final TypeElement owner, final VariableElement field, final TypeMirror fieldType) {
+        final ClassName sourceName = ClassName.get(this.source);
+        final TypeName fieldTypeName = TypeName.get(fieldType);
+        final CodeBlock access;
+        if (owner.equals(this.source)) {
+            access = CodeBlock.of("instance.$N", field.getSimpleName());
+        } else {
+            // superclass fields may be hidden by fields of the same name
+            access = CodeBlock.of("(($T) instance).$N", ClassName.get(owner), field.getSimpleName());
+        }
+
+        final CodeBlock type;
+        if (this.processor.typeUtils.isSameType(fieldType, this.processor.typeUtils.erasure(fieldType))) {
+            type = CodeBlock.of("$T.class", fieldTypeName);
+        } else {
+            type = CodeBlock.of("new $T<$T>() {}", TypeToken.class, fieldTypeName);
+        }
+
+        final CodeBlock.Builder spec = CodeBlock.builder()
+            .add("field($S, $S, $L,$>$>\n", field.getSimpleName(), nodeKey(field), type)
+            .add("($T instance) -> $L,\n", sourceName, access)
+            .add("($T instance, $T value) -> $L = value)$<$<", sourceName, fieldTypeName.box(), access);
+
+        // processors and constraints apply in declaration order, as at runtime
+        for (final AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            final String annotationType = MoreElements.asType(mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (annotationType.equals(Comment.class.getCanonicalName())) {
+                final Comment comment = annotation(field, Comment.class);
+                spec.add("\n$>$>.comment($S, $L)$<$<", comment.value(), comment.override());
+            } else if (annotationType.equals(Required.class.getCanonicalName())) {
+                spec.add("\n$>$>.required()$<$<");
+            } else if (annotationType.equals(Matches.class.getCanonicalName())) {
+                final Matches matches = annotation(field, Matches.class);
+                spec.add("\n$>$>.matches($S, $L, $S)$<$<", matches.value(), matches.flags(), matches.failureMessage());
+            }
+        }
+        return spec.build();
+    }
+
+    /**
+     * Returns the key of the field's node, or null if the field is read from
+     * its containing node.
+     */
+    private static @Nullable String nodeKey(final VariableElement field) {
+        final @Nullable Setting setting = annotation(field, Setting.class);
+        if (setting != null) {
+            if (setting.nodeFromParent()) {
+                return null;
+            } else if (!setting.value().isEmpty()) {
+                return setting.value();
+            }
+        }
+        return NamingSchemes.LOWER_CASE_DASHED.coerce(field.getSimpleName().toString());
+    }
+
+    /**
+     * Returns true if every post-processing method of the class can be
+     * called directly, otherwise false.
+     */
+    private boolean gatherPostProcessors(final List<ExecutableElement> methods) {
+        final Set<String> seen = new HashSet<>();
+        final Deque<TypeElement> types = new ArrayDeque<>();
+        types.add(this.source);
+
+        @Nullable TypeElement type;
+        while ((type = types.poll()) != null) {
+            for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (!hasAnnotation(method, PostProcess.class) || method.getModifiers().contains(Modifier.ABSTRACT)) {
+                    continue;
+                }
+
+                if (method.getModifiers().contains(Modifier.STATIC) || !method.getParameters().isEmpty()) {
+                    return skip(method, "post-processor %s must be a method without parameters", method.getSimpleName());
+                }
+                if (!isAccessible(method)) {
+                    return skip(method, "post-processor %s is not accessible", method.getSimpleName());
+                }
+                for (final TypeMirror thrown : method.getThrownTypes()) {
+                    if (!this.processor.typeUtils.isAssignable(thrown, exceptionType())) {
+                        return skip(method, "post-processor %s throws %s", method.getSimpleName(), thrown);
+                    }
+                }
+
+                // calls dispatch to the most specific override anyway
+                if (seen.add(method.getSimpleName().toString())) {
+                    methods.add(method);
+                }
+            }
+
+            if (type.getSuperclass().getKind() == TypeKind.DECLARED) {
+                types.add(MoreElements.asType(this.processor.typeUtils.asElement(type.getSuperclass())));
+            }
+            for (final TypeMirror iface : type.getInterfaces()) {
+                types.add(MoreElements.asType(this.processor.typeUtils.asElement(iface)));
+            }
+        }
+        return true;
+    }
+
+    private TypeMirror exceptionType() {
+        return this.processor.elementUtils.getTypeElement(SerializationException.class.getCanonicalName()).asType();
+    }
+
+    /**
+     * Returns true if a type can be named in generated code, and has no
+     * annotations that could affect how it is serialized.
+     */
+    private boolean isMappable(final TypeMirror type) {
+        if (!type.getAnnotationMirrors().isEmpty()) {
+            return false;
+        }
+
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return true;
+            case ARRAY:
+                return isMappable(((ArrayType) type).getComponentType());
+            case WILDCARD:
+                final WildcardType wildcard = (WildcardType) type;
+                return (wildcard.getExtendsBound() == null || isMappable(wildcard.getExtendsBound()))
+                    && (wildcard.getSuperBound() == null || isMappable(wildcard.getSuperBound()));
+            case DECLARED:
+                final DeclaredType declared = (DeclaredType) type;
+                if (!isAccessible(declared.asElement())) {
+                    return false;
+                }
+                for (final TypeMirror argument : declared.getTypeArguments()) {
+                    if (!isMappable(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                // type variables can't be resolved at compile time
+                return false;
+        }
+    }
+
+    /**
+     * Returns true if an element and all of its enclosing types can be
+     * accessed from the package of the source class.
+     */
+    private boolean isAccessible(final Element element) {
+        for (Element current = element; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            final Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !this.processor.elementUtils.getPackageOf(current).equals(this.sourcePackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isObject(final TypeElement type) {
+        return type.getQualifiedName().contentEquals(Object.class.getCanonicalName());
+    }
+
+    /**
+     * Notes why no mapper is generated, if the user asked for such notes,
+     * and returns false.
+     */
+    private boolean skip(final Element element, final String reason, final Object... arguments) {
+        if (this.processor.notesEnabled()) {
+            this.processor.printNote(
+                element,
+                "Not generating an object mapper for %s, since %s",
+                this.source.getQualifiedName(),
+                String.format(Locale.ROOT, reason, arguments)
+            );
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.interfaces.processor;
+
+import com.google.auto.service.AutoService;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.GeneratedObjectMapper;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Generates an object mapper for a given class based config, which the
+ * default object mapper factory will use instead of discovering the
+ * class's fields at runtime.
+ *
+ * <p>Classes that can't be mapped without reflection, for example because
+ * they have private fields, are skipped, and continue to be mapped at
+ * runtime. Passing {@code -Aconfigurate.objectmapper.notes=true} to the
+ * compiler reports why each such class was skipped.</p>
+ *
+ * @see GeneratedObjectMapper
+ * @since 4.2.0
+ */
+@AutoService(Processor.class)
+public final class ObjectMapperGeneratorProcessor extends AbstractProcessor {
+
+    /**
+     * The option to set to {@code true} to report classes that are skipped.
+     *
+     * @since 4.2.0
+     */
+    public static final String NOTES_OPTION = "configurate.objectmapper.notes";
+
+    Types typeUtils;
+    Elements elementUtils;
+    private Filer filer;
+    private Messager messager;
+    private boolean notes;
+
+    @Override
+    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.typeUtils = processingEnv.getTypeUtils();
+        this.elementUtils = processingEnv.getElementUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+        this.notes = Boolean.parseBoolean(processingEnv.getOptions().get(NOTES_OPTION));
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(ConfigSerializable.class.getCanonicalName());
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> ignored, final RoundEnvironment env) {
+        for (final Element element : env.getElementsAnnotatedWith(ConfigSerializable.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+
+            try {
+                processClass((TypeElement) element);
+            } catch (final IOException exception) {
+                printError(exception.getMessage());
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Generate a mapper for the given class.
+     */
+    private void processClass(final TypeElement type) throws IOException {
+        final ObjectMapperGenerator generator = new ObjectMapperGenerator(this, type);
+        final @Nullable TypeSpec generated = generator.generate();
+        if (generated == null) {
+            return;
+        }
+
+        JavaFile.builder(ClassName.get(type).packageName(), generated)
+            .build()
+            .writeTo(this.filer);
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(NOTES_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latest();
+    }
+
+    boolean notesEnabled() {
+        return this.notes;
+    }
+
+    void printNote(final Element element, final String message, final Object... arguments) {
+        this.messager.printMessage(Kind.NOTE, String.format(Locale.ROOT, message, arguments), element);
+    }
+
+    void printError(final String message, final Object... arguments) {
+        this.messager.printMessage(Kind.ERROR, String.format(Locale.ROOT, message, arguments));
+    }
+
+}
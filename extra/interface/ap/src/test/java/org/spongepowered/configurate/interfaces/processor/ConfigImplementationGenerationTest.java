@@ -16,11 +16,17 @@
  */
 package org.spongepowered.configurate.interfaces.processor;
 
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
 import static org.spongepowered.configurate.interfaces.processor.TestUtils.testCompilation;
 
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
+import org.spongepowered.configurate.interfaces.Constants;
+import org.spongepowered.configurate.interfaces.processor.util.LateConfigProcessor;
 
 @RunWith(Enclosed.class)
 class ConfigImplementationGenerationTest {
@@ -45,4 +51,22 @@ class ConfigImplementationGenerationTest {
         testCompilation("test/OtherAnnotations");
     }
 
+    @Test
+    void testPackageIndexedOverMultipleRounds() {
+        final Compilation compilation =
+            javac()
+                .withProcessors(new ConfigImplementationGeneratorProcessor(), new LateConfigProcessor())
+                .compile(JavaFileObjects.forResource("structure/BasicConfig.java"));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation)
+            .generatedSourceFile("structure." + Constants.INDEX_CLASS_NAME)
+            .contentsAsUtf8String()
+            .contains("IMPLEMENTATIONS.put(BasicConfig.class, BasicConfigImpl.class);");
+        assertThat(compilation)
+            .generatedSourceFile("structure." + Constants.INDEX_CLASS_NAME + 2)
+            .contentsAsUtf8String()
+            .contains("IMPLEMENTATIONS.put(LateConfig.class, LateConfigImpl.class);");
+    }
+
 }
@@ -0,0 +1,64 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.interfaces.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+class ObjectMapperGenerationTest {
+
+    @Test
+    void testBasicObjectCompilation() {
+        final Compilation compilation = compile("mapper/BasicObject");
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation)
+            .generatedSourceFile("mapper.BasicObject_ObjectMapper")
+            .hasSourceEquivalentTo(JavaFileObjects.forResource("mapper/BasicObject_ObjectMapper.java"));
+    }
+
+    @Test
+    void testPrivateFieldsSkipped() {
+        final Compilation compilation = compile("mapper/PrivateFields");
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).hadNoteCount(0);
+        assertTrue(compilation.generatedSourceFiles().isEmpty());
+    }
+
+    @Test
+    void testSkippedClassesNotedOnRequest() {
+        final Compilation compilation = compile("mapper/PrivateFields", "-A" + ObjectMapperGeneratorProcessor.NOTES_OPTION + "=true");
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).hadNoteContaining("field hidden is not accessible");
+        assertTrue(compilation.generatedSourceFiles().isEmpty());
+    }
+
+    private static Compilation compile(final String sourceResourceName, final String... options) {
+        return javac()
+            .withProcessors(new ObjectMapperGeneratorProcessor())
+            .withOptions((Object[]) options)
+            .compile(JavaFileObjects.forResource(sourceResourceName + ".java"));
+    }
+
+}
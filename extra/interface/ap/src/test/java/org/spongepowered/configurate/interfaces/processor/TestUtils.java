@@ -18,7 +18,6 @@ package org.spongepowered.configurate.interfaces.processor;
 
 import static com.google.testing.compile.CompilationSubject.assertThat;
 import static com.google.testing.compile.Compiler.javac;
-import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 
 import com.google.common.io.Resources;
 import com.google.testing.compile.Compilation;
@@ -28,13 +27,9 @@ import org.spongepowered.configurate.interfaces.Constants;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
-
-import javax.tools.StandardLocation;
 
 final class TestUtils {
 
@@ -43,7 +38,7 @@ final class TestUtils {
 
     /**
      * Tests whether the compilation is successful, that the correct mappings
-     * have been made and that the generated impl matches the expected impl.
+     * have been indexed and that the generated impl matches the expected impl.
      */
     static Compilation testCompilation(final String sourceResourceName) {
         final Compilation compilation =
@@ -59,28 +54,24 @@ final class TestUtils {
             .generatedSourceFile(targetSourceName)
             .hasSourceEquivalentTo(JavaFileObjects.forResource(targetResourceName + ".java"));
 
-        try {
-
-            final String actualContent = compilation
-                .generatedFile(StandardLocation.CLASS_OUTPUT, Constants.MAPPING_FILE)
-                .orElseThrow(() -> new IllegalStateException("Expected the interface mappings file to be created"))
-                .getCharContent(false)
-                .toString();
-
-            final List<String> expectedLines = readOrGenerateMappings(sourceResourceName, targetResourceName);
-
-            assertIterableEquals(expectedLines, removeComments(actualContent));
-        } catch (final IOException exception) {
-            throw new RuntimeException(exception);
+        final String packageName = sourceResourceName.substring(0, sourceResourceName.lastIndexOf('/')).replace('/', '.');
+        for (final String mapping : readOrGenerateMappings(sourceResourceName, targetResourceName)) {
+            final String[] types = mapping.split("=", 2);
+            assertThat(compilation)
+                .generatedSourceFile(packageName + "." + Constants.INDEX_CLASS_NAME)
+                .contentsAsUtf8String()
+                .contains(String.format(Locale.ROOT, "IMPLEMENTATIONS.put(%s.class, %s.class);", simpleName(types[0]), simpleName(types[1])));
         }
 
         return compilation;
     }
 
-    private static List<String> removeComments(final String content) {
-        return Arrays.stream(content.split(System.lineSeparator()))
-            .filter(line -> !line.startsWith("#"))
-            .collect(Collectors.toList());
+    /**
+     * Converts a binary name into the name the index uses for a type in its
+     * own package.
+     */
+    private static String simpleName(final String binaryName) {
+        return binaryName.substring(binaryName.lastIndexOf('.') + 1).replace('$', '.');
     }
 
     private static List<String> readOrGenerateMappings(final String sourceResourceName, final String targetResourceName) {
@@ -0,0 +1,68 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.interfaces.processor.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Generates a config interface in the {@code structure} package during the
+ * first round, so it is only processed in the round after.
+ */
+public final class LateConfigProcessor extends AbstractProcessor {
+
+    private boolean generated;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latest();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment env) {
+        if (this.generated) {
+            return false;
+        }
+        this.generated = true;
+
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile("structure.LateConfig").openWriter()) {
+            writer.write("package structure;\n"
+                + "\n"
+                + "@org.spongepowered.configurate.objectmapping.ConfigSerializable\n"
+                + "public interface LateConfig {\n"
+                + "    String hello();\n"
+                + "}\n");
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,26 @@
+package mapper;
+
+import java.util.List;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
+import org.spongepowered.configurate.objectmapping.meta.Required;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public class BasicObject {
+    @Setting("display-name")
+    @Comment("The name to show")
+    @Required
+    String name;
+
+    int maxCount = 3;
+
+    List<String> tags;
+
+    transient String ignored;
+
+    @PostProcess
+    void validate() {
+    }
+}
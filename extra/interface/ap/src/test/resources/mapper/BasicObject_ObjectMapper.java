@@ -0,0 +1,28 @@
+package mapper;
+
+import io.leangen.geantyref.TypeToken;
+import java.lang.Integer;
+import java.lang.String;
+import java.util.Arrays;
+import java.util.List;
+import org.spongepowered.configurate.objectmapping.GeneratedObjectMapper;
+
+/**
+ * Automatically generated object mapper for {@link BasicObject} */
+public final class BasicObject_ObjectMapper extends GeneratedObjectMapper<BasicObject> {
+    public BasicObject_ObjectMapper() {
+        super(BasicObject.class, BasicObject::new, Arrays.asList(
+                field("name", "display-name", String.class,
+                        (BasicObject instance) -> instance.name,
+                        (BasicObject instance, String value) -> instance.name = value)
+                        .comment("The name to show", false)
+                        .required(),
+                field("maxCount", "max-count", int.class,
+                        (BasicObject instance) -> instance.maxCount,
+                        (BasicObject instance, Integer value) -> instance.maxCount = value),
+                field("tags", "tags", new TypeToken<List<String>>() {},
+                        (BasicObject instance) -> instance.tags,
+                        (BasicObject instance, List<String> value) -> instance.tags = value)), Arrays.asList(
+                postProcessor("validate", (BasicObject instance) -> instance.validate())));
+    }
+}
@@ -0,0 +1,8 @@
+package mapper;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+
+@ConfigSerializable
+public class PrivateFields {
+    private String hidden;
+}
@@ -28,8 +28,24 @@ public final class Constants {
     /**
      * The file location of the interface mappings.
      *
+     * <p>The annotation processor now generates an {@link InterfaceIndex}
+     * instead. This file is only read for configs compiled with earlier
+     * versions of the processor.</p>
+     *
      * @since 4.2.0
      */
     public static final String MAPPING_FILE = "org/spongepowered/configurate/interfaces/interface_mappings.properties";
 
+    /**
+     * The simple name of the {@link InterfaceIndex} generated in each package
+     * containing config interfaces.
+     *
+     * <p>When the interfaces of a package are generated over several
+     * processing rounds, every further index is named with its number
+     * appended, starting with {@code 2}.</p>
+     *
+     * @since 4.2.0
+     */
+    public static final String INDEX_CLASS_NAME = "ConfigurateInterfaceIndex";
+
 }
@@ -0,0 +1,42 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.interfaces;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An index of the generated implementations of config interfaces in a
+ * single package. Meant to be implemented by generated code only.
+ *
+ * <p>The annotation processor generates one index per package, named
+ * {@link Constants#INDEX_CLASS_NAME}, and a further one for each later
+ * processing round that adds implementations to the package.</p>
+ *
+ * @since 4.2.0
+ */
+public interface InterfaceIndex {
+
+    /**
+     * Get the generated implementation of a config interface.
+     *
+     * @param type the config interface
+     * @return the implementation, or null if the type is not indexed
+     * @since 4.2.0
+     */
+    @Nullable Class<?> implementation(Class<?> type);
+
+}
@@ -23,13 +23,17 @@ import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.configurate.serialize.TypeSerializer;
+import org.spongepowered.configurate.serialize.TypeSerializerCollection;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
 import java.net.URL;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.StringJoiner;
 
@@ -37,7 +41,13 @@ final class InterfaceTypeSerializer implements TypeSerializer<Object> {
 
     public static final InterfaceTypeSerializer INSTANCE = new InterfaceTypeSerializer();
 
-    private final Properties interfaceMappings = new Properties();
+    private final Map<String, String> legacyMappings = new HashMap<>();
+    private final ClassValue<Implementation> implementations = new ClassValue<Implementation>() {
+        @Override
+        protected Implementation computeValue(final Class<?> type) {
+            return InterfaceTypeSerializer.this.resolve(type);
+        }
+    };
 
     public static boolean applicable(final AnnotatedType type) {
         return type.isAnnotationPresent(ConfigSerializable.class) && erase(type.getType()).isInterface();
@@ -49,41 +59,89 @@ final class InterfaceTypeSerializer implements TypeSerializer<Object> {
             return;
         }
 
+        final Properties mappings = new Properties();
         try (InputStream stream = mappingsUrl.openStream()) {
-            this.interfaceMappings.load(stream);
+            mappings.load(stream);
         } catch (final IOException exception) {
             throw new RuntimeException("Could not load interface mappings!", exception);
         }
+        for (final String key : mappings.stringPropertyNames()) {
+            this.legacyMappings.put(key, mappings.getProperty(key));
+        }
     }
 
     @Override
     public Object deserialize(final Type type, final ConfigurationNode node) throws SerializationException {
-        final String canonicalName = erase(type).getTypeName();
-        final @Nullable String typeImpl = this.interfaceMappings.getProperty(canonicalName);
+        final Implementation implementation = this.implementation(erase(type));
+        return implementation.serializer(node.options().serializers()).deserialize(implementation.type(), node);
+    }
+
+    private Implementation implementation(final Class<?> type) {
+        final Implementation implementation = this.implementations.get(type);
+        if (implementation.type == null) {
+            // don't remember failures, the implementation may become available later
+            this.implementations.remove(type);
+        }
+        return implementation;
+    }
+
+    /**
+     * Find the implementation of a config interface, first in the index
+     * generated for its package and then in any legacy mappings file.
+     */
+    private Implementation resolve(final Class<?> type) {
+        final @Nullable Class<?> indexed = indexedImplementation(type);
+        if (indexed != null) {
+            return new Implementation(indexed, null);
+        }
+
+        final String canonicalName = type.getTypeName();
+        final @Nullable String typeImpl = this.legacyMappings.get(canonicalName);
         if (typeImpl == null) {
-            throw new SerializationException(String.format(
+            return new Implementation(null, String.format(
                 Locale.ROOT,
                 "No mapping found for type %s. Available mappings: %s",
                 canonicalName, availableMappings()
             ));
         }
 
-        final Class<?> implClass;
         try {
-            implClass = Class.forName(typeImpl, true, erase(type).getClassLoader());
+            return new Implementation(Class.forName(typeImpl, true, type.getClassLoader()), null);
         } catch (final ClassNotFoundException exception) {
-            throw new SerializationException(String.format(
+            return new Implementation(null, String.format(
                 Locale.ROOT,
                 "Could not find implementation class %s for type %s!",
                 typeImpl, canonicalName
             ));
         }
+    }
 
-        final @Nullable TypeSerializer<?> serializer = node.options().serializers().get(implClass);
-        if (serializer == null) {
-            throw new SerializationException("No serializer found for implementation class " + implClass);
+    private static @Nullable Class<?> indexedImplementation(final Class<?> type) {
+        final String name = type.getName();
+        final String indexName = name.substring(0, name.lastIndexOf('.') + 1) + Constants.INDEX_CLASS_NAME;
+        // a package generated over several rounds has one index per round
+        for (int count = 1; ; count++) {
+            final @Nullable InterfaceIndex index = index(count == 1 ? indexName : indexName + count, type.getClassLoader());
+            if (index == null) {
+                return null;
+            }
+            final @Nullable Class<?> implementation = index.implementation(type);
+            if (implementation != null) {
+                return implementation;
+            }
+        }
+    }
+
+    private static @Nullable InterfaceIndex index(final String name, final @Nullable ClassLoader loader) {
+        try {
+            final Class<?> index = Class.forName(name, true, loader);
+            if (!InterfaceIndex.class.isAssignableFrom(index)) {
+                return null;
+            }
+            return (InterfaceIndex) index.getConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError ignore) {
+            return null;
         }
-        return serializer.deserialize(implClass, node);
     }
 
     @Override
@@ -108,8 +166,63 @@ final class InterfaceTypeSerializer implements TypeSerializer<Object> {
 
     private String availableMappings() {
         final StringJoiner joiner = new StringJoiner(", ");
-        this.interfaceMappings.keySet().forEach((key) -> joiner.add((CharSequence) key));
+        this.legacyMappings.keySet().forEach(joiner::add);
         return joiner.toString();
     }
 
+    /**
+     * The resolved implementation of a config interface, or the reason it
+     * could not be resolved.
+     */
+    static final class Implementation {
+
+        private final @Nullable Class<?> type;
+        private final @Nullable String error;
+        private volatile @Nullable CachedSerializer serializer;
+
+        Implementation(final @Nullable Class<?> type, final @Nullable String error) {
+            this.type = type;
+            this.error = error;
+        }
+
+        Class<?> type() throws SerializationException {
+            if (this.type == null) {
+                throw new SerializationException(this.error);
+            }
+            return this.type;
+        }
+
+        TypeSerializer<?> serializer(final TypeSerializerCollection collection) throws SerializationException {
+            final @Nullable CachedSerializer cached = this.serializer;
+            if (cached != null && cached.collection.get() == collection) {
+                return cached.serializer;
+            }
+
+            final Class<?> type = this.type();
+            final @Nullable TypeSerializer<?> serializer = collection.get(type);
+            if (serializer == null) {
+                throw new SerializationException("No serializer found for implementation class " + type);
+            }
+            this.serializer = new CachedSerializer(collection, serializer);
+            return serializer;
+        }
+
+    }
+
+    /**
+     * The serializer last resolved for an implementation, along with the
+     * collection it came from.
+     */
+    static final class CachedSerializer {
+
+        final WeakReference<TypeSerializerCollection> collection;
+        final TypeSerializer<?> serializer;
+
+        CachedSerializer(final TypeSerializerCollection collection, final TypeSerializer<?> serializer) {
+            this.collection = new WeakReference<>(collection);
+            this.serializer = serializer;
+        }
+
+    }
+
 }
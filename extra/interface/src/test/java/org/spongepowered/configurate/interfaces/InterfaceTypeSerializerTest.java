@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationOptions;
 
 class InterfaceTypeSerializerTest {
 
@@ -51,4 +52,19 @@ class InterfaceTypeSerializerTest {
         assertInstanceOf(configImplementationFor(ConfigEmpty.ConfigEmptyInner.class), config);
     }
 
+    @Test
+    void testDeserializationAcrossCollections() throws ConfigurateException {
+        // each set of options has its own serializer collection
+        final BasicConfigurationNode first = BasicConfigurationNode.root(InterfaceDefaultOptions.defaults());
+        final BasicConfigurationNode second =
+            BasicConfigurationNode.root(InterfaceDefaultOptions.addTo(ConfigurationOptions.defaults(), builder -> {}));
+        first.node("hello").set("world");
+        second.node("hello").set("world");
+
+        for (int i = 0; i < 2; ++i) {
+            assertInstanceOf(configImplementationFor(ConfigEmpty.class), first.get(ConfigEmpty.class));
+            assertInstanceOf(configImplementationFor(ConfigEmpty.class), second.get(ConfigEmpty.class));
+        }
+    }
+
 }
@@ -19,11 +19,13 @@ package org.spongepowered.configurate.kotlin
 import io.leangen.geantyref.GenericTypeReflector
 import io.leangen.geantyref.GenericTypeReflector.erase
 import io.leangen.geantyref.TypeToken
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType
 import java.lang.reflect.AnnotatedElement
 import java.lang.reflect.AnnotatedType
 import kotlin.reflect.KAnnotatedElement
 import kotlin.reflect.KFunction
-import kotlin.reflect.KParameter
 import kotlin.reflect.KProperty
 import kotlin.reflect.KProperty1
 import kotlin.reflect.full.memberProperties
@@ -37,7 +39,9 @@ import org.spongepowered.configurate.kotlin.extensions.get
 import org.spongepowered.configurate.objectmapping.FieldDiscoverer
 import org.spongepowered.configurate.objectmapping.ObjectMapper
 import org.spongepowered.configurate.objectmapping.ObjectMapper.Factory
+import org.spongepowered.configurate.serialize.SerializationException
 import org.spongepowered.configurate.util.Types.combinedAnnotations
+import org.spongepowered.configurate.util.Types.defaultValue
 
 private val dataClassMapperFactory =
     ObjectMapper.factoryBuilder().addDiscoverer(DataClassFieldDiscoverer).build()
@@ -80,26 +84,34 @@ inline fun <reified T> T.toNode(target: ConfigurationNode) {
  *
  * See [KT-39369](https://youtrack.jetbrains.com/issue/KT-39369) for details.
  */
-private object DataClassFieldDiscoverer : FieldDiscoverer<MutableMap<KParameter, Any?>> {
+private object DataClassFieldDiscoverer : FieldDiscoverer<Array<Any?>> {
+    private val lookup = MethodHandles.lookup()
+
+    /** Marks a constructor parameter that has not been loaded. */
+    private val absent = Any()
+
     override fun <V> discover(
         target: AnnotatedType,
-        collector: FieldDiscoverer.FieldCollector<MutableMap<KParameter, Any?>, V>,
-    ): FieldDiscoverer.InstanceFactory<MutableMap<KParameter, Any?>>? {
+        collector: FieldDiscoverer.FieldCollector<Array<Any?>, V>,
+    ): FieldDiscoverer.InstanceFactory<Array<Any?>>? {
         val klass = erase(target.type).kotlin
         if (!klass.isData) {
             return null
         }
 
         val constructor = klass.primaryConstructor ?: return null
-        constructor.javaMethod
+        val javaConstructor = constructor.javaConstructor ?: return null
+        javaConstructor.isAccessible = true
 
-        val annotatedTypes = constructor.javaConstructor!!.annotatedParameterTypes
+        val annotatedTypes = javaConstructor.annotatedParameterTypes
         val properties = klass.memberProperties
-        constructor.parameters.asSequence().zip(annotatedTypes.asSequence()).forEach { (param, type)
-            ->
-            val resolvedType = GenericTypeReflector.resolveType(type, target)
+        val parameters = constructor.parameters
+        parameters.forEachIndexed { index, param ->
+            val resolvedType = GenericTypeReflector.resolveType(annotatedTypes[index], target)
             val field = properties.first { it.name == param.name }
 
+            val getter = field.getterHandle()
+
             @Suppress("UNCHECKED_CAST")
             collector.accept(
                 param.name,
@@ -112,28 +124,130 @@ private object DataClassFieldDiscoverer : FieldDiscoverer<MutableMap<KParameter,
                 // deserializer
                 { intermediate, arg, implicitProvider ->
                     if (arg != null) {
-                        intermediate[param] = arg
+                        intermediate[index] = arg
                     } else if (!param.isOptional) {
-                        intermediate[param] = implicitProvider.get()
+                        intermediate[index] = implicitProvider.get()
                     }
                 },
                 // serializer
-                { (field as KProperty1<V, *>).get(it) },
+                if (getter != null) {
+                    { getter.invoke(it) }
+                } else {
+                    { (field as KProperty1<V, *>).get(it) }
+                },
             )
         }
 
-        return object : FieldDiscoverer.InstanceFactory<MutableMap<KParameter, Any?>> {
-            override fun begin(): MutableMap<KParameter, Any?> {
-                return mutableMapOf()
+        val parameterTypes = javaConstructor.parameterTypes
+        val direct =
+            lookup
+                .unreflectConstructor(javaConstructor)
+                .asSpreader(Array<Any?>::class.java, parameters.size)
+                .asType(MethodType.methodType(Any::class.java, Array<Any?>::class.java))
+        val withDefaults = defaultsConstructor(klass.java, parameterTypes)
+
+        return object : FieldDiscoverer.InstanceFactory<Array<Any?>> {
+            override fun begin(): Array<Any?> {
+                return arrayOfNulls<Any?>(parameters.size).also { it.fill(absent) }
             }
 
-            override fun complete(intermediate: MutableMap<KParameter, Any?>): Any {
-                return constructor.callBy(intermediate)
+            override fun complete(intermediate: Array<Any?>): Any {
+                var masks: IntArray? = null
+                for (i in intermediate.indices) {
+                    if (intermediate[i] === absent) {
+                        val param = parameters[i]
+                        if (!param.isOptional) {
+                            throw SerializationException(
+                                target.type,
+                                "No value provided for required parameter ${param.name}",
+                            )
+                        }
+                        if (masks == null) {
+                            masks = IntArray(maskCount(parameters.size))
+                        }
+                        masks[i / Int.SIZE_BITS] = masks[i / Int.SIZE_BITS] or (1 shl i)
+                        // ignored by the constructor, but must still be of the right type
+                        intermediate[i] = defaultValue(parameterTypes[i])
+                    } else if (intermediate[i] == null && parameterTypes[i].isPrimitive) {
+                        // a required primitive with no value and no implicit initializer
+                        throw SerializationException(
+                            target.type,
+                            "No value provided for required parameter ${parameters[i].name}",
+                        )
+                    }
+                }
+
+                if (masks == null) {
+                    return direct.invoke(intermediate)
+                }
+
+                if (withDefaults == null) {
+                    // no synthetic constructor to call, let kotlin-reflect resolve the defaults
+                    return constructor.callBy(
+                        parameters
+                            .filter { masks[it.index / Int.SIZE_BITS] and (1 shl it.index) == 0 }
+                            .associateWith { intermediate[it.index] }
+                    )
+                }
+
+                // values, then the bitmasks of defaulted parameters, then the null marker
+                val args = intermediate.copyOf(parameters.size + masks.size + 1)
+                masks.forEachIndexed { i, mask -> args[parameters.size + i] = mask }
+                return withDefaults.invoke(args)
             }
 
             override fun canCreateInstances(): Boolean = true
         }
     }
+
+    /**
+     * Find the synthetic constructor the Kotlin compiler generates for classes with default
+     * parameter values.
+     *
+     * It takes the parameters of the primary constructor, followed by one `int` bitmask per 32
+     * parameters marking which parameters should take their default value, and finally a
+     * `DefaultConstructorMarker` that is always null.
+     */
+    private fun defaultsConstructor(
+        type: Class<*>,
+        parameterTypes: Array<Class<*>>,
+    ): MethodHandle? {
+        val expected =
+            parameterTypes.asList() +
+                List(maskCount(parameterTypes.size)) { Int::class.javaPrimitiveType!! }
+        val candidate =
+            type.declaredConstructors.firstOrNull { ctor ->
+                val types = ctor.parameterTypes
+                ctor.isSynthetic &&
+                    types.size == expected.size + 1 &&
+                    types.last().name == "kotlin.jvm.internal.DefaultConstructorMarker" &&
+                    types.asList().subList(0, expected.size) == expected
+            } ?: return null
+        candidate.isAccessible = true
+        return lookup
+            .unreflectConstructor(candidate)
+            .asSpreader(Array<Any?>::class.java, candidate.parameterCount)
+            .asType(MethodType.methodType(Any::class.java, Array<Any?>::class.java))
+    }
+
+    /** The number of `int` bitmasks needed to mark [parameterCount] defaulted parameters. */
+    private fun maskCount(parameterCount: Int): Int =
+        (parameterCount + Int.SIZE_BITS - 1) / Int.SIZE_BITS
+
+    /** Get a handle reading this property from an instance, as an `(Object)Object` function. */
+    private fun KProperty1<*, *>.getterHandle(): MethodHandle? {
+        val handle =
+            this.javaGetter?.let {
+                it.isAccessible = true
+                lookup.unreflect(it)
+            }
+                ?: this.javaField?.let {
+                    it.isAccessible = true
+                    lookup.unreflectGetter(it)
+                }
+                ?: return null
+        return handle.asType(MethodType.methodType(Any::class.java, Any::class.java))
+    }
 }
 
 // thanks kotlin :(
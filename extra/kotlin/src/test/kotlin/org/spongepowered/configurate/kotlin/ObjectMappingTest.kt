@@ -55,6 +55,35 @@ class ObjectMappingTest {
         assertEquals("i'm leaving", node.node("match").raw())
     }
 
+    data class DefaultsTest(
+        val name: String,
+        val count: Int = 5,
+        val enabled: Boolean = true,
+        val tags: List<String> = listOf("cat"),
+    )
+
+    @Test
+    fun `default values used for missing data class entries`() {
+        val source = node {
+            this.node("name").set("kitten")
+            this.node("enabled").set(false)
+        }
+        val deserialized = objectMapper<DefaultsTest>().load(source)
+
+        assertEquals(DefaultsTest("kitten", enabled = false), deserialized)
+    }
+
+    data class RequiredPrimitiveTest(val name: String, val count: Int)
+
+    @Test
+    fun `missing required primitive entries are rejected`() {
+        val source = node { this.node("name").set("kitten") }
+
+        assertThrows<SerializationException> {
+            objectMapper<RequiredPrimitiveTest>().load(source)
+        }
+    }
+
     data class AnnotatedTest(
         @Comment("sad") val name: String,
         @Matches("[A-Z]") val attributes: String,
@@ -32,6 +32,7 @@ import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.ConfigurationTreeBuilder;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
@@ -44,7 +45,6 @@ import org.spongepowered.configurate.util.UnmodifiableCollections;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Writer;
-import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -202,53 +202,55 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
 
         try (JsonReader parser = new JsonReader(reader)) {
             parser.setLenient(this.lenient);
-            this.parseValue(parser, node);
+            // a repeated key merges into the earlier value, as writing through node() would
+            this.parseValue(parser, ConfigurationTreeBuilder.into(node).mergeRepeatedKeys(true));
         } catch (final IOException ex) {
             throw ParsingException.wrap(node, ex);
         }
     }
 
-    private void parseValue(final JsonReader parser, final BasicConfigurationNode node) throws ParsingException {
+    private void parseValue(final JsonReader parser, final ConfigurationTreeBuilder<BasicConfigurationNode> builder) throws ParsingException {
         final JsonToken token;
         try {
             token = parser.peek();
         } catch (final IOException ex) {
-            throw this.newException(parser, node, ex.getMessage(), ex);
+            throw this.newException(parser, builder.current(), ex.getMessage(), ex);
         }
 
         try {
             switch (token) {
                 case BEGIN_OBJECT:
-                    this.parseObject(parser, node);
+                    this.parseObject(parser, builder);
                     break;
                 case BEGIN_ARRAY:
-                    this.parseArray(parser, node);
+                    this.parseArray(parser, builder);
                     break;
                 case NUMBER:
-                    node.raw(this.readNumber(parser));
+                    this.readNumber(parser, builder);
                     break;
                 case STRING:
-                    node.raw(parser.nextString());
+                    builder.scalar(parser.nextString());
                     break;
                 case BOOLEAN:
-                    node.raw(parser.nextBoolean());
+                    builder.scalarBoolean(parser.nextBoolean());
                     break;
                 case NULL: // Ignored values
                     parser.nextNull();
-                    node.raw(null);
+                    builder.nullValue();
                     break;
                 case NAME:
                     break;
                 default:
-                    throw this.newException(parser, node, "Unsupported token type: " + token, null);
+                    throw this.newException(parser, builder.current(), "Unsupported token type: " + token, null);
             }
         } catch (final JsonParseException | MalformedJsonException ex) {
-            throw this.newException(parser, node, ex.getMessage(), ex.getCause());
+            throw this.newException(parser, builder.current(), ex.getMessage(), ex.getCause());
         } catch (final ParsingException ex) {
+            final ConfigurationNode node = builder.current();
             ex.initPath(node::path);
             throw ex;
         } catch (final IOException ex) {
-            throw this.newException(parser, node, "An underlying exception occurred", ex);
+            throw this.newException(parser, builder.current(), "An underlying exception occurred", ex);
         }
     }
 
@@ -257,58 +259,54 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
         return new ParsingException(node, JsonReaderAccess.lineNumber(reader), JsonReaderAccess.column(reader), null, message, cause);
     }
 
-    private Number readNumber(final JsonReader reader) throws IOException {
+    private void readNumber(final JsonReader reader, final ConfigurationTreeBuilder<?> builder) throws IOException {
         final String number = reader.nextString();
         if (number.contains(".")) {
-            return Double.parseDouble(number);
+            builder.scalarDouble(Double.parseDouble(number));
+            return;
         }
         final long nextLong = Long.parseLong(number);
         final int nextInt = (int) nextLong;
         if (nextInt == nextLong) {
-            return nextInt;
+            builder.scalarInt(nextInt);
+        } else {
+            builder.scalarLong(nextLong);
         }
-        return nextLong;
     }
 
-    private void parseArray(final JsonReader parser, final BasicConfigurationNode node) throws IOException {
+    private void parseArray(final JsonReader parser, final ConfigurationTreeBuilder<BasicConfigurationNode> builder) throws IOException {
         parser.beginArray();
+        builder.beginList();
 
-        boolean written = false;
         @Nullable JsonToken token;
         while ((token = parser.peek()) != null) {
             if (token == JsonToken.END_ARRAY) {
                 parser.endArray();
-                // ensure the type is preserved
-                if (!written) {
-                    node.raw(Collections.emptyList());
-                }
+                builder.end();
                 return;
             } else {
-                this.parseValue(parser, node.appendListNode());
-                written = true;
+                this.parseValue(parser, builder);
             }
         }
-        throw this.newException(parser, node, "Reached end of stream with unclosed array!", null);
+        throw this.newException(parser, builder.current(), "Reached end of stream with unclosed array!", null);
     }
 
-    private void parseObject(final JsonReader parser, final BasicConfigurationNode node) throws ParsingException, IOException {
+    private void parseObject(final JsonReader parser, final ConfigurationTreeBuilder<BasicConfigurationNode> builder)
+            throws ParsingException, IOException {
         parser.beginObject();
+        builder.beginMap();
 
-        boolean written = false;
         @Nullable JsonToken token;
         while ((token = parser.peek()) != null) {
             switch (token) {
                 case END_OBJECT:
                 case END_DOCUMENT:
                     parser.endObject();
-                    // ensure the type is preserved
-                    if (!written) {
-                        node.raw(Collections.emptyMap());
-                    }
+                    builder.end();
                     return;
                 case NAME:
-                    this.parseValue(parser, node.node(parser.nextName()));
-                    written = true;
+                    builder.key(parser.nextName());
+                    this.parseValue(parser, builder);
                     break;
                 default:
                     throw new JsonParseException("Received improper object value " + token);
@@ -30,6 +30,7 @@ import org.spongepowered.configurate.serialize.TypeSerializer;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -108,11 +109,9 @@ final class JsonElementSerializer implements TypeSerializer<JsonElement> {
     }
 
     private void serializeArray(final JsonArray array, final ConfigurationNode target) throws SerializationException {
-        target.set(Collections.emptyList());
         // TODO: Attempt to preserve comments/attributes
-        for (final JsonElement child : array) {
-            target.appendListNode().set(JsonElement.class, child);
-        }
+        final Iterator<JsonElement> elements = array.iterator();
+        target.setList(array.size(), child -> child.set(JsonElement.class, elements.next()));
     }
 
     private void serializeObject(final JsonObject object, final ConfigurationNode target) throws SerializationException {
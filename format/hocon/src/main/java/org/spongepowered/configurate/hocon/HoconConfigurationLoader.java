@@ -33,6 +33,7 @@ import org.spongepowered.configurate.CommentedConfigurationNodeIntermediary;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.ConfigurationTreeBuilder;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
@@ -46,7 +47,6 @@ import java.io.Writer;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -209,14 +209,20 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
             throw new ParsingException(node, ex.origin().lineNumber(), 0, ex.origin().description(), null, ex);
         }
 
-        for (Map.Entry<String, ConfigValue> ent : hoconConfig.root().entrySet()) {
-            readConfigValue(ent.getValue(), node.node(ent.getKey()));
+        // an empty document leaves the node empty, rather than making it a map
+        if (!hoconConfig.root().isEmpty()) {
+            final ConfigurationTreeBuilder<CommentedConfigurationNode> builder = ConfigurationTreeBuilder.into(node);
+            builder.beginMap();
+            for (Map.Entry<String, ConfigValue> ent : hoconConfig.root().entrySet()) {
+                readConfigValue(ent.getValue(), builder.key(ent.getKey()));
+            }
+            builder.end();
         }
     }
 
-    private static void readConfigValue(final ConfigValue value, final CommentedConfigurationNode node) {
+    private static void readConfigValue(final ConfigValue value, final ConfigurationTreeBuilder<CommentedConfigurationNode> builder) {
         if (!value.origin().comments().isEmpty()) {
-            node.comment(value.origin().comments().stream()
+            builder.current().comment(value.origin().comments().stream()
                 .map(input -> {
                     final String lineStripped = input.commentText().replace("\r", "");
                     if (!lineStripped.isEmpty() && lineStripped.charAt(0) == ' ') {
@@ -230,29 +236,25 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
 
         switch (value.valueType()) {
             case OBJECT:
-                final ConfigObject object = (ConfigObject) value;
-                if (object.isEmpty()) {
-                    node.raw(Collections.emptyMap());
-                } else {
-                    for (Map.Entry<String, ConfigValue> ent : object.entrySet()) {
-                        readConfigValue(ent.getValue(), node.node(ent.getKey()));
-                    }
+                builder.beginMap();
+                for (Map.Entry<String, ConfigValue> ent : ((ConfigObject) value).entrySet()) {
+                    readConfigValue(ent.getValue(), builder.key(ent.getKey()));
                 }
+                builder.end();
                 break;
             case LIST:
                 final ConfigList list = (ConfigList) value;
-                if (list.isEmpty()) {
-                    node.raw(Collections.emptyList());
-                } else {
-                    for (int i = 0; i < list.size(); ++i) {
-                        readConfigValue(list.get(i), node.node(i));
-                    }
+                builder.beginList(list.size());
+                for (int i = 0; i < list.size(); ++i) {
+                    readConfigValue(list.get(i), builder.element());
                 }
+                builder.end();
                 break;
             case NULL:
-                return;
+                builder.nullValue();
+                break;
             default:
-                node.raw(value.unwrapped());
+                builder.scalar(value.unwrapped());
                 break;
         }
     }
@@ -19,6 +19,7 @@ package org.spongepowered.configurate.hocon;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
@@ -47,6 +48,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -265,6 +267,33 @@ class HoconConfigurationLoaderTest {
         assertEquals(expectedOut, out);
     }
 
+    @Test
+    void testRepeatedKeys() throws ConfigurateException {
+        final HoconConfigurationLoader loader = HoconConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader("map { a = 1 }\nlist = [1]\nmap { b = 2 }\nlist = [2]\nmap.c = 3")))
+                .build();
+
+        final CommentedConfigurationNode node = loader.load();
+        // objects are merged, and other values are replaced
+        assertEquals(ImmutableMap.of("a", 1, "b", 2, "c", 3), node.node("map").raw());
+        assertEquals(Collections.singletonList(2), node.node("list").raw());
+    }
+
+    @Test
+    void testEmptyCollections() throws ConfigurateException {
+        final HoconConfigurationLoader loader = HoconConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader("map {}\nlist = []\nnested = [[], {}]")))
+                .build();
+
+        final CommentedConfigurationNode node = loader.load();
+        assertTrue(node.node("map").isMap());
+        assertTrue(node.node("map").empty());
+        assertTrue(node.node("list").isList());
+        assertTrue(node.node("list").empty());
+        assertTrue(node.node("nested", 0).isList());
+        assertTrue(node.node("nested", 1).isMap());
+    }
+
     private URL requireResource(final String path) {
         final @Nullable URL resource = this.getClass().getResource('/' + path);
         assertNotNull(resource, () -> "Resource " + path + " was not present when expected to be!");
@@ -44,6 +44,10 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Basic sanity checks for the loader.
@@ -129,4 +133,40 @@ class JacksonConfigurationLoaderTest {
         assertTrue(ex.rawMessage().contains("Unexpected end-of-input"));
     }
 
+    @Test
+    void testRepeatedKeysMerged() throws ConfigurateException {
+        final JacksonConfigurationLoader loader = JacksonConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader("{"
+                        + "\"map\": {\"a\": {\"x\": 1}}, \"list\": [1], \"emptied\": {\"a\": 1}, \"scalar\": {\"a\": 1},"
+                        + "\"map\": {\"a\": {\"y\": 2}, \"b\": 3}, \"list\": [2, 3], \"emptied\": {}, \"scalar\": 4"
+                        + "}")))
+                .build();
+
+        final BasicConfigurationNode node = loader.load();
+        final Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put("x", 1);
+        expected.put("y", 2);
+        assertEquals(expected, node.node("map", "a").raw());
+        assertEquals(3, node.node("map", "b").raw());
+        assertEquals(Arrays.asList(1, 2, 3), node.node("list").raw());
+        assertEquals(Collections.emptyMap(), node.node("emptied").raw());
+        assertTrue(node.node("emptied").isMap());
+        assertEquals(4, node.node("scalar").raw());
+    }
+
+    @Test
+    void testEmptyCollections() throws ConfigurateException {
+        final JacksonConfigurationLoader loader = JacksonConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader("{\"map\": {}, \"list\": [], \"nested\": [[], {}]}")))
+                .build();
+
+        final BasicConfigurationNode node = loader.load();
+        assertTrue(node.node("map").isMap());
+        assertTrue(node.node("map").empty());
+        assertTrue(node.node("list").isList());
+        assertTrue(node.node("list").empty());
+        assertTrue(node.node("nested", 0).isList());
+        assertTrue(node.node("nested", 1).isMap());
+    }
+
 }
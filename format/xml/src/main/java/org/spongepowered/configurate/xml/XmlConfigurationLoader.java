@@ -23,6 +23,7 @@ import org.spongepowered.configurate.CommentedConfigurationNodeIntermediary;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.ConfigurationTreeBuilder;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
@@ -399,7 +400,7 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
                     options = options.header(this.unwrapHeader(child.getTextContent().trim()));
                 } else if (child.getNodeType() == Node.ELEMENT_NODE) {
                     final AttributedConfigurationNode node = this.createNode(options);
-                    this.readElement(child, node);
+                    this.readElement(child, ConfigurationTreeBuilder.into(node));
                     return node;
                 }
             }
@@ -449,7 +450,8 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         MAP, LIST
     }
 
-    private void readElement(final Node from, final AttributedConfigurationNode to) {
+    private void readElement(final Node from, final ConfigurationTreeBuilder<AttributedConfigurationNode> builder) {
+        final AttributedConfigurationNode to = builder.current();
         @Nullable NodeType type = null;
 
         // copy the name of the tag
@@ -486,6 +488,7 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
 
         // read out the child nodes into a multimap
         final Map<String, Collection<Node>> children = new LinkedHashMap<>();
+        int elementCount = 0;
         if (from.hasChildNodes()) {
             final StringBuilder comment = new StringBuilder();
             final NodeList childNodes = from.getChildNodes();
@@ -493,6 +496,7 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
                 final Node child = childNodes.item(i);
                 if (child.getNodeType() == Node.ELEMENT_NODE) {
                     children.computeIfAbsent(child.getNodeName(), $ -> new ArrayList<>()).add(child);
+                    elementCount++;
                     if (comment.length() > 0) {
                         child.setUserData(USER_DATA_COMMENT, comment.toString(), null);
                         comment.setLength(0);
@@ -509,7 +513,7 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
 
         // if there are no child nodes present, assume it's a scalar value
         if (children.isEmpty()) {
-            to.raw(parseValue(from.getTextContent()));
+            builder.scalar(parseValue(from.getTextContent()));
             return;
         }
 
@@ -526,25 +530,21 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
             }
         }
 
+        // read out the elements
         if (type == NodeType.MAP) {
-            to.raw(Collections.emptyMap());
+            builder.beginMap();
+            for (final Map.Entry<String, Collection<Node>> entry : children.entrySet()) {
+                this.readElement(entry.getValue().iterator().next(), builder.key(entry.getKey()));
+            }
         } else {
-            to.raw(Collections.emptyList());
-        }
-
-        // read out the elements
-        for (final Map.Entry<String, Collection<Node>> entry : children.entrySet()) {
-            AttributedConfigurationNode child;
-            if (type == NodeType.MAP) {
-                child = to.node(entry.getKey());
-                this.readElement(entry.getValue().iterator().next(), child);
-            } else {
-                for (final Node element : entry.getValue()) {
-                    child = to.appendListNode();
-                    this.readElement(element, child);
+            builder.beginList(elementCount);
+            for (final Collection<Node> elements : children.values()) {
+                for (final Node element : elements) {
+                    this.readElement(element, builder.element());
                 }
             }
         }
+        builder.end();
     }
 
     @Override
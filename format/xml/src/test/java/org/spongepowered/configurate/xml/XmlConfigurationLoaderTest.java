@@ -31,9 +31,12 @@ import org.spongepowered.configurate.loader.AtomicFiles;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -161,4 +164,36 @@ class XmlConfigurationLoaderTest {
         assertEquals(Resources.readLines(original, UTF_8), Files.readAllLines(destination, UTF_8));
     }
 
+    @Test
+    void testRepeatedElements() throws ConfigurateException {
+        final AttributedConfigurationNode node = XmlConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader("<root>"
+                        + "<list><a>1</a><a>2</a><b>3</b></list>"
+                        + "<map configurate-type=\"map\"><a>1</a><a>2</a><b>3</b></map>"
+                        + "</root>")))
+                .build()
+                .load();
+
+        // repeated elements make a list, unless a map is requested, where the first element is used
+        assertEquals(Arrays.asList(1, 2, 3), node.node("list").raw());
+        final Map<Object, Object> expected = new LinkedHashMap<>();
+        expected.put("a", 1);
+        expected.put("b", 3);
+        assertEquals(expected, node.node("map").raw());
+    }
+
+    @Test
+    void testEmptyElements() throws ConfigurateException {
+        final AttributedConfigurationNode node = XmlConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader(
+                        "<root><map configurate-type=\"map\"/><list configurate-type=\"list\"></list></root>")))
+                .build()
+                .load();
+
+        // an element without children is read as a scalar, whatever its type
+        assertTrue(node.isMap());
+        assertEquals("", node.node("map").raw());
+        assertEquals("", node.node("list").raw());
+    }
+
 }
@@ -20,6 +20,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.ConfigurationTreeBuilder;
 import org.spongepowered.configurate.RepresentationHint;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
@@ -29,6 +30,7 @@ import org.spongepowered.configurate.util.UnmodifiableCollections;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.nodes.Node;
 
 import java.io.BufferedReader;
 import java.io.Writer;
@@ -259,25 +261,20 @@ public final class YamlConfigurationLoader extends AbstractConfigurationLoader<C
         opts.setWidth(builder.lineLength());
         opts.setIndicatorIndent(builder.indent());
         opts.setIndentWithIndicator(true);
-        // the constructor needs ConfigurationOptions, which is only available when called (loadInternal)
         this.constructor = ThreadLocal.withInitial(() -> new YamlConstructor(loaderOpts));
         this.yaml = ThreadLocal.withInitial(() -> new Yaml(this.constructor.get(), new YamlRepresenter(true, opts), opts, loaderOpts));
     }
 
     @Override
     protected void loadInternal(final CommentedConfigurationNode node, final BufferedReader reader) {
-        // the constructor needs ConfigurationOptions for the to be created nodes
-        // and since it's a thread-local, this won't cause any issues
-        this.constructor.get().options = node.options();
-
-        @Nullable CommentedConfigurationNode loaded = this.yaml.get().load(reader);
-        // when a file exists but is empty (or if the file only exists of comments), the first event will be StreamEnd.
-        // getSingleNode will return null, getSingleData uses the Constructor of Tag Null, which just returns null.
-        // So we have to map null to an empty root node.
-        if (loaded == null) {
-            loaded = CommentedConfigurationNode.root(node.options());
+        // when a file exists but is empty (or if the file only exists of comments), the first event will be StreamEnd,
+        // so no node is composed and the node is left empty.
+        final @Nullable Node document = this.yaml.get().compose(reader);
+        if (document != null) {
+            final ConfigurationTreeBuilder<CommentedConfigurationNode> builder = ConfigurationTreeBuilder.into(node);
+            this.constructor.get().construct(document, builder);
+            builder.build();
         }
-        node.from(loaded);
     }
 
     @Override
@@ -16,15 +16,14 @@
  */
 package org.spongepowered.configurate.yaml;
 
-import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.CommentedConfigurationNode;
-import org.spongepowered.configurate.ConfigurationNode;
-import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.ConfigurationTreeBuilder;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.comments.CommentLine;
 import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.error.YAMLException;
 import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.nodes.NodeId;
@@ -33,86 +32,176 @@ import org.yaml.snakeyaml.nodes.ScalarNode;
 import org.yaml.snakeyaml.nodes.SequenceNode;
 import org.yaml.snakeyaml.nodes.Tag;
 
-import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 class YamlConstructor extends Constructor {
 
     private static final Pattern LINE_BREAK_PATTERN = Pattern.compile("\\R");
 
-    @Nullable ConfigurationOptions options;
+    /**
+     * Nodes currently being constructed, to detect recursive aliases.
+     */
+    private final Set<Node> constructing = Collections.newSetFromMap(new IdentityHashMap<>());
 
     YamlConstructor(final LoaderOptions loadingConfig) {
         super(loadingConfig);
     }
 
-    @Override
-    @EnsuresNonNull("options")
-    public Object getSingleData(final Class<?> type) {
-        if (this.options == null) {
-            throw new IllegalStateException("options must be set before calling load!");
-        }
-        return super.getSingleData(type);
+    /**
+     * Construct a composed document into the current slot of a builder.
+     *
+     * @param yamlNode the document's root node
+     * @param builder the builder to write to
+     */
+    void construct(final Node yamlNode, final ConfigurationTreeBuilder<CommentedConfigurationNode> builder) {
+        this.construct(yamlNode, builder, yamlNode.getBlockComments());
     }
 
-    @Override
-    protected Object constructObjectNoCheck(final Node yamlNode) {
-        //noinspection DataFlowIssue guarenteed NonNull by getSingleData, which load(Reader) uses
-        final CommentedConfigurationNode node = CommentedConfigurationNode.root(this.options);
-
+    private void construct(
+        final Node yamlNode,
+        final ConfigurationTreeBuilder<CommentedConfigurationNode> builder,
+        final @Nullable List<CommentLine> comments
+    ) {
         // alright, let's first check some interesting behaviour.
         // When you have a file with only empty lines (has to be at least two),
         // a Tag of the type COMMENT will be executed.
         // It'll have a blockComment of the type empty line.
         // This is unlike the behaviour of an empty file and a file with only comments,
-        // because both won't be seen as an object and will instead return null by Yaml#load.
-        // Let's filter out the multi-empty-lines behaviour and return an empty node instead.
+        // because both won't be seen as an object and will instead not produce a node.
+        // Let's filter out the multi-empty-lines behaviour and produce an empty node instead.
         if (yamlNode.getTag() == Tag.COMMENT) {
-            return node;
+            builder.nullValue();
+            return;
         }
 
-        if (yamlNode.getNodeId() == NodeId.mapping) {
-            // make sure to mark it as a map type, even if the map itself is empty
-            node.raw(Collections.emptyMap());
-            final MappingNode mapping = (MappingNode) yamlNode;
-            if (mapping.getFlowStyle() != null) {
-                node.hint(YamlConfigurationLoader.NODE_STYLE, NodeStyle.fromSnakeYaml(mapping.getFlowStyle()));
+        if (!this.constructing.add(yamlNode)) {
+            throw new YAMLException("Found unconstructable recursive node" + yamlNode.getStartMark());
+        }
+        try {
+            final CommentedConfigurationNode node = builder.current();
+            final @Nullable String comment = commentFor(comments);
+            if (comment != null) {
+                node.comment(comment);
             }
 
-            for (final NodeTuple tuple : mapping.getValue()) {
-                final ConfigurationNode keyNode = (ConfigurationNode) this.constructObject(tuple.getKeyNode());
-                final Node valueNode = tuple.getValueNode();
-
-                // comments are on the key, not the value
-                node.node(keyNode.raw())
-                    .from((ConfigurationNode) constructObject(valueNode))
-                    .comment(commentFor(tuple.getKeyNode().getBlockComments()));
+            if (yamlNode.getNodeId() == NodeId.mapping) {
+                final MappingNode mapping = (MappingNode) yamlNode;
+                if (mapping.getFlowStyle() != null) {
+                    node.hint(YamlConfigurationLoader.NODE_STYLE, NodeStyle.fromSnakeYaml(mapping.getFlowStyle()));
+                }
+
+                builder.beginMap();
+                this.constructEntries(mapping, builder, node);
+                builder.end();
+            } else if (yamlNode.getNodeId() == NodeId.sequence) {
+                final SequenceNode sequence = (SequenceNode) yamlNode;
+                if (sequence.getFlowStyle() != null) {
+                    node.hint(YamlConfigurationLoader.NODE_STYLE, NodeStyle.fromSnakeYaml(sequence.getFlowStyle()));
+                }
+
+                builder.beginList(sequence.getValue().size());
+                for (final Node element : sequence.getValue()) {
+                    builder.element();
+                    this.construct(element, builder, element.getBlockComments());
+                }
+                builder.end();
+            } else {
+                if (yamlNode instanceof ScalarNode) {
+                    node.hint(YamlConfigurationLoader.SCALAR_STYLE, ScalarStyle.fromSnakeYaml(((ScalarNode) yamlNode).getScalarStyle()));
+                }
+                builder.scalar(this.getConstructor(yamlNode).construct(yamlNode));
             }
-
-            return node.comment(commentFor(yamlNode.getBlockComments()));
+        } finally {
+            this.constructing.remove(yamlNode);
         }
+    }
 
-        final Object raw = super.constructObjectNoCheck(yamlNode);
-        if (raw instanceof Collection<?>) {
-            // make sure to mark it as a list type, even if the collection itself is empty
-            node.raw(Collections.emptyList());
-            if (((SequenceNode) yamlNode).getFlowStyle() != null) {
-                node.hint(YamlConfigurationLoader.NODE_STYLE, NodeStyle.fromSnakeYaml(((SequenceNode) yamlNode).getFlowStyle()));
+    /**
+     * Construct the entries of a mapping into the currently open map.
+     *
+     * <p>Entries merged in with a {@code <<} key are written first, so that
+     * the mapping's own entries replace them.</p>
+     *
+     * @param mapping the mapping
+     * @param builder the builder to write to
+     * @param parent the node holding the mapping
+     */
+    private void constructEntries(
+        final MappingNode mapping,
+        final ConfigurationTreeBuilder<CommentedConfigurationNode> builder,
+        final CommentedConfigurationNode parent
+    ) {
+        for (final NodeTuple tuple : mapping.getValue()) {
+            if (tuple.getKeyNode().getTag().equals(Tag.MERGE)) {
+                this.constructMerge(tuple.getValueNode(), builder, parent);
             }
+        }
 
-            for (final Object value : (Collection<?>) raw) {
-                node.appendListNode().from((ConfigurationNode) value);
+        for (final NodeTuple tuple : mapping.getValue()) {
+            if (!tuple.getKeyNode().getTag().equals(Tag.MERGE)) {
+                builder.key(this.constructKey(tuple.getKeyNode(), parent));
+                // comments are on the key, not the value
+                this.construct(tuple.getValueNode(), builder, tuple.getKeyNode().getBlockComments());
             }
-        } else {
-            if (yamlNode instanceof ScalarNode) {
-                node.hint(YamlConfigurationLoader.SCALAR_STYLE, ScalarStyle.fromSnakeYaml(((ScalarNode) yamlNode).getScalarStyle()));
+        }
+    }
+
+    /**
+     * Construct the value of a merge key into the currently open map.
+     *
+     * <p>When a list of mappings is merged, entries from earlier mappings
+     * take precedence, so the list is written in reverse.</p>
+     *
+     * @param source the mapping or list of mappings to merge
+     * @param builder the builder to write to
+     * @param parent the node holding the mapping being merged into
+     */
+    private void constructMerge(
+        final Node source,
+        final ConfigurationTreeBuilder<CommentedConfigurationNode> builder,
+        final CommentedConfigurationNode parent
+    ) {
+        if (!this.constructing.add(source)) {
+            throw new YAMLException("Found unconstructable recursive node" + source.getStartMark());
+        }
+        try {
+            if (source instanceof MappingNode) {
+                this.constructEntries((MappingNode) source, builder, parent);
+            } else if (source instanceof SequenceNode) {
+                final List<Node> sources = ((SequenceNode) source).getValue();
+                for (int i = sources.size() - 1; i >= 0; i--) {
+                    this.constructMerge(sources.get(i), builder, parent);
+                }
+            } else {
+                throw new YAMLException("Expected a mapping or list of mappings for merging, but found "
+                    + source.getNodeId() + source.getStartMark());
             }
-            node.raw(raw);
+        } finally {
+            this.constructing.remove(source);
+        }
+    }
+
+    /**
+     * Construct the key of a mapping entry.
+     *
+     * @param keyNode the key's node
+     * @param parent the node holding the mapping, for its options
+     * @return the key
+     */
+    private Object constructKey(final Node keyNode, final CommentedConfigurationNode parent) {
+        if (keyNode instanceof ScalarNode) {
+            return this.getConstructor(keyNode).construct(keyNode);
         }
 
-        return node.comment(commentFor(yamlNode.getBlockComments()));
+        // complex keys are unwrapped from a temporary tree
+        final ConfigurationTreeBuilder<CommentedConfigurationNode> keyBuilder =
+            ConfigurationTreeBuilder.into(CommentedConfigurationNode.root(parent.options()));
+        this.construct(keyNode, keyBuilder, null);
+        return keyBuilder.build().raw();
     }
 
     private static @Nullable String commentFor(final @Nullable List<CommentLine> commentLines) {
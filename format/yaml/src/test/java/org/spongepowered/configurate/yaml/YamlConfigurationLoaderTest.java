@@ -17,6 +17,8 @@
 package org.spongepowered.configurate.yaml;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.leangen.geantyref.TypeToken;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -31,6 +33,7 @@ import org.spongepowered.configurate.loader.ConfigurationLoader;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -39,6 +42,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -235,6 +239,87 @@ class YamlConfigurationLoaderTest {
         assertEquals("cat", node.node("mapping", Collections.singletonMap("name", "Meow")).getString());
     }
 
+    @Test
+    void testRepeatedKeysReplace() throws ConfigurateException {
+        final ConfigurationNode node = load("map: {a: 1}\nlist: [1]\nmap: {b: 2}\nlist: [2]");
+
+        assertEquals(Collections.singletonMap("b", 2), node.node("map").raw());
+        assertEquals(Collections.singletonList(2), node.node("list").raw());
+    }
+
+    @Test
+    void testEmptyCollections() throws ConfigurateException {
+        final ConfigurationNode node = load("map: {}\nlist: []\nnested: [[], {}]");
+
+        assertTrue(node.node("map").isMap());
+        assertTrue(node.node("map").empty());
+        assertTrue(node.node("list").isList());
+        assertTrue(node.node("list").empty());
+        assertTrue(node.node("nested", 0).isList());
+        assertTrue(node.node("nested", 1).isMap());
+    }
+
+    @Test
+    void testAliases() throws ConfigurateException {
+        final ConfigurationNode node = load("map: &map {a: 1}\nlist: &list [1, 2]\ncopies: [*map, *list]");
+
+        assertEquals(Collections.singletonMap("a", 1), node.node("copies", 0).raw());
+        assertEquals(Arrays.asList(1, 2), node.node("copies", 1).raw());
+
+        // each alias is read into its own nodes
+        node.node("copies", 0, "a").raw(5);
+        assertEquals(1, node.node("map", "a").raw());
+    }
+
+    @Test
+    void testRecursiveAliasesRejected() {
+        assertThrows(ConfigurateException.class, () -> load("map: &map\n  self: *map"));
+        assertThrows(ConfigurateException.class, () -> load("list: &list [*list]"));
+        assertThrows(ConfigurateException.class, () -> load("map: &map\n  <<: *map"));
+    }
+
+    @Test
+    void testMergeKeys() throws ConfigurateException {
+        final ConfigurationNode node = load("base: &base {a: 1, b: 2}\n"
+            + "other: &other {b: 3, c: 4}\n"
+            + "single:\n  b: 5\n  <<: *base\n"
+            + "multiple:\n  <<: [*base, *other]\n  d: 6");
+
+        final Map<Object, Object> single = new HashMap<>();
+        single.put("a", 1);
+        single.put("b", 5);
+        assertEquals(single, node.node("single").raw());
+
+        // earlier mappings take precedence
+        final Map<Object, Object> multiple = new HashMap<>();
+        multiple.put("a", 1);
+        multiple.put("b", 2);
+        multiple.put("c", 4);
+        multiple.put("d", 6);
+        assertEquals(multiple, node.node("multiple").raw());
+    }
+
+    @Test
+    void testTaggedCollections() throws ConfigurateException {
+        final ConfigurationNode node = load("set: !!set {a, b}\n"
+            + "omap: !!omap [a: 1, b: 2]\n"
+            + "pairs: !!pairs [a: 1, a: 2]");
+
+        // a set is a mapping with null values, which are removed like any other null value
+        assertTrue(node.node("set").isMap());
+        assertTrue(node.node("set").empty());
+        // ordered maps and pairs are sequences of single-entry mappings
+        assertEquals(Arrays.asList(Collections.singletonMap("a", 1), Collections.singletonMap("b", 2)), node.node("omap").raw());
+        assertEquals(Arrays.asList(Collections.singletonMap("a", 1), Collections.singletonMap("a", 2)), node.node("pairs").raw());
+    }
+
+    private static CommentedConfigurationNode load(final String yaml) throws ConfigurateException {
+        return YamlConfigurationLoader.builder()
+            .source(() -> new BufferedReader(new StringReader(yaml)))
+            .build()
+            .load();
+    }
+
     private URL resource(final String path) {
         final @Nullable URL res = this.getClass().getResource(path);
         if (res == null) {